@@ -0,0 +1,101 @@
+#!/usr/bin/env python3
+"""
+테스트용 초소형 ONNX 디텍터 생성 (의존성 없이 protobuf를 직접 인코딩)
+
+입력  images [N, 3, 64, 64] float (0~1, RGB)
+출력  output [N, 7, 1]      YOLOv8 형식 (cx, cy, w, h, score_r, score_g, score_b)
+
+박스는 항상 이미지 중앙의 32x32, 클래스 점수는 채널별 평균 밝기.
+  python3 scripts/make_tiny_detector.py src/test/resources/models/tiny-detector.onnx
+"""
+import struct
+import sys
+
+
+def varint(n):
+    out = bytearray()
+    n &= (1 << 64) - 1
+    while True:
+        b = n & 0x7F
+        n >>= 7
+        if n:
+            out.append(b | 0x80)
+        else:
+            out.append(b)
+            return bytes(out)
+
+
+def key(field, wire):
+    return varint((field << 3) | wire)
+
+
+def f_int(field, v):
+    return key(field, 0) + varint(v)
+
+
+def f_bytes(field, b):
+    if isinstance(b, str):
+        b = b.encode()
+    return key(field, 2) + varint(len(b)) + b
+
+
+def f_float(field, v):
+    return key(field, 5) + struct.pack('<f', v)
+
+
+def tensor(name, dims, data_type, raw):
+    body = b''.join(f_int(1, d) for d in dims) + f_int(2, data_type) + f_bytes(8, name) + f_bytes(9, raw)
+    return body
+
+
+def attr_int(name, v):
+    return f_bytes(1, name) + f_int(3, v) + f_int(20, 2)
+
+
+def attr_ints(name, vs):
+    return f_bytes(1, name) + b''.join(f_int(8, v) for v in vs) + f_int(20, 7)
+
+
+def node(op, inputs, outputs, attrs=()):
+    body = b''.join(f_bytes(1, i) for i in inputs) + b''.join(f_bytes(2, o) for o in outputs)
+    body += f_bytes(3, outputs[0] + '_' + op) + f_bytes(4, op)
+    body += b''.join(f_bytes(5, a) for a in attrs)
+    return body
+
+
+def value_info(name, dims):
+    shape = b''
+    for d in dims:
+        dim = f_bytes(2, d) if isinstance(d, str) else f_int(1, d)
+        shape += f_bytes(1, dim)
+    tensor_type = f_int(1, 1) + f_bytes(2, shape)
+    return f_bytes(1, name) + f_bytes(2, f_bytes(1, tensor_type))
+
+
+FLOAT, INT64 = 1, 7
+
+initializers = [
+    tensor('reshape_shape', [3], INT64, struct.pack('<3q', 0, 3, 1)),
+    tensor('zero', [1, 1, 1], FLOAT, struct.pack('<f', 0.0)),
+    tensor('box', [1, 4, 1], FLOAT, struct.pack('<4f', 32.0, 32.0, 32.0, 32.0)),
+]
+
+nodes = [
+    node('GlobalAveragePool', ['images'], ['gap']),
+    node('Reshape', ['gap', 'reshape_shape'], ['scores']),
+    node('ReduceMean', ['scores'], ['mean'], [attr_ints('axes', [1]), attr_int('keepdims', 1)]),
+    node('Mul', ['mean', 'zero'], ['zeros']),
+    node('Add', ['zeros', 'box'], ['boxes']),
+    node('Concat', ['boxes', 'scores'], ['output'], [attr_int('axis', 1)]),
+]
+
+graph = b''.join(f_bytes(1, n) for n in nodes)
+graph += f_bytes(2, 'tiny_detector')
+graph += b''.join(f_bytes(5, t) for t in initializers)
+graph += f_bytes(11, value_info('images', ['batch', 3, 64, 64]))
+graph += f_bytes(12, value_info('output', ['batch', 7, 1]))
+
+model = f_int(1, 7) + f_bytes(2, 'flowmind') + f_bytes(7, graph) + f_bytes(8, f_bytes(1, '') + f_int(2, 13))
+
+with open(sys.argv[1], 'wb') as fp:
+    fp.write(model)
@@ -0,0 +1,108 @@
+#!/usr/bin/env bash
+# 기동 시간 / 첫 요청 지연 비교
+#   baseline      : 기본 프로필 (지금까지의 실행 방식)
+#   prod          : 운영 프로필 (지연 초기화, springdoc/devtools 끔)
+#   prod+aot      : 운영 프로필 + Spring AOT (-Dspring.aot.enabled=true)
+#   prod+aot+cds  : 위 + AppCDS 아카이브 (jar 를 풀어서 학습 실행 1회로 생성)
+#
+# 사용:
+#   mvn -Pfast-startup -DskipTests package
+#   scripts/startup-benchmark.sh [반복 횟수=5]
+#
+# DB 설정은 평소처럼 application.properties / 환경 변수에서 읽는다.
+# BENCH_NO_DB=1 이면 DB 없이 잰다 (JDBC 메타데이터 조회와 DDL 을 끄고, 첫 요청은 DB 를 쓰지 않는 요청).
+# 결과는 target/startup-benchmark/report.txt
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${BENCH_PORT:-18080}
+WORK=target/startup-benchmark
+JAR=$(ls target/flowmind-*.jar 2>/dev/null | grep -v plain | head -1 || true)
+if [[ -z "$JAR" || ! -d target/spring-aot ]]; then
+    echo "먼저 mvn -Pfast-startup -DskipTests package 를 실행하세요." >&2
+    exit 1
+fi
+rm -rf "$WORK"
+mkdir -p "$WORK"
+
+APP_ARGS=(--server.port="$PORT")
+if [[ "${BENCH_NO_DB:-0}" == 1 ]]; then
+    mkdir -p "$WORK/datasets"
+    APP_ARGS+=(
+        --spring.datasource.url=jdbc:mysql://127.0.0.1:1/flowmind
+        --spring.jpa.hibernate.ddl-auto=none
+        --spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect
+        --spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false
+        --app.dataset.root-path="$PWD/$WORK/datasets"
+    )
+fi
+
+# 검증 실패(400)로 끝나는 로그인 요청: 보안 필터, DispatcherServlet, Jackson, Validator 를 거치지만 DB 는 안 씀
+first_request() {
+    curl -s -o /dev/null -w '%{time_total}' -X POST -H 'Content-Type: application/json' -d '{}' \
+        "http://localhost:$PORT/api/auth/login"
+}
+
+# 출력: 기동 로그상 시간(s) 첫 요청(ms) 실행~첫 응답(ms)
+run_once() {
+    local log=$1 jar=$2
+    shift 2
+    local t0
+    t0=$(date +%s%N)
+    java "$@" -jar "$jar" "${APP_ARGS[@]}" > "$log" 2>&1 &
+    local pid=$!
+    until grep -q "Started FlowmindApplication" "$log"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "기동 실패: $log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    local first
+    first=$(first_request)
+    local total_ms=$(( ($(date +%s%N) - t0) / 1000000 ))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    local started
+    started=$(sed -n 's/.*Started FlowmindApplication in \([0-9.]*\) seconds.*/\1/p' "$log")
+    awk -v s="$started" -v f="$first" -v t="$total_ms" 'BEGIN { printf "%s %.1f %d\n", s, f * 1000, t }'
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+measure() {
+    local label=$1
+    shift
+    echo "== $label ($RUNS회)" >&2
+    : > "$WORK/$label.txt"
+    for i in $(seq 1 "$RUNS"); do
+        run_once "$WORK/$label-$i.log" "$@" >> "$WORK/$label.txt"
+    done
+    printf '%-14s %10s %12s %14s\n' "$label" \
+        "$(cut -d' ' -f1 "$WORK/$label.txt" | median)" \
+        "$(cut -d' ' -f2 "$WORK/$label.txt" | median)" \
+        "$(cut -d' ' -f3 "$WORK/$label.txt" | median)" >> "$WORK/report.txt"
+}
+
+{
+    echo "java: $(java -version 2>&1 | head -1), cpus: $(nproc), runs: $RUNS (중앙값)"
+    printf '%-14s %10s %12s %14s\n' mode started_s first_req_ms launch_to_ms
+} > "$WORK/report.txt"
+
+measure baseline "$JAR"
+measure prod "$JAR" -Dspring.profiles.active=prod
+measure prod+aot "$JAR" -Dspring.profiles.active=prod -Dspring.aot.enabled=true
+
+# AppCDS: 중첩 jar 는 아카이브할 수 없어 먼저 풀고, 컨텍스트 refresh 직후 종료하는 학습 실행으로 아카이브 생성
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/extracted" > /dev/null
+EXTRACTED="$WORK/extracted/$(basename "$JAR")"
+java -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Dspring.context.exit=onRefresh \
+    -Dspring.profiles.active=prod -Dspring.aot.enabled=true \
+    -jar "$EXTRACTED" "${APP_ARGS[@]}" > "$WORK/cds-training.log" 2>&1
+measure prod+aot+cds "$EXTRACTED" -XX:SharedArchiveFile="$WORK/app.jsa" \
+    -Dspring.profiles.active=prod -Dspring.aot.enabled=true
+
+cat "$WORK/report.txt"
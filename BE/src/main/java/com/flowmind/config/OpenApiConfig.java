@@ -6,8 +6,11 @@ import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
+// 문서 요청이 올 때 생성 (운영 프로필에서는 springdoc 자체가 꺼짐)
 @Configuration
+@Lazy
 public class OpenApiConfig {
 
     @Bean
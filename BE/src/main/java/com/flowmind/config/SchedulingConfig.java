@@ -0,0 +1,10 @@
+package com.flowmind.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 백그라운드 작업 (저장소 점검 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -15,6 +15,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.flowmind.security.JwtAuthFilter;
+import com.flowmind.security.RateLimitFilter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +25,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 	private final JwtAuthFilter jwtAuthFilter;
+	private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -39,6 +41,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         // 회원가입/로그인 API는 인증 없이 허용
                         .requestMatchers("/api/auth/**").permitAll()
+                        // WebSocket 은 핸드셰이크에서 ?token= 으로 직접 확인 (JwtHandshakeInterceptor)
+                        .requestMatchers("/ws/**").permitAll()
 //                        .requestMatchers("/api/datasets/**").permitAll()
                         .requestMatchers(
                                 "/swagger-ui/**",
@@ -50,7 +54,9 @@ public class SecurityConfig {
                 )
                 // 테스트용 basic auth (나중에 JWT로 교체 가능)
                 .httpBasic(Customizer.withDefaults())
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                // ✅ 토큰의 userId 기준 요청 제한 (JwtAuthFilter 다음)
+                .addFilterAfter(rateLimitFilter, JwtAuthFilter.class);
 
         return http.build();
     }
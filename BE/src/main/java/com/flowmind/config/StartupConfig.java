@@ -0,0 +1,43 @@
+package com.flowmind.config;
+
+import jakarta.servlet.Filter;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.Validator;
+import org.springframework.web.socket.WebSocketHandler;
+
+// ✅ spring.main.lazy-initialization=true (prod) 이어도 즉시 만들어야 하는 빈
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    /**
+     * 컨트롤러/WebSocket 핸들러: 첫 요청이 서비스/JPA 초기화 비용을 떠안지 않도록 (의존하는 빈도 함께 생성됨)
+     * 보안 필터 체인: DelegatingFilterProxy 가 첫 요청 때 만들게 되므로
+     * Validator: Hibernate Validator 부트스트랩이 첫 @Valid 요청에 걸리지 않도록
+     * @Scheduled 빈: 아무도 주입받지 않으면 영영 생성되지 않아 스케줄이 돌지 않음
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerCriticalBeans() {
+        return (beanName, definition, type) -> AnnotatedElementUtils.hasAnnotation(type, Controller.class)
+                || WebSocketHandler.class.isAssignableFrom(type)
+                || Filter.class.isAssignableFrom(type)
+                || SecurityFilterChain.class.isAssignableFrom(type)
+                || Validator.class.isAssignableFrom(type)
+                || hasScheduledMethod(type);
+    }
+
+    private static boolean hasScheduledMethod(Class<?> type) {
+        boolean[] found = {false};
+        ReflectionUtils.doWithMethods(type,
+                method -> found[0] = true,
+                method -> !found[0] && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+        return found[0];
+    }
+}
@@ -0,0 +1,50 @@
+package com.flowmind.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.flowmind.domain.dataset.wire.ColumnarCodec;
+import com.flowmind.domain.dataset.wire.ColumnarHttpMessageConverter;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // Smile/CBOR 컨버터는 jackson-dataformat 의존성만으로 스프링이 기본 등록함
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 맨 뒤에 둬야 Accept: */* 요청이 JSON 으로 나감
+        converters.add(new ColumnarHttpMessageConverter());
+    }
+
+    // ✅ 응답 gzip 압축 (Tomcat 은 brotli 미지원)
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> compressionCustomizer(
+            @Value("${app.compression.enabled:true}") boolean enabled) {
+        return factory -> {
+            if (!enabled) {
+                return;
+            }
+            Compression compression = new Compression();
+            compression.setEnabled(true);
+            compression.setMinResponseSize(DataSize.ofKilobytes(2));
+            compression.setMimeTypes(new String[]{
+                    "application/json",
+                    "application/x-jackson-smile",
+                    "application/cbor",
+                    ColumnarCodec.MEDIA_TYPE,
+                    "text/html",
+                    "text/plain"
+            });
+            factory.setCompression(compression);
+        };
+    }
+}
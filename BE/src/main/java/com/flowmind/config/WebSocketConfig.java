@@ -0,0 +1,28 @@
+package com.flowmind.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import com.flowmind.domain.dataset.controller.AnnotationSocketHandler;
+import com.flowmind.security.JwtHandshakeInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+// ✅ 실시간 공동 라벨링 채널
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final AnnotationSocketHandler annotationSocketHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(annotationSocketHandler, "/ws/versions/*/annotations")
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setAllowedOrigins("http://localhost:3000");
+    }
+}
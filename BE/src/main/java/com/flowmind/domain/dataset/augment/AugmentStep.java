@@ -0,0 +1,7 @@
+package com.flowmind.domain.dataset.augment;
+
+public record AugmentStep(
+        AugmentType type,
+        double probability,
+        double strength
+) {}
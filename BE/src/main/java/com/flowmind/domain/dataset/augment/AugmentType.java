@@ -0,0 +1,9 @@
+package com.flowmind.domain.dataset.augment;
+
+public enum AugmentType {
+    HFLIP,
+    VFLIP,
+    CROP,           // strength = 잘라낼 영역의 최소 변 비율 (0~1)
+    COLOR_JITTER,   // strength = 밝기/대비/채도 변화 폭 (0~1)
+    MOSAIC          // 같은 배치의 다른 이미지 3장과 2x2 합성
+}
@@ -0,0 +1,10 @@
+package com.flowmind.domain.dataset.augment;
+
+// Annotation과 동일한 정규화(0~1) YOLO 좌표
+public record Box(
+        long classId,
+        double xCenter,
+        double yCenter,
+        double width,
+        double height
+) {}
@@ -0,0 +1,214 @@
+package com.flowmind.domain.dataset.augment;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 이미지와 박스를 함께 변환한다. 모든 연산은 새 이미지를 만들고 입력은 건드리지 않으므로
+ * 같은 원본을 여러 스레드가 동시에 읽어도 안전하다.
+ * 이미지는 TYPE_INT_RGB 이어야 한다 ({@link #toRgb}).
+ */
+public final class ImageAugmenter {
+
+    // 잘린 뒤 원래 넓이의 이 비율보다 작게 남은 박스는 버림
+    private static final double MIN_VISIBLE_AREA = 0.2;
+
+    private ImageAugmenter() {
+    }
+
+    // mosaicPool: MOSAIC 단계에서 나머지 3칸을 채울 후보
+    public static Sample apply(Sample input, List<AugmentStep> steps, List<Sample> mosaicPool, SplittableRandom random) {
+        Sample current = input;
+        for (AugmentStep step : steps) {
+            if (random.nextDouble() >= step.probability()) {
+                continue;
+            }
+            current = switch (step.type()) {
+                case HFLIP -> flip(current, true);
+                case VFLIP -> flip(current, false);
+                case CROP -> crop(current, step.strength(), random);
+                case COLOR_JITTER -> colorJitter(current, step.strength(), random);
+                case MOSAIC -> mosaic(current, mosaicPool, random);
+            };
+        }
+        return current;
+    }
+
+    public static BufferedImage toRgb(BufferedImage src) {
+        if (src.getType() == BufferedImage.TYPE_INT_RGB) {
+            return src;
+        }
+        BufferedImage rgb = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        g.drawImage(src, 0, 0, null);
+        g.dispose();
+        return rgb;
+    }
+
+    static Sample flip(Sample s, boolean horizontal) {
+        int w = s.image().getWidth();
+        int h = s.image().getHeight();
+        int[] src = pixels(s.image());
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        int[] dst = pixels(out);
+
+        for (int y = 0; y < h; y++) {
+            int srcRow = (horizontal ? y : h - 1 - y) * w;
+            int dstRow = y * w;
+            if (horizontal) {
+                for (int x = 0; x < w; x++) {
+                    dst[dstRow + x] = src[srcRow + w - 1 - x];
+                }
+            } else {
+                System.arraycopy(src, srcRow, dst, dstRow, w);
+            }
+        }
+
+        List<Box> boxes = new ArrayList<>(s.boxes().size());
+        for (Box b : s.boxes()) {
+            boxes.add(horizontal
+                    ? new Box(b.classId(), 1.0 - b.xCenter(), b.yCenter(), b.width(), b.height())
+                    : new Box(b.classId(), b.xCenter(), 1.0 - b.yCenter(), b.width(), b.height()));
+        }
+        return new Sample(out, boxes);
+    }
+
+    static Sample crop(Sample s, double minScale, SplittableRandom random) {
+        int w = s.image().getWidth();
+        int h = s.image().getHeight();
+        double lo = Math.min(Math.max(minScale, 0.1), 1.0);
+        double scaleX = lo + random.nextDouble() * (1.0 - lo);
+        double scaleY = lo + random.nextDouble() * (1.0 - lo);
+        int cw = Math.max(1, (int) Math.round(w * scaleX));
+        int ch = Math.max(1, (int) Math.round(h * scaleY));
+        int cx = random.nextInt(w - cw + 1);
+        int cy = random.nextInt(h - ch + 1);
+
+        int[] src = pixels(s.image());
+        BufferedImage out = new BufferedImage(cw, ch, BufferedImage.TYPE_INT_RGB);
+        int[] dst = pixels(out);
+        for (int y = 0; y < ch; y++) {
+            System.arraycopy(src, (cy + y) * w + cx, dst, y * cw, cw);
+        }
+
+        // 정규화 좌표 기준 잘라낸 창
+        double x0 = (double) cx / w;
+        double y0 = (double) cy / h;
+        double x1 = (double) (cx + cw) / w;
+        double y1 = (double) (cy + ch) / h;
+
+        List<Box> boxes = new ArrayList<>();
+        for (Box b : s.boxes()) {
+            double bx0 = b.xCenter() - b.width() / 2;
+            double by0 = b.yCenter() - b.height() / 2;
+            double bx1 = b.xCenter() + b.width() / 2;
+            double by1 = b.yCenter() + b.height() / 2;
+
+            double ix0 = Math.max(bx0, x0);
+            double iy0 = Math.max(by0, y0);
+            double ix1 = Math.min(bx1, x1);
+            double iy1 = Math.min(by1, y1);
+            if (ix1 <= ix0 || iy1 <= iy0) {
+                continue;
+            }
+            double area = b.width() * b.height();
+            if (area > 0 && (ix1 - ix0) * (iy1 - iy0) < area * MIN_VISIBLE_AREA) {
+                continue;
+            }
+
+            double nw = (ix1 - ix0) / (x1 - x0);
+            double nh = (iy1 - iy0) / (y1 - y0);
+            double ncx = ((ix0 + ix1) / 2 - x0) / (x1 - x0);
+            double ncy = ((iy0 + iy1) / 2 - y0) / (y1 - y0);
+            boxes.add(new Box(b.classId(), ncx, ncy, nw, nh));
+        }
+        return new Sample(out, boxes);
+    }
+
+    static Sample colorJitter(Sample s, double strength, SplittableRandom random) {
+        double amount = Math.min(Math.max(strength, 0.0), 1.0);
+        double brightness = 1.0 + (random.nextDouble() * 2 - 1) * amount;
+        double contrast = 1.0 + (random.nextDouble() * 2 - 1) * amount;
+        double saturation = 1.0 + (random.nextDouble() * 2 - 1) * amount;
+
+        int[] src = pixels(s.image());
+        BufferedImage out = new BufferedImage(s.image().getWidth(), s.image().getHeight(), BufferedImage.TYPE_INT_RGB);
+        int[] dst = pixels(out);
+
+        for (int i = 0; i < src.length; i++) {
+            int p = src[i];
+            double r = ((p >> 16) & 0xFF) * brightness;
+            double g = ((p >> 8) & 0xFF) * brightness;
+            double b = (p & 0xFF) * brightness;
+
+            r = (r - 128) * contrast + 128;
+            g = (g - 128) * contrast + 128;
+            b = (b - 128) * contrast + 128;
+
+            double gray = 0.299 * r + 0.587 * g + 0.114 * b;
+            r = gray + (r - gray) * saturation;
+            g = gray + (g - gray) * saturation;
+            b = gray + (b - gray) * saturation;
+
+            dst[i] = (clamp(r) << 16) | (clamp(g) << 8) | clamp(b);
+        }
+        // 색 변환은 박스에 영향 없음
+        return new Sample(out, s.boxes());
+    }
+
+    static Sample mosaic(Sample s, List<Sample> pool, SplittableRandom random) {
+        if (pool == null || pool.isEmpty()) {
+            return s;
+        }
+        int w = s.image().getWidth();
+        int h = s.image().getHeight();
+        int hw = w / 2;
+        int hh = h / 2;
+        if (hw == 0 || hh == 0) {
+            return s;
+        }
+
+        Sample[] tiles = new Sample[4];
+        tiles[0] = s;
+        for (int i = 1; i < 4; i++) {
+            tiles[i] = pool.get(random.nextInt(pool.size()));
+        }
+
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+        List<Box> boxes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int qx = i % 2;
+            int qy = i / 2;
+            // 홀수 크기에서 오른쪽/아래 칸이 남는 픽셀까지 채우도록
+            int tw = qx == 0 ? hw : w - hw;
+            int th = qy == 0 ? hh : h - hh;
+            g.drawImage(tiles[i].image(), qx * hw, qy * hh, tw, th, null);
+
+            double ox = (double) (qx * hw) / w;
+            double oy = (double) (qy * hh) / h;
+            double sx = (double) tw / w;
+            double sy = (double) th / h;
+            for (Box b : tiles[i].boxes()) {
+                boxes.add(new Box(b.classId(), ox + b.xCenter() * sx, oy + b.yCenter() * sy, b.width() * sx, b.height() * sy));
+            }
+        }
+        g.dispose();
+        return new Sample(out, boxes);
+    }
+
+    private static int[] pixels(BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    private static int clamp(double v) {
+        return v < 0 ? 0 : v > 255 ? 255 : (int) v;
+    }
+}
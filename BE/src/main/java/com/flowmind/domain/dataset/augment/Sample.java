@@ -0,0 +1,9 @@
+package com.flowmind.domain.dataset.augment;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+public record Sample(
+        BufferedImage image,
+        List<Box> boxes
+) {}
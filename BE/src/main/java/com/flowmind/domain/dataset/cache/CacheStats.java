@@ -0,0 +1,11 @@
+package com.flowmind.domain.dataset.cache;
+
+// GET /api/datasets/cache/stats
+public record CacheStats(
+        String name,
+        long size,
+        long hits,
+        long misses,
+        double hitRate,
+        long evictions
+) {}
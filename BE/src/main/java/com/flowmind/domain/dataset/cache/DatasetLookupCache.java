@@ -0,0 +1,108 @@
+package com.flowmind.domain.dataset.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.flowmind.domain.dataset.repository.AssetRepository;
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+import com.flowmind.domain.dataset.repository.LabelClassRepository;
+import com.flowmind.util.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 자주 읽고 거의 안 바뀌는 조회 캐시 (서버 메모리, 크기 제한 + 쓰기 후 만료).
+ * - 버전: (datasetId, tag, userId) -> VersionRef. 소유자 확인 결과까지 캐시하므로 userId 도 키에 포함
+ * - 라벨 클래스: versionId -> 클래스 목록
+ * - 이미지 경로: assetId -> storageUri (이미지 요청은 캐시가 차 있으면 DB 를 안 봄)
+ * 없는 값은 캐시하지 않는다. 쓰는 쪽은 커밋 후 evict* 를 부르고,
+ * 여러 대로 띄운 경우 다른 서버의 캐시는 expire-minutes 안에 맞춰진다.
+ */
+@Component
+public class DatasetLookupCache {
+
+    private record VersionKey(Long datasetId, String versionTag, Long userId) {}
+
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final LabelClassRepository labelClassRepository;
+    private final AssetRepository assetRepository;
+
+    private final Cache<VersionKey, VersionRef> versions;
+    private final Cache<Long, List<LabelClassRef>> labelClasses;
+    private final Cache<Long, String> assetPaths;
+
+    public DatasetLookupCache(DatasetVersionRepository datasetVersionRepository,
+                              LabelClassRepository labelClassRepository,
+                              AssetRepository assetRepository,
+                              @Value("${app.cache.versions.max-size:10000}") long maxVersions,
+                              @Value("${app.cache.label-classes.max-size:5000}") long maxLabelClassLists,
+                              @Value("${app.cache.asset-paths.max-size:200000}") long maxAssetPaths,
+                              @Value("${app.cache.expire-minutes:30}") long expireMinutes) {
+        this.datasetVersionRepository = datasetVersionRepository;
+        this.labelClassRepository = labelClassRepository;
+        this.assetRepository = assetRepository;
+        this.versions = build(maxVersions, expireMinutes);
+        this.labelClasses = build(maxLabelClassLists, expireMinutes);
+        this.assetPaths = build(maxAssetPaths, expireMinutes);
+    }
+
+    private static <K, V> Cache<K, V> build(long maxSize, long expireMinutes) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<VersionRef> version(Long datasetId, String versionTag, Long userId) {
+        VersionKey key = new VersionKey(datasetId, versionTag, userId);
+        VersionRef cached = versions.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<VersionRef> loaded = datasetVersionRepository.findRef(datasetId, versionTag, userId);
+        loaded.ifPresent(ref -> versions.put(key, ref));
+        return loaded;
+    }
+
+    // classId 순
+    public List<LabelClassRef> labelClasses(Long versionId) {
+        return labelClasses.get(versionId, labelClassRepository::findRefsByVersionId);
+    }
+
+    public Optional<String> storageUri(Long assetId) {
+        String cached = assetPaths.getIfPresent(assetId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<String> loaded = assetRepository.findStorageUriById(assetId);
+        loaded.ifPresent(uri -> assetPaths.put(assetId, uri));
+        return loaded;
+    }
+
+    public void evictVersions(Collection<Long> versionIds) {
+        AfterCommit.run(() -> versions.asMap().values().removeIf(ref -> versionIds.contains(ref.versionId())));
+    }
+
+    public void evictLabelClasses(Long versionId) {
+        AfterCommit.run(() -> labelClasses.invalidate(versionId));
+    }
+
+    public void evictAssets(Collection<Long> assetIds) {
+        AfterCommit.run(() -> assetPaths.invalidateAll(assetIds));
+    }
+
+    public List<CacheStats> stats() {
+        return List.of(stats("versions", versions), stats("labelClasses", labelClasses), stats("assetPaths", assetPaths));
+    }
+
+    private static CacheStats stats(String name, Cache<?, ?> cache) {
+        com.github.benmanes.caffeine.cache.stats.CacheStats s = cache.stats();
+        return new CacheStats(name, cache.estimatedSize(), s.hitCount(), s.missCount(), s.hitRate(), s.evictionCount());
+    }
+}
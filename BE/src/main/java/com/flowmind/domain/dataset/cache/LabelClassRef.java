@@ -0,0 +1,3 @@
+package com.flowmind.domain.dataset.cache;
+
+public record LabelClassRef(Long classId, String name) {}
@@ -0,0 +1,13 @@
+package com.flowmind.domain.dataset.cache;
+
+import java.time.LocalDateTime;
+
+// 캐시에 두는 버전 정보 (엔티티 대신 값만 -> 세션 밖에서 써도 지연 로딩이 없음)
+public record VersionRef(
+        Long versionId,
+        Long datasetId,
+        String datasetName,
+        String description,
+        String versionTag,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,132 @@
+package com.flowmind.domain.dataset.collab;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모아둔 박스 변경을 JDBC 배치 3번(INSERT / UPDATE / DELETE)으로 쓴다.
+ * UPDATE / DELETE 는 DB 의 revision 이 baseRevision 그대로일 때만 반영하고, 아니면 충돌로 돌려준다.
+ * 호출하는 쪽 트랜잭션 안에서 실행된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnnotationBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO annotation (asset_id, class_id, x_center, y_center, width, height, confidence, revision)
+            VALUES (?, ?, ?, ?, ?, ?, NULL, ?)
+            """;
+    private static final String UPDATE_SQL = """
+            UPDATE annotation
+            SET class_id = ?, x_center = ?, y_center = ?, width = ?, height = ?, confidence = NULL, revision = ?
+            WHERE annotation_id = ? AND revision = ?
+            """;
+    private static final String DELETE_SQL = "DELETE FROM annotation WHERE annotation_id = ? AND revision = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // assignedIds: 임시 id -> 새 annotation_id, conflicts: 다른 곳에서 먼저 바뀌어 반영하지 못한 변경
+    public record Result(Map<Long, Long> assignedIds, List<PendingWrite> conflicts) {}
+
+    // 모든 변경의 classId 가 채워져 있어야 함
+    public Result write(List<PendingWrite> writes) {
+        List<BoxState> inserts = new ArrayList<>();
+        List<PendingWrite> updates = new ArrayList<>();
+        List<PendingWrite> deletes = new ArrayList<>();
+        for (PendingWrite w : writes) {
+            switch (w.kind()) {
+                case INSERT -> inserts.add(w.state());
+                case UPDATE -> updates.add(w);
+                case DELETE -> deletes.add(w);
+            }
+        }
+
+        Map<Long, Long> assigned = new LinkedHashMap<>();
+        if (!inserts.isEmpty()) {
+            GeneratedKeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    setter(inserts, (ps, b) -> {
+                        ps.setLong(1, b.assetId());
+                        ps.setLong(2, b.classId());
+                        setBox(ps, 3, b);
+                        ps.setLong(7, b.revision());
+                    }),
+                    keys);
+            List<Map<String, Object>> rows = keys.getKeyList();
+            if (rows.size() != inserts.size()) {
+                throw new IllegalStateException("생성된 키 수가 다릅니다: " + rows.size() + " / " + inserts.size());
+            }
+            for (int i = 0; i < inserts.size(); i++) {
+                Number key = (Number) rows.get(i).values().iterator().next();
+                assigned.put(inserts.get(i).annotationId(), key.longValue());
+            }
+        }
+        List<PendingWrite> conflicts = new ArrayList<>();
+        if (!updates.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, setter(updates, (ps, w) -> {
+                BoxState b = w.state();
+                ps.setLong(1, b.classId());
+                setBox(ps, 2, b);
+                ps.setLong(6, b.revision());
+                ps.setLong(7, b.annotationId());
+                ps.setLong(8, w.baseRevision());
+            }));
+            collectConflicts(updates, counts, conflicts);
+        }
+        if (!deletes.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(DELETE_SQL, setter(deletes, (ps, w) -> {
+                ps.setLong(1, w.state().annotationId());
+                ps.setLong(2, w.baseRevision());
+            }));
+            collectConflicts(deletes, counts, conflicts);
+        }
+        return new Result(assigned, conflicts);
+    }
+
+    // 0 건 = revision 이 달라졌거나 이미 지워진 행 (SUCCESS_NO_INFO 는 반영된 것으로 봄)
+    private static void collectConflicts(List<PendingWrite> writes, int[] counts, List<PendingWrite> conflicts) {
+        for (int i = 0; i < writes.size(); i++) {
+            if (counts[i] == 0) {
+                conflicts.add(writes.get(i));
+            }
+        }
+    }
+
+    private static void setBox(PreparedStatement ps, int from, BoxState b) throws SQLException {
+        ps.setDouble(from, b.xCenter());
+        ps.setDouble(from + 1, b.yCenter());
+        ps.setDouble(from + 2, b.width());
+        ps.setDouble(from + 3, b.height());
+    }
+
+    private interface Binder<T> {
+        void bind(PreparedStatement ps, T item) throws SQLException;
+    }
+
+    private static <T> BatchPreparedStatementSetter setter(List<T> items, Binder<T> binder) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                binder.bind(ps, items.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return items.size();
+            }
+        };
+    }
+}
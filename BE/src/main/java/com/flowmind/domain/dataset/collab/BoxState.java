@@ -0,0 +1,31 @@
+package com.flowmind.domain.dataset.collab;
+
+// 편집 중인 박스 한 개의 최신 상태 (annotationId < 0 이면 아직 DB 에 없는 임시 id)
+public record BoxState(
+        long annotationId,
+        long assetId,
+        Long classId,           // 아직 LabelClass 가 없는 라벨이면 null (flush 때 만듦)
+        String label,
+        double xCenter,
+        double yCenter,
+        double width,
+        double height,
+        long revision,
+        boolean deleted
+) {
+    BoxState withId(long id) {
+        return new BoxState(id, assetId, classId, label, xCenter, yCenter, width, height, revision, deleted);
+    }
+
+    public BoxState withClassId(Long id) {
+        return new BoxState(annotationId, assetId, id, label, xCenter, yCenter, width, height, revision, deleted);
+    }
+
+    BoxState asDeleted() {
+        return new BoxState(annotationId, assetId, classId, label, xCenter, yCenter, width, height, revision, true);
+    }
+
+    boolean isNew() {
+        return annotationId < 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.flowmind.domain.dataset.collab;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 서버 -> 클라이언트 메시지.
+ * hello / presence / upserted / deleted / idAssigned / conflict / assetReloaded / error
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CollabEvent(
+        String type,
+        String requestId,
+        Long by,                 // 편집한 userId
+        Integer viewers,
+        BoxState box,            // upserted / deleted / conflict(현재 서버 상태)
+        Long tempId,             // idAssigned
+        Long annotationId,       // idAssigned
+        Long assetId,            // assetReloaded
+        String message           // error
+) {
+    static CollabEvent presence(String type, int viewers) {
+        return new CollabEvent(type, null, null, viewers, null, null, null, null, null);
+    }
+
+    static CollabEvent box(String type, String requestId, Long by, BoxState box) {
+        return new CollabEvent(type, requestId, by, null, box, null, null, null, null);
+    }
+
+    static CollabEvent idAssigned(long tempId, long annotationId) {
+        return new CollabEvent("idAssigned", null, null, null, null, tempId, annotationId, null, null);
+    }
+
+    static CollabEvent assetReloaded(long assetId) {
+        return new CollabEvent("assetReloaded", null, null, null, null, null, null, assetId, null);
+    }
+
+    static CollabEvent error(String requestId, String message) {
+        return new CollabEvent("error", requestId, null, null, null, null, null, null, message);
+    }
+}
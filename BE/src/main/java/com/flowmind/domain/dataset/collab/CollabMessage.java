@@ -0,0 +1,23 @@
+package com.flowmind.domain.dataset.collab;
+
+/**
+ * 클라이언트 -> 서버 메시지.
+ * <pre>
+ * {"type":"upsert","requestId":"r1","assetId":3,"annotationId":null,"label":"cat","xCenter":0.5,...}
+ * {"type":"upsert","assetId":3,"annotationId":812,"baseRevision":2,"label":"cat","xCenter":0.52,...}
+ * {"type":"delete","assetId":3,"annotationId":812,"baseRevision":3}
+ * </pre>
+ * annotationId 가 null 이면 새 박스. 아직 저장 전인 박스는 서버가 준 음수 임시 id 를 사용한다.
+ */
+public record CollabMessage(
+        String type,
+        String requestId,
+        Long assetId,
+        Long annotationId,
+        Long baseRevision,
+        String label,
+        Double xCenter,
+        Double yCenter,
+        Double width,
+        Double height
+) {}
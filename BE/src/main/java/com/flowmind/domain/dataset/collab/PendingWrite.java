@@ -0,0 +1,27 @@
+package com.flowmind.domain.dataset.collab;
+
+// 다음 flush 때 DB 에 반영할 박스 변경. 같은 박스의 변경은 하나로 합친다.
+// baseRevision: 방이 알고 있는 DB 행의 revision (UPDATE / DELETE 는 이 값일 때만 반영)
+public record PendingWrite(Kind kind, BoxState state, long baseRevision) {
+
+    public enum Kind { INSERT, UPDATE, DELETE }
+
+    public PendingWrite withState(BoxState next) {
+        return new PendingWrite(kind, next, baseRevision);
+    }
+
+    /**
+     * 먼저 쌓인 변경(older) 뒤에 newer 가 왔을 때 결과. null 이면 DB 에 쓸 것이 없음.
+     * INSERT+UPDATE=INSERT, INSERT+DELETE=없음, UPDATE+UPDATE=UPDATE, UPDATE+DELETE=DELETE
+     * DB 에는 아직 older 의 baseRevision 이 있으므로 그 값을 유지한다.
+     */
+    static PendingWrite merge(PendingWrite older, PendingWrite newer) {
+        if (older == null) {
+            return newer;
+        }
+        if (older.kind == Kind.INSERT) {
+            return newer.kind == Kind.DELETE ? null : new PendingWrite(Kind.INSERT, newer.state, older.baseRevision);
+        }
+        return new PendingWrite(newer.kind, newer.state, older.baseRevision);
+    }
+}
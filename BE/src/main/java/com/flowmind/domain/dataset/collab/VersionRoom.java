@@ -0,0 +1,323 @@
+package com.flowmind.domain.dataset.collab;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DatasetVersion 하나의 실시간 편집 방.
+ * 박스마다 revision 을 두고 클라이언트가 보낸 baseRevision 이 현재 값과 다르면 거절(conflict)한다.
+ * 변경은 pending 에 박스 단위로 합쳐 두었다가 flush 때 한 번에 DB 에 쓴다.
+ * 모든 상태 변경과 브로드캐스트는 방 단위 lock 안에서 일어나므로 모든 참여자가 같은 순서로 변경을 본다.
+ * DB 조회(박스/이미지/라벨)는 lock 을 잡기 전에 해서 캐시에 넣어 두고, lock 안에서는 메모리만 본다.
+ */
+@Slf4j
+public final class VersionRoom {
+
+    public interface Loader {
+        // 이 버전에 속한 박스가 아니면 null
+        BoxState loadBox(long versionId, long annotationId);
+
+        boolean assetInVersion(long versionId, long assetId);
+
+        // 아직 LabelClass 가 없는 라벨이면 null (만드는 건 flush 때)
+        Long findClassId(long versionId, String label);
+    }
+
+    private final long versionId;
+    private final Loader loader;
+    private final ObjectMapper mapper;
+
+    private final Map<String, Member> members = new LinkedHashMap<>();
+    private final Map<Long, BoxState> boxes = new HashMap<>();
+    private final Map<Long, PendingWrite> pending = new LinkedHashMap<>();
+    private final Map<Long, Long> aliases = new HashMap<>();      // 임시 id -> 실제 annotation_id
+    private final Map<String, Long> classIds = new HashMap<>();
+    private final Set<Long> assetIds = new HashSet<>();
+    private long nextTempId = -1;
+    private long epoch;                                            // invalidate 때마다 증가 (lock 밖에서 읽은 박스 버리기용)
+    private int failedFlushes;                                     // 연속 저장 실패 횟수
+
+    private record Member(WebSocketSession session, Long userId) {}
+
+    public VersionRoom(long versionId, Loader loader, ObjectMapper mapper) {
+        this.versionId = versionId;
+        this.loader = loader;
+        this.mapper = mapper;
+    }
+
+    public synchronized void join(WebSocketSession session, Long userId) {
+        members.put(session.getId(), new Member(session, userId));
+        send(session, CollabEvent.presence("hello", members.size()));
+        broadcast(CollabEvent.presence("presence", members.size()));
+    }
+
+    public synchronized void leave(String sessionId) {
+        if (members.remove(sessionId) != null) {
+            broadcast(CollabEvent.presence("presence", members.size()));
+        }
+    }
+
+    public synchronized boolean isIdle() {
+        return members.isEmpty() && pending.isEmpty();
+    }
+
+    public void handle(String sessionId, CollabMessage msg) {
+        preload(sessionId, msg);
+        synchronized (this) {
+            Member member = members.get(sessionId);
+            if (member == null) {
+                return;
+            }
+            try {
+                switch (msg.type() == null ? "" : msg.type()) {
+                    case "upsert" -> upsert(member, msg);
+                    case "delete" -> delete(member, msg);
+                    default -> throw new IllegalArgumentException("알 수 없는 메시지 타입: " + msg.type());
+                }
+            } catch (IllegalArgumentException e) {
+                send(member.session(), CollabEvent.error(msg.requestId(), e.getMessage()));
+            }
+        }
+    }
+
+    // 메시지가 필요로 하는 박스/이미지/라벨 중 캐시에 없는 것만 lock 밖에서 DB 에서 읽어 둠
+    private void preload(String sessionId, CollabMessage msg) {
+        long seenEpoch;
+        Long id;
+        boolean needBox;
+        boolean needAsset;
+        boolean needClass;
+        synchronized (this) {
+            if (!members.containsKey(sessionId)) {
+                return;
+            }
+            seenEpoch = epoch;
+            id = resolve(msg.annotationId());
+            needBox = id != null && id > 0 && !boxes.containsKey(id);
+            needAsset = id == null && msg.assetId() != null && !assetIds.contains(msg.assetId());
+            needClass = msg.label() != null && !classIds.containsKey(msg.label());
+        }
+        BoxState box = needBox ? loader.loadBox(versionId, id) : null;
+        boolean assetFound = needAsset && loader.assetInVersion(versionId, msg.assetId());
+        Long classId = needClass ? loader.findClassId(versionId, msg.label()) : null;
+        synchronized (this) {
+            // 그 사이 invalidate 된 이미지라면 읽은 값이 이미 낡았을 수 있음
+            if (epoch == seenEpoch) {
+                if (box != null) {
+                    boxes.putIfAbsent(id, box);
+                    assetIds.add(box.assetId());
+                }
+                if (assetFound) {
+                    assetIds.add(msg.assetId());
+                }
+            }
+            if (classId != null) {
+                classIds.putIfAbsent(msg.label(), classId);
+            }
+        }
+    }
+
+    private void upsert(Member member, CollabMessage msg) {
+        validate(msg);
+        Long id = resolve(msg.annotationId());
+        Long classId = classIds.get(msg.label());
+
+        BoxState next;
+        if (id == null) {
+            if (msg.assetId() == null || !assetIds.contains(msg.assetId())) {
+                throw new IllegalArgumentException("이 버전의 이미지가 아닙니다: " + msg.assetId());
+            }
+            next = new BoxState(nextTempId--, msg.assetId(), classId, msg.label(),
+                    msg.xCenter(), msg.yCenter(), msg.width(), msg.height(), 1, false);
+            stage(PendingWrite.Kind.INSERT, next, 0);
+        } else {
+            BoxState current = boxes.get(id);
+            if (current == null || current.deleted()) {
+                throw new IllegalArgumentException("박스를 찾을 수 없습니다: " + msg.annotationId());
+            }
+            if (msg.baseRevision() == null || msg.baseRevision() != current.revision()) {
+                send(member.session(), CollabEvent.box("conflict", msg.requestId(), null, current));
+                return;
+            }
+            next = new BoxState(current.annotationId(), current.assetId(), classId, msg.label(),
+                    msg.xCenter(), msg.yCenter(), msg.width(), msg.height(), current.revision() + 1, false);
+            stage(PendingWrite.Kind.UPDATE, next, current.revision());
+        }
+        broadcast(CollabEvent.box("upserted", msg.requestId(), member.userId(), next));
+    }
+
+    private void delete(Member member, CollabMessage msg) {
+        Long id = resolve(msg.annotationId());
+        BoxState current = id == null ? null : boxes.get(id);
+        if (current == null || current.deleted()) {
+            throw new IllegalArgumentException("박스를 찾을 수 없습니다: " + msg.annotationId());
+        }
+        if (msg.baseRevision() == null || msg.baseRevision() != current.revision()) {
+            send(member.session(), CollabEvent.box("conflict", msg.requestId(), null, current));
+            return;
+        }
+        BoxState next = new BoxState(current.annotationId(), current.assetId(), current.classId(), current.label(),
+                current.xCenter(), current.yCenter(), current.width(), current.height(), current.revision() + 1, true);
+        stage(PendingWrite.Kind.DELETE, next, current.revision());
+        broadcast(CollabEvent.box("deleted", msg.requestId(), member.userId(), next));
+    }
+
+    private static void validate(CollabMessage msg) {
+        if (msg.label() == null || msg.label().isBlank()) {
+            throw new IllegalArgumentException("label 이 비어 있습니다.");
+        }
+        for (Double v : new Double[]{msg.xCenter(), msg.yCenter(), msg.width(), msg.height()}) {
+            if (v == null || v < 0 || v > 1) {
+                throw new IllegalArgumentException("좌표는 0~1 사이여야 합니다.");
+            }
+        }
+    }
+
+    private Long resolve(Long annotationId) {
+        if (annotationId == null) {
+            return null;
+        }
+        return aliases.getOrDefault(annotationId, annotationId);
+    }
+
+    private void stage(PendingWrite.Kind kind, BoxState state, long baseRevision) {
+        boxes.put(state.annotationId(), state);
+        PendingWrite merged = PendingWrite.merge(pending.remove(state.annotationId()),
+                new PendingWrite(kind, state, baseRevision));
+        if (merged != null) {
+            pending.put(state.annotationId(), merged);
+        }
+    }
+
+    // flush 대상 꺼내기 (꺼낸 뒤 들어오는 변경은 다음 flush 로)
+    public synchronized List<PendingWrite> drain() {
+        List<PendingWrite> writes = new ArrayList<>(pending.values());
+        pending.clear();
+        return writes;
+    }
+
+    // INSERT 로 받은 실제 id 와 flush 때 만든 LabelClass 를 반영하고 참여자들에게 알림
+    public synchronized void flushed(Map<Long, Long> assignedIds, Map<String, Long> createdClassIds) {
+        failedFlushes = 0;
+        createdClassIds.forEach(classIds::putIfAbsent);
+        assignedIds.forEach((tempId, realId) -> {
+            aliases.put(tempId, realId);
+            BoxState box = boxes.remove(tempId);
+            if (box != null) {
+                boxes.put(realId, box.withId(realId));
+            }
+            PendingWrite later = pending.remove(tempId);
+            if (later != null) {
+                pending.put(realId, later.withState(later.state().withId(realId)));
+            }
+            broadcast(CollabEvent.idAssigned(tempId, realId));
+        });
+    }
+
+    // 저장 실패 횟수 (연속)
+    public synchronized int flushFailed() {
+        return ++failedFlushes;
+    }
+
+    // 쓰기 실패 시 다시 넣음 (그 사이 들어온 변경이 우선)
+    public synchronized void requeue(List<PendingWrite> failed) {
+        for (PendingWrite older : failed) {
+            long key = older.state().annotationId();
+            PendingWrite newer = pending.remove(key);
+            PendingWrite merged = newer == null ? older : PendingWrite.merge(older, newer);
+            if (merged != null) {
+                pending.put(key, merged);
+            }
+        }
+    }
+
+    /**
+     * revision 조건에 걸렸거나(다른 인스턴스 등에서 먼저 바뀜) 따로 써 봐도 실패해서 반영하지 못한 박스.
+     * DB 의 현재 상태(null 이면 지워짐)로 되돌리고, 그 위에 쌓인 대기 중 변경은 버린 뒤 모두에게 conflict 로 알림.
+     */
+    public synchronized void conflicted(Map<Long, BoxState> current) {
+        epoch++;
+        current.forEach((id, box) -> {
+            pending.remove(id);
+            BoxState stale = boxes.remove(id);
+            if (box != null) {
+                boxes.put(id, box);
+                broadcast(CollabEvent.box("conflict", null, null, box));
+            } else if (stale != null) {
+                broadcast(CollabEvent.box("deleted", null, null, stale.asDeleted()));
+            }
+        });
+    }
+
+    // REST 저장/사전 라벨링으로 박스가 통째로 바뀐 이미지: 캐시와 대기 중 변경을 버리고 다시 불러오라고 알림
+    public synchronized void invalidate(Collection<Long> changedAssetIds) {
+        Set<Long> changed = new HashSet<>(changedAssetIds);
+        epoch++;
+        boxes.values().removeIf(b -> changed.contains(b.assetId()));
+        pending.values().removeIf(w -> changed.contains(w.state().assetId()));
+        for (Long assetId : changed) {
+            if (assetIds.contains(assetId)) {
+                broadcast(CollabEvent.assetReloaded(assetId));
+            }
+        }
+    }
+
+    // 버전 삭제: 대기 중 변경은 버리고 모두 내보냄
+    public synchronized void close() {
+        pending.clear();
+        for (Member member : members.values()) {
+            try {
+                member.session().close(CloseStatus.GOING_AWAY.withReason("version deleted"));
+            } catch (IOException e) {
+                log.debug("WebSocket 종료 실패: {} ({})", member.session().getId(), e.getMessage());
+            }
+        }
+        members.clear();
+    }
+
+    private void broadcast(CollabEvent event) {
+        TextMessage message = toMessage(event);
+        for (Member member : members.values()) {
+            send(member.session(), message);
+        }
+    }
+
+    private void send(WebSocketSession session, CollabEvent event) {
+        send(session, toMessage(event));
+    }
+
+    private void send(WebSocketSession session, TextMessage message) {
+        try {
+            if (session.isOpen()) {
+                session.sendMessage(message);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 느린 클라이언트는 ConcurrentWebSocketSessionDecorator 가 끊음
+            log.debug("WebSocket 전송 실패: {} ({})", session.getId(), e.getMessage());
+        }
+    }
+
+    private TextMessage toMessage(CollabEvent event) {
+        try {
+            return new TextMessage(mapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.flowmind.domain.dataset.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowmind.domain.dataset.collab.CollabMessage;
+import com.flowmind.domain.dataset.service.AnnotationCollabService;
+import com.flowmind.security.JwtHandshakeInterceptor;
+import com.flowmind.util.TokenBucket;
+
+/**
+ * ws://.../ws/versions/{versionId}/annotations?token=JWT
+ * versionId / userId 는 JwtHandshakeInterceptor 가 세션 속성에 넣어둔다.
+ */
+@Component
+public class AnnotationSocketHandler extends TextWebSocketHandler {
+
+    private static final String BUCKET_ATTRIBUTE = "flowmind.collab.bucket";
+
+    private final AnnotationCollabService collabService;
+    private final ObjectMapper objectMapper;
+    private final double messagesPerSec;
+    private final int burst;
+    private final int sendTimeoutMs;
+    private final int bufferSizeLimit;
+
+    public AnnotationSocketHandler(AnnotationCollabService collabService,
+                                   ObjectMapper objectMapper,
+                                   @Value("${app.collab.messages-per-sec:30}") double messagesPerSec,
+                                   @Value("${app.collab.burst:60}") int burst,
+                                   @Value("${app.collab.send-timeout-ms:5000}") int sendTimeoutMs,
+                                   @Value("${app.collab.buffer-size-limit:524288}") int bufferSizeLimit) {
+        this.collabService = collabService;
+        this.objectMapper = objectMapper;
+        this.messagesPerSec = messagesPerSec;
+        this.burst = burst;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        session.getAttributes().put(BUCKET_ATTRIBUTE, new TokenBucket(messagesPerSec, burst));
+        // 브로드캐스트는 여러 스레드에서 오므로 전송을 직렬화하고, 못 따라오는 클라이언트는 끊는다
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(session, sendTimeoutMs, bufferSizeLimit);
+        collabService.join(versionId(session), userId(session), outbound);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        TokenBucket bucket = (TokenBucket) session.getAttributes().get(BUCKET_ATTRIBUTE);
+        if (bucket.tryAcquire(1) > 0) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("too many messages"));
+            return;
+        }
+        CollabMessage msg;
+        try {
+            msg = objectMapper.readValue(message.getPayload(), CollabMessage.class);
+        } catch (JsonProcessingException e) {
+            session.close(CloseStatus.BAD_DATA.withReason("invalid message"));
+            return;
+        }
+        collabService.handle(versionId(session), session.getId(), msg);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        collabService.leave(versionId(session), session.getId());
+    }
+
+    private static Long versionId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(JwtHandshakeInterceptor.VERSION_ID_ATTRIBUTE);
+    }
+
+    private static Long userId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE);
+    }
+}
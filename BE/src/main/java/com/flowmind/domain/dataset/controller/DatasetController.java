@@ -4,21 +4,49 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.flowmind.domain.dataset.cache.CacheStats;
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.cache.VersionRef;
+import com.flowmind.domain.dataset.dto.ActiveLearningResponse;
+import com.flowmind.domain.dataset.dto.AnnotationDto;
+import com.flowmind.domain.dataset.dto.AnnotationSaveRequest;
+import com.flowmind.domain.dataset.dto.AssetSplitRequest;
+import com.flowmind.domain.dataset.dto.AugmentRequest;
 import com.flowmind.domain.dataset.dto.DatasetDetailResponse;
 import com.flowmind.domain.dataset.dto.DatasetResponse;
-import com.flowmind.domain.dataset.entity.Asset;
+import com.flowmind.domain.dataset.dto.VersionDiffSummary;
 import com.flowmind.domain.dataset.entity.DatasetVersion;
-import com.flowmind.domain.dataset.repository.AssetRepository;
+import com.flowmind.domain.dataset.service.ActiveLearningService;
+import com.flowmind.domain.dataset.service.AnnotationService;
+import com.flowmind.domain.dataset.service.AssetSearchService;
+import com.flowmind.domain.dataset.service.DatasetAugmentService;
+import com.flowmind.domain.dataset.service.DatasetDeletionService;
+import com.flowmind.domain.dataset.service.DatasetPackService;
 import com.flowmind.domain.dataset.service.DatasetService;
+import com.flowmind.domain.dataset.service.PreAnnotationService;
+import com.flowmind.domain.dataset.service.VersionDiffService;
+import com.flowmind.domain.job.dto.JobStatusResponse;
+import com.flowmind.domain.job.service.JobHandle;
 import com.flowmind.domain.user.service.UserService;
+import com.flowmind.security.AdminAccess;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/datasets")
@@ -26,8 +54,17 @@ import java.util.List;
 public class DatasetController {
 
     private final DatasetService datasetService;
+    private final DatasetPackService datasetPackService;
+    private final DatasetAugmentService datasetAugmentService;
+    private final PreAnnotationService preAnnotationService;
+    private final VersionDiffService versionDiffService;
+    private final AssetSearchService assetSearchService;
+    private final AnnotationService annotationService;
+    private final ActiveLearningService activeLearningService;
+    private final DatasetDeletionService datasetDeletionService;
     private final UserService userService;
-    private final AssetRepository assetRepository;
+    private final DatasetLookupCache datasetLookupCache;
+    private final AdminAccess adminAccess;
 
     @PostMapping(
             value = "/new",
@@ -35,9 +72,10 @@ public class DatasetController {
     )
     public ResponseEntity<?> createDataset(
             @RequestParam("name") String name,
+            @RequestParam(value = "split", required = false) String split,
             @RequestPart("images") List<MultipartFile> images
     ) {
-        DatasetVersion version = datasetService.createDatasetWithV0(name, images);
+        DatasetVersion version = datasetService.createDatasetWithV0(name, images, split);
 
         return ResponseEntity.ok(new CreateDatasetResponse(
                 version.getDataset().getDatasetId(),
@@ -68,10 +106,11 @@ public class DatasetController {
     
     @GetMapping("/assets/{assetId}/image")
     public ResponseEntity<Resource> getAssetImage(@PathVariable Long assetId) {
-        Asset asset = assetRepository.findById(assetId)
+        // 캐시가 차 있으면 DB 조회 없이 파일만 읽음
+        String storageUri = datasetLookupCache.storageUri(assetId)
                 .orElseThrow(() -> new IllegalArgumentException("Asset not found"));
 
-        FileSystemResource resource = new FileSystemResource(asset.getStorageUri());
+        FileSystemResource resource = new FileSystemResource(storageUri);
 
         if (!resource.exists()) {
             return ResponseEntity.notFound().build();
@@ -83,5 +122,184 @@ public class DatasetController {
                 .body(resource);
     }
 
+    // 검색어 예: "class:cat>5 split:val width>1920", "unlabeled" (문법은 AssetQueryParser 참고)
+    // 요약 컬럼을 아직 채우지 않은 버전이면 202 + 작업 상태 (끝나면 다시 요청)
+    @GetMapping("/assets/search")
+    public ResponseEntity<?> searchAssets(
+            @RequestParam Long datasetId,
+            @RequestParam String version,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int limit,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        Optional<JobHandle> backfill = assetSearchService.pendingBackfill(datasetId, version, userId, q);
+        if (backfill.isPresent()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(JobStatusResponse.from(backfill.get()));
+        }
+        return ResponseEntity.ok(assetSearchService.search(datasetId, version, userId, q, cursor, limit));
+    }
+
+    // 이미지 한 장의 박스 저장 (기존 박스 전체 교체)
+    @PutMapping("/assets/{assetId}/annotations")
+    public ResponseEntity<List<AnnotationDto>> saveAnnotations(
+            @PathVariable Long assetId,
+            @Valid @RequestBody AnnotationSaveRequest request,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(annotationService.replaceAnnotations(assetId, userId, request));
+    }
+
+    // 선택한 Asset 들의 split 지정 (train / val / test, null 이면 해제)
+    @PutMapping("/assets/split")
+    public ResponseEntity<?> updateAssetSplit(
+            @Valid @RequestBody AssetSplitRequest request,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(Map.of("updated", assetSearchService.updateSplit(request, userId)));
+    }
+
+    // 학습/내보내기용 샤드 팩 생성: {root}/.packs/{versionId}.pack/ (진행 상황: /api/jobs/{jobId})
+    @PostMapping("/pack")
+    public ResponseEntity<JobStatusResponse> packVersion(
+            @RequestParam Long datasetId,
+            @RequestParam String version,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(JobStatusResponse.from(datasetPackService.startPack(datasetId, version, userId)));
+    }
+
+    // 팩에서 바로 읽어 YOLO 형식 zip 으로 내려받기 (먼저 /pack 이 끝나 있어야 함)
+    @GetMapping("/export")
+    public void exportVersion(
+            @RequestParam Long datasetId,
+            @RequestParam String version,
+            @AuthenticationPrincipal String email,
+            HttpServletResponse response
+    ) throws IOException {
+        Long userId = userService.findUserIdByEmail(email);
+        VersionRef packed = datasetPackService.getPackedVersion(datasetId, version, userId);
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(packed.datasetName() + "-" + packed.versionTag() + ".zip", StandardCharsets.UTF_8)
+                .build().toString());
+        datasetPackService.exportZip(packed, response.getOutputStream());
+    }
+
+    // 증강 작업은 백그라운드로 실행하고 진행 상황은 /api/jobs/{jobId} 로 조회
+    @PostMapping("/augment")
+    public ResponseEntity<JobStatusResponse> augmentVersion(
+            @Valid @RequestBody AugmentRequest request,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(JobStatusResponse.from(datasetAugmentService.startAugmentation(request, userId)));
+    }
+
+    // 모델 제안 박스를 Annotation 으로 저장 (취소: DELETE /api/jobs/{jobId})
+    @PostMapping("/pre-annotate")
+    public ResponseEntity<JobStatusResponse> preAnnotate(
+            @RequestParam Long datasetId,
+            @RequestParam String version,
+            @RequestParam(defaultValue = "0.25") double minConfidence,
+            @RequestParam(defaultValue = "true") boolean skipAnnotated,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(JobStatusResponse.from(preAnnotationService.startPreAnnotation(
+                        datasetId, version, userId, minConfidence, skipAnnotated)));
+    }
+
+    // 다음에 라벨링할 이미지 추천 (사전 라벨링을 돌린 Asset 중 라벨 없는 것, strategy: entropy | margin)
+    @GetMapping("/active-learning")
+    public ResponseEntity<ActiveLearningResponse> recommendForLabeling(
+            @RequestParam Long datasetId,
+            @RequestParam String version,
+            @RequestParam(defaultValue = "50") int k,
+            @RequestParam(defaultValue = "entropy") String strategy,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(activeLearningService.recommend(datasetId, version, userId, strategy, k));
+    }
+
+    // 두 버전 비교 요약 (Asset 추가/삭제/변경, 박스 추가/삭제/이동/라벨 변경, 클래스 변경)
+    // 해시를 먼저 채워야 하거나 요약이 캐시에 없으면 202 + 작업 상태 (끝나면 result 에 요약, 다시 요청하면 캐시에서)
+    @GetMapping("/diff/summary")
+    public ResponseEntity<?> getVersionDiffSummary(
+            @RequestParam Long datasetId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        Optional<JobHandle> hashing = versionDiffService.pendingHashing(datasetId, from, to, userId);
+        if (hashing.isPresent()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(JobStatusResponse.from(hashing.get()));
+        }
+        Optional<VersionDiffSummary> cached = versionDiffService.cachedSummary(datasetId, from, to, userId);
+        if (cached.isPresent()) {
+            return ResponseEntity.ok(cached.get());
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(JobStatusResponse.from(versionDiffService.startSummary(datasetId, from, to, userId)));
+    }
+
+    // 변경된 Asset 상세 (nextCursor 로 다음 페이지 요청, 첫 페이지는 요약과 같이 202 일 수 있음)
+    @GetMapping("/diff")
+    public ResponseEntity<?> getVersionDiff(
+            @RequestParam Long datasetId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        if (cursor == null) {
+            Optional<JobHandle> hashing = versionDiffService.pendingHashing(datasetId, from, to, userId);
+            if (hashing.isPresent()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(JobStatusResponse.from(hashing.get()));
+            }
+        }
+        return ResponseEntity.ok(versionDiffService.diff(datasetId, from, to, userId, cursor, limit));
+    }
+
+    // 조회 캐시 크기/적중률 (관리자)
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheStats>> getCacheStats(@AuthenticationPrincipal String email) {
+        adminAccess.check(email);
+        return ResponseEntity.ok(datasetLookupCache.stats());
+    }
+
+    // 바로 목록에서 빠지고 실제 행/파일 삭제는 백그라운드 작업 (같은 요청을 다시 보내면 멈춘 삭제를 이어서 진행)
+    @DeleteMapping("/{datasetId}")
+    public ResponseEntity<JobStatusResponse> deleteDataset(
+            @PathVariable Long datasetId,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(JobStatusResponse.from(datasetDeletionService.deleteDataset(datasetId, userId)));
+    }
+
+    @DeleteMapping("/{datasetId}/versions/{version}")
+    public ResponseEntity<JobStatusResponse> deleteVersion(
+            @PathVariable Long datasetId,
+            @PathVariable String version,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(JobStatusResponse.from(datasetDeletionService.deleteVersion(datasetId, version, userId)));
+    }
+
     public record CreateDatasetResponse(Long datasetId, Long versionId, String versionTag) {}
 }
@@ -0,0 +1,58 @@
+package com.flowmind.domain.dataset.diff;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * (contentHash, assetId) 순서로 한 버전의 Asset 키를 페이지 단위로 읽는 커서.
+ * 메모리에는 항상 한 페이지만 유지된다.
+ */
+public class AssetCursor {
+
+    @FunctionalInterface
+    public interface PageLoader {
+        List<AssetKey> load(String afterHash, long afterId, int limit);
+    }
+
+    private final PageLoader loader;
+    private final int pageSize;
+    private final Deque<AssetKey> buffer = new ArrayDeque<>();
+    private String lastHash;
+    private long lastId;
+    private boolean exhausted;
+
+    // startAfterHash 보다 큰 해시부터 시작 (null이면 처음부터)
+    public AssetCursor(PageLoader loader, int pageSize, String startAfterHash) {
+        this.loader = loader;
+        this.pageSize = pageSize;
+        this.lastHash = startAfterHash == null ? "" : startAfterHash;
+        this.lastId = startAfterHash == null ? 0L : Long.MAX_VALUE;
+    }
+
+    public AssetKey peek() {
+        fill();
+        return buffer.peekFirst();
+    }
+
+    public AssetKey next() {
+        fill();
+        return buffer.pollFirst();
+    }
+
+    private void fill() {
+        if (!buffer.isEmpty() || exhausted) {
+            return;
+        }
+        List<AssetKey> page = loader.load(lastHash, lastId, pageSize);
+        if (page.size() < pageSize) {
+            exhausted = true;
+        }
+        if (!page.isEmpty()) {
+            AssetKey last = page.get(page.size() - 1);
+            lastHash = last.contentHash();
+            lastId = last.assetId();
+            buffer.addAll(page);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.flowmind.domain.dataset.diff;
+
+// 커서가 읽는 최소 정보 (엔티티를 로드하지 않음)
+public record AssetKey(
+        Long assetId,
+        String contentHash,
+        String name
+) {}
@@ -0,0 +1,17 @@
+package com.flowmind.domain.dataset.diff;
+
+public record BoxChange(
+        Type type,
+        Long fromAnnotationId,
+        Long toAnnotationId,
+        String fromLabel,
+        String toLabel
+) {
+    public enum Type {
+        ADDED,
+        REMOVED,
+        MOVED,
+        RELABELED,
+        MOVED_AND_RELABELED
+    }
+}
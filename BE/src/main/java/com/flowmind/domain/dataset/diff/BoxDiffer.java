@@ -0,0 +1,85 @@
+package com.flowmind.domain.dataset.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 같은 이미지의 두 박스 목록을 비교한다.
+ * IoU가 SAME_IOU 이상이고 라벨이 같으면 그대로, MATCH_IOU 이상이면 같은 박스가 이동/라벨 변경된 것으로 본다.
+ */
+public final class BoxDiffer {
+
+    static final double SAME_IOU = 0.99;
+    static final double MATCH_IOU = 0.5;
+
+    private BoxDiffer() {
+    }
+
+    public static List<BoxChange> diff(List<BoxRef> from, List<BoxRef> to) {
+        boolean[] usedFrom = new boolean[from.size()];
+        boolean[] usedTo = new boolean[to.size()];
+        List<BoxChange> changes = new ArrayList<>();
+
+        // 1. 변하지 않은 박스 제거
+        for (int j = 0; j < to.size(); j++) {
+            for (int i = 0; i < from.size(); i++) {
+                if (!usedFrom[i] && from.get(i).label().equals(to.get(j).label())
+                        && from.get(i).iou(to.get(j)) >= SAME_IOU) {
+                    usedFrom[i] = true;
+                    usedTo[j] = true;
+                    break;
+                }
+            }
+        }
+
+        // 2. 남은 것 중 가장 많이 겹치는 쌍부터 매칭 (greedy)
+        while (true) {
+            int bi = -1;
+            int bj = -1;
+            double best = MATCH_IOU;
+            for (int i = 0; i < from.size(); i++) {
+                if (usedFrom[i]) {
+                    continue;
+                }
+                for (int j = 0; j < to.size(); j++) {
+                    if (usedTo[j]) {
+                        continue;
+                    }
+                    double iou = from.get(i).iou(to.get(j));
+                    if (iou >= best) {
+                        best = iou;
+                        bi = i;
+                        bj = j;
+                    }
+                }
+            }
+            if (bi < 0) {
+                break;
+            }
+            usedFrom[bi] = true;
+            usedTo[bj] = true;
+
+            BoxRef a = from.get(bi);
+            BoxRef b = to.get(bj);
+            boolean moved = best < SAME_IOU;
+            boolean relabeled = !a.label().equals(b.label());
+            BoxChange.Type type = moved && relabeled ? BoxChange.Type.MOVED_AND_RELABELED
+                    : relabeled ? BoxChange.Type.RELABELED
+                    : BoxChange.Type.MOVED;
+            changes.add(new BoxChange(type, a.annotationId(), b.annotationId(), a.label(), b.label()));
+        }
+
+        // 3. 매칭 안 된 박스는 삭제/추가
+        for (int i = 0; i < from.size(); i++) {
+            if (!usedFrom[i]) {
+                changes.add(new BoxChange(BoxChange.Type.REMOVED, from.get(i).annotationId(), null, from.get(i).label(), null));
+            }
+        }
+        for (int j = 0; j < to.size(); j++) {
+            if (!usedTo[j]) {
+                changes.add(new BoxChange(BoxChange.Type.ADDED, null, to.get(j).annotationId(), null, to.get(j).label()));
+            }
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,22 @@
+package com.flowmind.domain.dataset.diff;
+
+public record BoxRef(
+        Long annotationId,
+        String label,
+        double xCenter,
+        double yCenter,
+        double width,
+        double height
+) {
+    double iou(BoxRef o) {
+        double ix = Math.min(xCenter + width / 2, o.xCenter + o.width / 2)
+                - Math.max(xCenter - width / 2, o.xCenter - o.width / 2);
+        double iy = Math.min(yCenter + height / 2, o.yCenter + o.height / 2)
+                - Math.max(yCenter - height / 2, o.yCenter - o.height / 2);
+        if (ix <= 0 || iy <= 0) {
+            return 0;
+        }
+        double inter = ix * iy;
+        return inter / (width * height + o.width * o.height - inter);
+    }
+}
@@ -0,0 +1,19 @@
+package com.flowmind.domain.dataset.diff;
+
+import java.util.List;
+
+public record DiffEntry(
+        Type type,
+        String contentHash,
+        Long fromAssetId,
+        Long toAssetId,
+        String name,
+        List<BoxChange> boxChanges
+) {
+    public enum Type {
+        ASSET_ADDED,
+        ASSET_REMOVED,
+        ASSET_CHANGED,
+        ASSET_UNCHANGED
+    }
+}
@@ -0,0 +1,19 @@
+package com.flowmind.domain.dataset.dto;
+
+import java.util.List;
+
+// candidates = 예측이 있는 Asset 수, labeled = 그중 사람이 라벨링한 수
+public record ActiveLearningResponse(
+        String strategy,
+        int candidates,
+        int labeled,
+        List<Item> items        // 라벨링 우선순위 순
+) {
+    public record Item(
+            Long id,
+            String filename,
+            String imageUrl,
+            float uncertainty,
+            float diversity
+    ) {}
+}
@@ -8,5 +8,7 @@ public record AnnotationDto(
         double xCenter,
         double yCenter,
         double width,
-        double height
+        double height,
+        Double confidence,
+        long revision                // 실시간 편집 시 baseRevision 으로 보냄
 ) {}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.flowmind.domain.dataset.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+// 이미지 한 장의 박스 전체 (저장하면 기존 박스를 대체)
+public record AnnotationSaveRequest(
+        @NotNull @Valid List<Box> annotations
+) {
+    public record Box(
+            @NotBlank String label,
+            @NotNull @DecimalMin("0") @DecimalMax("1") Double xCenter,
+            @NotNull @DecimalMin("0") @DecimalMax("1") Double yCenter,
+            @NotNull @DecimalMin("0") @DecimalMax("1") Double width,
+            @NotNull @DecimalMin("0") @DecimalMax("1") Double height
+    ) {}
+}
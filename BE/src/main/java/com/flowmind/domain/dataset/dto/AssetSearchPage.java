@@ -0,0 +1,9 @@
+package com.flowmind.domain.dataset.dto;
+
+import java.util.List;
+
+// nextCursor 가 null 이면 마지막 페이지
+public record AssetSearchPage(
+        List<AssetSummaryDto> items,
+        Long nextCursor
+) {}
@@ -0,0 +1,16 @@
+package com.flowmind.domain.dataset.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+public record AssetSplitRequest(
+        @NotNull Long datasetId,
+        @NotBlank String version,
+        @NotEmpty List<Long> assetIds,
+        // null 이면 split 해제
+        @Pattern(regexp = "train|val|test") String split
+) {}
@@ -0,0 +1,25 @@
+package com.flowmind.domain.dataset.dto;
+
+import com.flowmind.domain.dataset.entity.Asset;
+
+public record AssetSummaryDto(
+        Long id,
+        String filename,
+        String imageUrl,
+        Integer width,
+        Integer height,
+        String split,
+        int boxCount
+) {
+    public static AssetSummaryDto from(Asset asset) {
+        return new AssetSummaryDto(
+                asset.getAssetId(),
+                asset.getName(),
+                "/api/datasets/assets/" + asset.getAssetId() + "/image",
+                asset.getWidth(),
+                asset.getHeight(),
+                asset.getSplit(),
+                asset.getBoxCount()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.flowmind.domain.dataset.dto;
+
+import java.util.List;
+
+import com.flowmind.domain.dataset.augment.AugmentStep;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record AugmentRequest(
+        @NotNull Long datasetId,
+        @NotBlank String sourceVersion,
+        @NotNull @Min(1) @Max(20) Integer copies,   // 원본 1장당 만들 증강 이미지 수
+        Boolean includeOriginals,                    // 새 버전에 원본도 포함할지 (기본 true)
+        Long seed,
+        @NotEmpty List<AugmentStep> steps
+) {}
@@ -12,6 +12,7 @@ public record DatasetResponse(
     public static DatasetResponse from(Dataset dataset) {
         List<DatasetVersionResponse> versions = dataset.getVersions()
                 .stream()
+                .filter(v -> v.getDeletedAt() == null)
                 .map(DatasetVersionResponse::from)
                 .toList();
 
@@ -0,0 +1,10 @@
+package com.flowmind.domain.dataset.dto;
+
+import java.util.List;
+
+import com.flowmind.domain.dataset.diff.DiffEntry;
+
+public record VersionDiffPage(
+        List<DiffEntry> entries,
+        String nextCursor           // null 이면 마지막 페이지
+) {}
@@ -0,0 +1,20 @@
+package com.flowmind.domain.dataset.dto;
+
+import java.util.List;
+
+public record VersionDiffSummary(
+        String from,
+        String to,
+        long assetsAdded,
+        long assetsRemoved,
+        long assetsChanged,
+        long assetsUnchanged,
+        long boxesAdded,
+        long boxesRemoved,
+        long boxesMoved,
+        long boxesRelabeled,
+        List<String> classesAdded,
+        List<String> classesRemoved,
+        long unhashedAssets,        // 파일이 없어서 비교에서 빠진 Asset 수
+        long elapsedMs
+) {}
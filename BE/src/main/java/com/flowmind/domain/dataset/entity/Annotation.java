@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "annotation")
+@Table(name = "annotation", indexes = {
+        // Asset 별 클래스 집계 (asset_class_stat 갱신)
+        @Index(name = "idx_annotation_asset_class", columnList = "asset_id, class_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -35,4 +38,12 @@ public class Annotation {
 
     @Column(name = "height", nullable = false)
     private Double height;
+
+    // 모델이 제안한 박스의 confidence (사람이 그린 박스는 null)
+    @Column(name = "confidence")
+    private Double confidence;
+
+    // 동시 편집 충돌 확인용 (편집될 때마다 +1)
+    @Column(name = "revision", nullable = false)
+    private long revision;
 }
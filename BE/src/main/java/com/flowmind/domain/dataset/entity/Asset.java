@@ -7,7 +7,16 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "asset")
+@Table(name = "asset", indexes = {
+        // 버전 비교 시 content_hash 순서 커서용
+        @Index(name = "idx_asset_version_hash", columnList = "dataset_version_id, content_hash, asset_id"),
+        // 검색 필터용 (split / 박스 수 / 크기)
+        @Index(name = "idx_asset_version_split", columnList = "dataset_version_id, split, asset_id"),
+        @Index(name = "idx_asset_version_boxes", columnList = "dataset_version_id, box_count, asset_id"),
+        @Index(name = "idx_asset_version_size", columnList = "dataset_version_id, width, height"),
+        // 디스크 파일 -> Asset 역방향 조회 (저장소 점검)
+        @Index(name = "idx_asset_storage_uri", columnList = "storage_uri")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -16,6 +25,7 @@ public class Asset {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "asset_id")
     private Long assetId;
 
     // 이미지 파일 이름 (예: cat1.png)
@@ -26,6 +36,28 @@ public class Asset {
     @Column(name = "storage_uri")
     private String storageUri;
 
+    // 파일 내용 SHA-256 (hex), 버전 간 같은 이미지 매칭에 사용
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "bytes")
+    private Long bytes;
+
+    // 이미지 크기 (헤더에서 읽음, 못 읽으면 null)
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    // train / val / test
+    @Column(name = "split", length = 16)
+    private String split;
+
+    // Annotation 개수 요약 (AssetSummaryService 가 갱신)
+    @Column(name = "box_count", nullable = false)
+    private int boxCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "dataset_version_id", nullable = false)
     private DatasetVersion datasetVersion;
@@ -36,4 +68,9 @@ public class Asset {
     public void setDatasetVersion(DatasetVersion datasetVersion) {
         this.datasetVersion = datasetVersion;
     }
+
+    public void updateContent(String contentHash, Long bytes) {
+        this.contentHash = contentHash;
+        this.bytes = bytes;
+    }
 }
@@ -0,0 +1,39 @@
+package com.flowmind.domain.dataset.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Asset 별 클래스 박스 수 요약 ("cat 박스가 5개 넘는 이미지" 검색용)
+// class_id 가 이미 버전에 속하므로 버전 컬럼은 따로 두지 않음
+@Entity
+@Table(name = "asset_class_stat", indexes = {
+        @Index(name = "idx_asset_class_stat_class", columnList = "class_id, box_count, asset_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AssetClassStat {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "box_count", nullable = false)
+    private int boxCount;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "asset_id")
+        private Long assetId;
+
+        @Column(name = "class_id")
+        private Long classId;
+    }
+}
@@ -0,0 +1,43 @@
+package com.flowmind.domain.dataset.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 사전 라벨링 때 남기는 Asset 별 모델 출력 (능동 학습 샘플링용)
+// Asset 당 최신 예측 한 줄만 유지 (다시 돌리면 덮어씀)
+@Entity
+@Table(name = "asset_prediction", indexes = {
+        // 버전 단위 keyset 로드
+        @Index(name = "idx_asset_prediction_version", columnList = "dataset_version_id, asset_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AssetPrediction {
+
+    @Id
+    @Column(name = "asset_id")
+    private Long assetId;
+
+    @Column(name = "dataset_version_id", nullable = false)
+    private Long datasetVersionId;
+
+    // 예측을 만든 모델 (파일 이름)
+    @Column(name = "model_name", length = 255)
+    private String modelName;
+
+    // 클래스별 최고 score (float32 little-endian, 모델 클래스 순서)
+    // LOB 로 두면 행마다 따로 읽어서 varbinary 로 둠
+    @Column(name = "class_scores", nullable = false, length = 4096)
+    private byte[] classScores;
+
+    // 이미지 임베딩 (0~255 양자화, 차원 = 길이)
+    @Column(name = "embedding", nullable = false, length = 1024)
+    private byte[] embedding;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -31,6 +31,10 @@ public class Dataset {
     @Column(name="description")
     private String description;
 
+    // 삭제 요청 시각 (값이 있으면 목록/조회에서 빠지고 백그라운드 작업이 실제 행/파일을 지움)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "dataset", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<DatasetVersion> versions = new ArrayList<>();
 
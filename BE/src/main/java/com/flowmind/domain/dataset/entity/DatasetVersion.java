@@ -8,7 +8,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "dataset_version")
+// 같은 데이터셋 안에서 태그가 겹치지 않도록 (동시에 만든 증강 버전 등)
+@Table(name = "dataset_version", uniqueConstraints =
+        @UniqueConstraint(name = "uk_dataset_version_tag", columnNames = {"dataset_id", "version_tag"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -30,6 +32,10 @@ public class DatasetVersion {
     @JoinColumn(name = "dataset_id", nullable = false)
     private Dataset dataset;
 
+    // 삭제 요청 시각 (Dataset.deletedAt 과 같은 방식)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "datasetVersion", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Asset> assets = new ArrayList<>();
 
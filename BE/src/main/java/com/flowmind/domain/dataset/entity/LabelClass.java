@@ -11,7 +11,9 @@ import lombok.*;
 @Builder
 public class LabelClass {
 
+    // 버전 간에 공유되는 PK, 여러 인스턴스가 동시에 만들어도 겹치지 않도록 DB 가 할당
     @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "class_id")
     private Long classId;
 
@@ -0,0 +1,11 @@
+package com.flowmind.domain.dataset.inference;
+
+// 원본 이미지 기준 정규화(0~1) 좌표
+public record Detection(
+        int classIndex,
+        float score,
+        double xCenter,
+        double yCenter,
+        double width,
+        double height
+) {}
@@ -0,0 +1,23 @@
+package com.flowmind.domain.dataset.inference;
+
+import java.util.List;
+
+public interface Detector extends AutoCloseable {
+
+    // 정사각 입력 한 변 크기
+    int inputSize();
+
+    // 한 번에 넣을 수 있는 최대 배치 (배치 차원이 고정된 모델은 1)
+    int maxBatch();
+
+    // 모델에 딸린 클래스 이름 (없으면 빈 목록)
+    List<String> classNames();
+
+    default String className(int classIndex) {
+        List<String> names = classNames();
+        return classIndex < names.size() ? names.get(classIndex) : "class" + classIndex;
+    }
+
+    // 입력 순서대로 이미지별 검출 결과
+    List<List<Detection>> detect(List<PreparedImage> batch) throws Exception;
+}
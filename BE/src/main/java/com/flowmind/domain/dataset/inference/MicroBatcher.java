@@ -0,0 +1,110 @@
+package com.flowmind.domain.dataset.inference;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 개별 요청을 큐에 모았다가 maxBatch 개 또는 maxDelay 경과 시점에 묶어서 처리한다.
+ * 워커 스레드 여러 개가 같은 큐를 소비하므로 한 배치가 추론 중일 때 다음 배치가 채워진다.
+ * 큐 용량이 차면 submit 이 블록되어 생산자 쪽에 backpressure 가 걸린다.
+ */
+@Slf4j
+public class MicroBatcher<I, O> implements AutoCloseable {
+
+    private record Pending<I, O>(I input, CompletableFuture<O> future) {}
+
+    private final BlockingQueue<Pending<I, O>> queue;
+    private final Function<List<I>, List<O>> batchFn;
+    private final int maxBatch;
+    private final long maxDelayNanos;
+    private final ExecutorService workers;
+    private volatile boolean closed;
+
+    public MicroBatcher(String name, int workerCount, int maxBatch, long maxDelayMillis, int queueCapacity,
+                        Function<List<I>, List<O>> batchFn) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchFn = batchFn;
+        this.maxBatch = maxBatch;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::loop);
+        }
+    }
+
+    public CompletableFuture<O> submit(I input) throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("배처가 종료되었습니다.");
+        }
+        CompletableFuture<O> future = new CompletableFuture<>();
+        queue.put(new Pending<>(input, future));
+        return future;
+    }
+
+    private void loop() {
+        List<Pending<I, O>> batch = new ArrayList<>(maxBatch);
+        while (!closed) {
+            try {
+                Pending<I, O> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 요청 이후 maxDelay 안에 들어오는 것까지 모아서 처리
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending<I, O> next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                // 이미 취소된 요청은 추론에서 제외
+                batch.removeIf(p -> p.future().isDone());
+                if (!batch.isEmpty()) {
+                    run(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void run(List<Pending<I, O>> batch) {
+        try {
+            List<O> outputs = batchFn.apply(batch.stream().map(Pending::input).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(outputs.get(i));
+            }
+        } catch (Exception e) {
+            log.warn("배치 처리 실패 ({}건)", batch.size(), e);
+            batch.forEach(p -> p.future().completeExceptionally(e));
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        workers.shutdownNow();
+        Pending<I, O> p;
+        while ((p = queue.poll()) != null) {
+            p.future().cancel(false);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.flowmind.domain.dataset.inference;
+
+import ai.onnxruntime.*;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * YOLOv8 형식 출력([N, 4+C, A] 또는 [N, A, 4+C], 박스는 입력 픽셀 좌표 cx,cy,w,h)을 내는 ONNX 모델.
+ * OrtSession.run 은 스레드 안전하므로 여러 배치 워커가 같은 인스턴스를 공유한다.
+ */
+public class OnnxDetector implements Detector {
+
+    private static final int DEFAULT_INPUT_SIZE = 640;
+    private static final float NMS_IOU = 0.45f;
+    private static final int MAX_DETECTIONS = 100;
+
+    private final OrtEnvironment env;
+    private final OrtSession session;
+    private final String inputName;
+    private final int inputSize;
+    private final int maxBatch;
+    private final List<String> classNames;
+    private final float minScore;
+
+    public OnnxDetector(Path modelPath, int maxBatch, int intraOpThreads, float minScore) throws OrtException, IOException {
+        this.env = OrtEnvironment.getEnvironment();
+        try (OrtSession.SessionOptions options = new OrtSession.SessionOptions()) {
+            options.setIntraOpNumThreads(intraOpThreads);
+            options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+            this.session = env.createSession(modelPath.toString(), options);
+        }
+        this.inputName = session.getInputNames().iterator().next();
+        this.minScore = minScore;
+
+        long[] shape = ((TensorInfo) session.getInputInfo().get(inputName).getInfo()).getShape();
+        this.inputSize = shape.length == 4 && shape[3] > 0 ? (int) shape[3] : DEFAULT_INPUT_SIZE;
+        this.maxBatch = shape.length == 4 && shape[0] > 0 ? (int) shape[0] : maxBatch;
+        this.classNames = loadClassNames(modelPath);
+    }
+
+    @Override
+    public int inputSize() {
+        return inputSize;
+    }
+
+    @Override
+    public int maxBatch() {
+        return maxBatch;
+    }
+
+    @Override
+    public List<String> classNames() {
+        return classNames;
+    }
+
+    @Override
+    public List<List<Detection>> detect(List<PreparedImage> batch) throws OrtException {
+        int n = batch.size();
+        int plane = 3 * inputSize * inputSize;
+        FloatBuffer input = FloatBuffer.allocate(n * plane);
+        for (PreparedImage image : batch) {
+            input.put(image.chw());
+        }
+        input.flip();
+
+        try (OnnxTensor tensor = OnnxTensor.createTensor(env, input, new long[]{n, 3, inputSize, inputSize});
+             OrtSession.Result result = session.run(Map.of(inputName, tensor))) {
+            float[][][] out = (float[][][]) result.get(0).getValue();
+
+            List<List<Detection>> detections = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                detections.add(decode(out[i], batch.get(i)));
+            }
+            return detections;
+        }
+    }
+
+    private List<Detection> decode(float[][] raw, PreparedImage image) {
+        // 클래스 이름이 있으면 채널 수로, 없으면 채널 축이 앵커 축보다 작다고 가정해서 레이아웃 판별
+        boolean channelsFirst = classNames.isEmpty()
+                ? raw.length <= raw[0].length
+                : raw.length == 4 + classNames.size();
+        int anchors = channelsFirst ? raw[0].length : raw.length;
+        int channels = channelsFirst ? raw.length : raw[0].length;
+        int numClasses = channels - 4;
+
+        List<Detection> candidates = new ArrayList<>();
+        for (int a = 0; a < anchors; a++) {
+            int best = -1;
+            float bestScore = minScore;
+            for (int c = 0; c < numClasses; c++) {
+                float s = channelsFirst ? raw[4 + c][a] : raw[a][4 + c];
+                if (s >= bestScore) {
+                    bestScore = s;
+                    best = c;
+                }
+            }
+            if (best < 0) {
+                continue;
+            }
+
+            float cx = channelsFirst ? raw[0][a] : raw[a][0];
+            float cy = channelsFirst ? raw[1][a] : raw[a][1];
+            float bw = channelsFirst ? raw[2][a] : raw[a][2];
+            float bh = channelsFirst ? raw[3][a] : raw[a][3];
+
+            // letterbox 되돌리기 -> 원본 정규화 좌표
+            double x = (cx - image.padX()) / image.scale() / image.originalWidth();
+            double y = (cy - image.padY()) / image.scale() / image.originalHeight();
+            double w = bw / image.scale() / image.originalWidth();
+            double h = bh / image.scale() / image.originalHeight();
+            candidates.add(new Detection(best, bestScore, clamp(x), clamp(y), Math.min(w, 1.0), Math.min(h, 1.0)));
+        }
+        return nms(candidates);
+    }
+
+    // 클래스별 greedy NMS
+    private static List<Detection> nms(List<Detection> candidates) {
+        candidates.sort((a, b) -> Float.compare(b.score(), a.score()));
+        List<Detection> kept = new ArrayList<>();
+        for (Detection d : candidates) {
+            boolean suppressed = false;
+            for (Detection k : kept) {
+                if (k.classIndex() == d.classIndex() && iou(k, d) > NMS_IOU) {
+                    suppressed = true;
+                    break;
+                }
+            }
+            if (!suppressed) {
+                kept.add(d);
+                if (kept.size() == MAX_DETECTIONS) {
+                    break;
+                }
+            }
+        }
+        return kept;
+    }
+
+    private static double iou(Detection a, Detection b) {
+        double ix = Math.min(a.xCenter() + a.width() / 2, b.xCenter() + b.width() / 2)
+                - Math.max(a.xCenter() - a.width() / 2, b.xCenter() - b.width() / 2);
+        double iy = Math.min(a.yCenter() + a.height() / 2, b.yCenter() + b.height() / 2)
+                - Math.max(a.yCenter() - a.height() / 2, b.yCenter() - b.height() / 2);
+        if (ix <= 0 || iy <= 0) {
+            return 0;
+        }
+        double inter = ix * iy;
+        return inter / (a.width() * a.height() + b.width() * b.height() - inter);
+    }
+
+    private static double clamp(double v) {
+        return v < 0 ? 0 : v > 1 ? 1 : v;
+    }
+
+    // 모델 옆의 {모델이름}.names (YOLO 관례, 한 줄에 클래스 하나). 없으면 빈 목록
+    private static List<String> loadClassNames(Path modelPath) throws IOException {
+        String fileName = modelPath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        Path names = modelPath.resolveSibling((dot > 0 ? fileName.substring(0, dot) : fileName) + ".names");
+        if (!Files.exists(names)) {
+            return List.of();
+        }
+        return Files.readAllLines(names).stream().map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    @Override
+    public void close() throws OrtException {
+        session.close();
+    }
+}
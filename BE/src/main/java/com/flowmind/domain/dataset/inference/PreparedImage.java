@@ -0,0 +1,49 @@
+package com.flowmind.domain.dataset.inference;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+/**
+ * 모델 입력 크기로 letterbox 된 CHW float 텐서와, 결과 박스를 원본 좌표로 되돌리기 위한 정보
+ */
+public record PreparedImage(
+        float[] chw,
+        int originalWidth,
+        int originalHeight,
+        double scale,
+        double padX,
+        double padY
+) {
+    private static final int PAD_GRAY = 114;
+
+    public static PreparedImage letterbox(BufferedImage src, int size) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        double scale = Math.min((double) size / w, (double) size / h);
+        int nw = Math.max(1, (int) Math.round(w * scale));
+        int nh = Math.max(1, (int) Math.round(h * scale));
+        int px = (size - nw) / 2;
+        int py = (size - nh) / 2;
+
+        BufferedImage canvas = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = canvas.createGraphics();
+        g.setColor(new java.awt.Color(PAD_GRAY, PAD_GRAY, PAD_GRAY));
+        g.fillRect(0, 0, size, size);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(src, px, py, nw, nh, null);
+        g.dispose();
+
+        int[] pixels = ((DataBufferInt) canvas.getRaster().getDataBuffer()).getData();
+        int plane = size * size;
+        float[] chw = new float[3 * plane];
+        for (int i = 0; i < plane; i++) {
+            int p = pixels[i];
+            chw[i] = ((p >> 16) & 0xFF) / 255f;
+            chw[plane + i] = ((p >> 8) & 0xFF) / 255f;
+            chw[2 * plane + i] = (p & 0xFF) / 255f;
+        }
+        return new PreparedImage(chw, w, h, scale, px, py);
+    }
+}
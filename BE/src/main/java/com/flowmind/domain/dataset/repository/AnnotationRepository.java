@@ -0,0 +1,70 @@
+package com.flowmind.domain.dataset.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.flowmind.domain.dataset.entity.Annotation;
+
+public interface AnnotationRepository extends JpaRepository<Annotation, Long>{
+	// 배치 단위로 Asset들의 Annotation + LabelClass 한 번에 로드
+	@Query("""
+        SELECT ann
+        FROM Annotation ann
+        JOIN FETCH ann.labelClass cls
+        WHERE ann.asset.assetId IN :assetIds
+        ORDER BY ann.asset.assetId, ann.annotationId
+    """)
+    List<Annotation> findWithLabelClassByAssetIds(@Param("assetIds") Collection<Long> assetIds);
+
+	// 사람이 그린 박스(confidence IS NULL)가 하나라도 있는 Asset
+	@Query("""
+        SELECT DISTINCT ann.asset.assetId
+        FROM Annotation ann
+        WHERE ann.asset.assetId IN :assetIds
+          AND ann.confidence IS NULL
+    """)
+	List<Long> findManuallyAnnotatedAssetIds(@Param("assetIds") Collection<Long> assetIds);
+
+	// 버전 전체에서 사람이 라벨링한 Asset (assetId 순)
+	@Query("""
+        SELECT DISTINCT ann.asset.assetId
+        FROM Annotation ann
+        WHERE ann.asset.datasetVersion.datasetVersionId = :versionId
+          AND ann.confidence IS NULL
+        ORDER BY ann.asset.assetId
+    """)
+	List<Long> findManuallyAnnotatedAssetIdsInVersion(@Param("versionId") Long versionId);
+
+	// 다시 돌릴 때 이전 모델 제안만 지우고 사람이 그린 박스는 유지
+	@Modifying
+	@Query("""
+        DELETE FROM Annotation ann
+        WHERE ann.asset.assetId IN :assetIds
+          AND ann.confidence IS NOT NULL
+    """)
+	int deleteProposalsByAssetIds(@Param("assetIds") Collection<Long> assetIds);
+
+	@Modifying
+	@Query("DELETE FROM Annotation ann WHERE ann.asset.assetId IN :assetIds")
+	int deleteByAssetIds(@Param("assetIds") Collection<Long> assetIds);
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM Annotation ann WHERE ann.asset.assetId = :assetId")
+	int deleteByAssetId(@Param("assetId") Long assetId);
+
+	// 실시간 편집 방에서 처음 건드리는 박스 (다른 버전의 박스면 empty)
+	@Query("""
+        SELECT ann
+        FROM Annotation ann
+        JOIN FETCH ann.labelClass cls
+        WHERE ann.annotationId = :annotationId
+          AND ann.asset.datasetVersion.datasetVersionId = :versionId
+    """)
+	Optional<Annotation> findInVersion(@Param("annotationId") Long annotationId, @Param("versionId") Long versionId);
+}
@@ -0,0 +1,27 @@
+package com.flowmind.domain.dataset.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.flowmind.domain.dataset.entity.AssetClassStat;
+
+public interface AssetClassStatRepository extends JpaRepository<AssetClassStat, AssetClassStat.Key>{
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM AssetClassStat s WHERE s.id.assetId IN :assetIds")
+	int deleteByAssetIds(@Param("assetIds") Collection<Long> assetIds);
+
+	// annotation(asset_id, class_id) 인덱스로 집계해서 한 번에 다시 채움
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+        INSERT INTO asset_class_stat (asset_id, class_id, box_count)
+        SELECT ann.asset_id, ann.class_id, COUNT(*)
+        FROM annotation ann
+        WHERE ann.asset_id IN (:assetIds)
+        GROUP BY ann.asset_id, ann.class_id
+    """, nativeQuery = true)
+	int insertFromAnnotations(@Param("assetIds") Collection<Long> assetIds);
+}
@@ -0,0 +1,9 @@
+package com.flowmind.domain.dataset.repository;
+
+// 저장소 점검용 Asset 최소 정보 (엔티티/연관관계 로딩 없이)
+public record AssetFileRow(
+        Long assetId,
+        String storageUri,
+        Long bytes,
+        String contentHash
+) {}
@@ -0,0 +1,31 @@
+package com.flowmind.domain.dataset.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.flowmind.domain.dataset.entity.AssetPrediction;
+
+public interface AssetPredictionRepository extends JpaRepository<AssetPrediction, Long>{
+	// idx_asset_prediction_version 을 타는 assetId keyset 배치
+	@Query("""
+        SELECT new com.flowmind.domain.dataset.repository.PredictionRow(p.assetId, p.classScores, p.embedding)
+        FROM AssetPrediction p
+        WHERE p.datasetVersionId = :versionId
+          AND p.assetId > :afterId
+        ORDER BY p.assetId
+    """)
+	List<PredictionRow> findRowsAfter(
+			@Param("versionId") Long versionId,
+			@Param("afterId") Long afterId,
+			Limit limit);
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM AssetPrediction p WHERE p.assetId IN :assetIds")
+	int deleteByAssetIds(@Param("assetIds") Collection<Long> assetIds);
+}
@@ -1,15 +1,22 @@
 package com.flowmind.domain.dataset.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.flowmind.domain.dataset.diff.AssetKey;
 import com.flowmind.domain.dataset.entity.Asset;
 import com.flowmind.domain.dataset.entity.DatasetVersion;
 
-public interface AssetRepository extends JpaRepository<Asset, Long>{
+public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecificationExecutor<Asset>{
 	@Query("""
         SELECT DISTINCT a
         FROM Asset a
@@ -18,4 +25,129 @@ public interface AssetRepository extends JpaRepository<Asset, Long>{
         WHERE a.datasetVersion = :version
     """)
     List<Asset> findWithAnnotationsByDatasetVersion(@Param("version") DatasetVersion version);
+
+	// assetId 기준 keyset 페이지네이션 (대용량 버전을 배치로 순회할 때 사용)
+	List<Asset> findByDatasetVersionAndAssetIdGreaterThanOrderByAssetIdAsc(
+			DatasetVersion version, Long assetId, Limit limit);
+
+	long countByDatasetVersion(DatasetVersion version);
+
+	// (contentHash, assetId) keyset 커서: idx_asset_version_hash 를 그대로 타고 정렬 없이 읽음
+	@Query("""
+        SELECT new com.flowmind.domain.dataset.diff.AssetKey(a.assetId, a.contentHash, a.name)
+        FROM Asset a
+        WHERE a.datasetVersion.datasetVersionId = :versionId
+          AND a.contentHash IS NOT NULL
+          AND (a.contentHash > :afterHash OR (a.contentHash = :afterHash AND a.assetId > :afterId))
+        ORDER BY a.contentHash, a.assetId
+    """)
+	List<AssetKey> findKeysAfter(
+			@Param("versionId") Long versionId,
+			@Param("afterHash") String afterHash,
+			@Param("afterId") Long afterId,
+			Pageable pageable);
+
+	// 해시가 없는 (이전에 업로드된) Asset 배치
+	List<Asset> findByDatasetVersionAndContentHashIsNullAndAssetIdGreaterThanOrderByAssetIdAsc(
+			DatasetVersion version, Long assetId, Limit limit);
+
+	long countByDatasetVersionAndContentHashIsNull(DatasetVersion version);
+
+	// 비교 요약 캐시 무효화용 (Asset -> 버전)
+	@Query("SELECT DISTINCT a.datasetVersion.datasetVersionId FROM Asset a WHERE a.assetId IN :assetIds")
+	List<Long> findVersionIdsByAssetIds(@Param("assetIds") Collection<Long> assetIds);
+
+	@Modifying
+	@Query("UPDATE Asset a SET a.contentHash = :contentHash, a.bytes = :bytes WHERE a.assetId = :assetId")
+	int updateContent(
+			@Param("assetId") Long assetId,
+			@Param("contentHash") String contentHash,
+			@Param("bytes") Long bytes);
+
+	@Modifying(flushAutomatically = true)
+	@Query("""
+        UPDATE Asset a
+        SET a.boxCount = (SELECT COUNT(ann) FROM Annotation ann WHERE ann.asset = a)
+        WHERE a.assetId IN :assetIds
+    """)
+	int refreshBoxCounts(@Param("assetIds") Collection<Long> assetIds);
+
+	// 요약 컬럼이 생기기 전에 올라온 Asset 이 남아 있는지 (박스는 있는데 클래스 집계가 없거나, 크기가 비어 있음)
+	@Query("""
+        SELECT COUNT(a) > 0
+        FROM Asset a
+        WHERE a.datasetVersion.datasetVersionId = :versionId
+          AND (a.width IS NULL
+               OR (EXISTS (SELECT 1 FROM Annotation ann WHERE ann.asset.assetId = a.assetId)
+                   AND NOT EXISTS (SELECT 1 FROM AssetClassStat s WHERE s.id.assetId = a.assetId)))
+    """)
+	boolean needsSummaryBackfill(@Param("versionId") Long versionId);
+
+	@Modifying
+	@Query("UPDATE Asset a SET a.width = :width, a.height = :height WHERE a.assetId = :assetId")
+	int updateSize(
+			@Param("assetId") Long assetId,
+			@Param("width") Integer width,
+			@Param("height") Integer height);
+
+	@Modifying
+	@Query("UPDATE Asset a SET a.split = :split WHERE a.datasetVersion = :version AND a.assetId IN :assetIds")
+	int updateSplit(
+			@Param("version") DatasetVersion version,
+			@Param("assetIds") Collection<Long> assetIds,
+			@Param("split") String split);
+
+	// 전체 Asset 을 assetId 순으로 훑음 (저장소 점검)
+	@Query("""
+        SELECT new com.flowmind.domain.dataset.repository.AssetFileRow(a.assetId, a.storageUri, a.bytes, a.contentHash)
+        FROM Asset a
+        WHERE a.assetId > :afterId
+        ORDER BY a.assetId
+    """)
+	List<AssetFileRow> findFileRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	@Query("SELECT a.storageUri FROM Asset a WHERE a.storageUri IN :storageUris")
+	List<String> findExistingStorageUris(@Param("storageUris") Collection<String> storageUris);
+
+	// 요청한 사용자의 데이터셋에 속한 Asset 만
+	@Query("""
+        SELECT a
+        FROM Asset a
+        JOIN FETCH a.datasetVersion v
+        JOIN FETCH v.dataset d
+        WHERE a.assetId = :assetId
+          AND d.userId = :userId
+          AND d.deletedAt IS NULL
+          AND v.deletedAt IS NULL
+    """)
+	Optional<Asset> findOwnedById(@Param("assetId") Long assetId, @Param("userId") Long userId);
+
+	// 이미지 서빙용 (DatasetLookupCache)
+	@Query("SELECT a.storageUri FROM Asset a WHERE a.assetId = :assetId AND a.storageUri IS NOT NULL")
+	Optional<String> findStorageUriById(@Param("assetId") Long assetId);
+
+	boolean existsByAssetIdAndDatasetVersionDatasetVersionId(Long assetId, Long datasetVersionId);
+
+	// 삭제 작업: 한 버전의 Asset 을 assetId 순 배치로
+	@Query("""
+        SELECT new com.flowmind.domain.dataset.repository.AssetFileRow(a.assetId, a.storageUri, a.bytes, a.contentHash)
+        FROM Asset a
+        WHERE a.datasetVersion.datasetVersionId = :versionId
+          AND a.assetId > :afterId
+        ORDER BY a.assetId
+    """)
+	List<AssetFileRow> findFileRowsByVersionAfter(
+			@Param("versionId") Long versionId,
+			@Param("afterId") Long afterId,
+			Pageable pageable);
+
+	@Query("SELECT COUNT(a) FROM Asset a WHERE a.datasetVersion.dataset.datasetId = :datasetId")
+	long countByDatasetId(@Param("datasetId") Long datasetId);
+
+	@Query("SELECT COUNT(a) FROM Asset a WHERE a.datasetVersion.datasetVersionId = :versionId")
+	long countByVersionId(@Param("versionId") Long versionId);
+
+	@Modifying
+	@Query("DELETE FROM Asset a WHERE a.assetId IN :assetIds")
+	int deleteByAssetIds(@Param("assetIds") Collection<Long> assetIds);
 }
@@ -1,13 +1,30 @@
 package com.flowmind.domain.dataset.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-//import org.springframework.data.jpa.repository.Query;
-//import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.flowmind.domain.dataset.entity.Dataset;
 
 public interface DatasetRepository extends JpaRepository<Dataset, Long>{
-	List<Dataset> findByUserId(Long userId);
+	List<Dataset> findByUserIdAndDeletedAtIsNull(Long userId);
+
+	// 삭제 요청이 이미 들어온 것도 포함 (삭제 작업 재시작용)
+	Optional<Dataset> findByDatasetIdAndUserId(Long datasetId, Long userId);
+
+	List<Dataset> findByDeletedAtIsNotNull();
+
+	@Modifying
+	@Query("UPDATE Dataset d SET d.deletedAt = :now WHERE d.datasetId = :datasetId AND d.deletedAt IS NULL")
+	int markDeleted(@Param("datasetId") Long datasetId, @Param("now") LocalDateTime now);
+
+	// 버전/Asset 을 모두 지운 뒤 마지막에 호출 (엔티티를 읽지 않는 단건 DELETE)
+	@Modifying
+	@Query("DELETE FROM Dataset d WHERE d.datasetId = :datasetId AND d.deletedAt IS NOT NULL")
+	int purge(@Param("datasetId") Long datasetId);
 }
@@ -1,11 +1,15 @@
 package com.flowmind.domain.dataset.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.flowmind.domain.dataset.cache.VersionRef;
 import com.flowmind.domain.dataset.entity.DatasetVersion;
 
 public interface DatasetVersionRepository extends JpaRepository<DatasetVersion, Long>{
@@ -16,10 +20,74 @@ public interface DatasetVersionRepository extends JpaRepository<DatasetVersion,
         WHERE d.datasetId = :datasetId
           AND dv.versionTag = :versionTag
           AND d.userId = :userId
+          AND d.deletedAt IS NULL
+          AND dv.deletedAt IS NULL
     """)
     Optional<DatasetVersion> findByDatasetIdAndVersionAndUser(
             @Param("datasetId") Long datasetId,
             @Param("versionTag") String versionTag,
             @Param("userId") Long userId
     );
+
+	// DatasetLookupCache 용 (findByDatasetIdAndVersionAndUser 와 같은 조건)
+	@Query("""
+        SELECT new com.flowmind.domain.dataset.cache.VersionRef(
+            dv.datasetVersionId, d.datasetId, d.name, d.description, dv.versionTag, dv.createdAt)
+        FROM DatasetVersion dv
+        JOIN dv.dataset d
+        WHERE d.datasetId = :datasetId
+          AND dv.versionTag = :versionTag
+          AND d.userId = :userId
+          AND d.deletedAt IS NULL
+          AND dv.deletedAt IS NULL
+    """)
+	Optional<VersionRef> findRef(
+			@Param("datasetId") Long datasetId,
+			@Param("versionTag") String versionTag,
+			@Param("userId") Long userId);
+
+	// 삭제 중인 버전도 포함 (지워지는 중인 폴더에 같은 태그로 새 버전을 만들지 않도록)
+	@Query("SELECT dv.versionTag FROM DatasetVersion dv WHERE dv.dataset.datasetId = :datasetId")
+	List<String> findVersionTagsByDatasetId(@Param("datasetId") Long datasetId);
+
+	// WebSocket 핸드셰이크 권한 확인
+	@Query("""
+        SELECT COUNT(dv) > 0
+        FROM DatasetVersion dv
+        JOIN dv.dataset d
+        WHERE dv.datasetVersionId = :versionId
+          AND d.userId = :userId
+          AND d.deletedAt IS NULL
+          AND dv.deletedAt IS NULL
+    """)
+	boolean existsOwned(@Param("versionId") Long versionId, @Param("userId") Long userId);
+
+	// 삭제 요청이 이미 들어온 것도 포함 (삭제 작업 재시작용)
+	@Query("""
+        SELECT dv
+        FROM DatasetVersion dv
+        JOIN FETCH dv.dataset d
+        WHERE d.datasetId = :datasetId
+          AND dv.versionTag = :versionTag
+          AND d.userId = :userId
+          AND d.deletedAt IS NULL
+    """)
+	Optional<DatasetVersion> findIncludingDeleted(
+			@Param("datasetId") Long datasetId,
+			@Param("versionTag") String versionTag,
+			@Param("userId") Long userId);
+
+	List<DatasetVersion> findByDatasetDatasetId(Long datasetId);
+
+	// Dataset 은 살아 있고 버전만 삭제 요청된 것
+	@Query("SELECT dv FROM DatasetVersion dv JOIN FETCH dv.dataset d WHERE dv.deletedAt IS NOT NULL AND d.deletedAt IS NULL")
+	List<DatasetVersion> findDeletedInLiveDatasets();
+
+	@Modifying
+	@Query("UPDATE DatasetVersion dv SET dv.deletedAt = :now WHERE dv.datasetVersionId = :versionId AND dv.deletedAt IS NULL")
+	int markDeleted(@Param("versionId") Long versionId, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("DELETE FROM DatasetVersion dv WHERE dv.datasetVersionId = :versionId")
+	int purge(@Param("versionId") Long versionId);
 }
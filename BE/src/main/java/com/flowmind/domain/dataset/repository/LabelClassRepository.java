@@ -0,0 +1,31 @@
+package com.flowmind.domain.dataset.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.flowmind.domain.dataset.cache.LabelClassRef;
+import com.flowmind.domain.dataset.entity.DatasetVersion;
+import com.flowmind.domain.dataset.entity.LabelClass;
+
+public interface LabelClassRepository extends JpaRepository<LabelClass, Long>{
+	List<LabelClass> findByDatasetVersionOrderByClassIdAsc(DatasetVersion version);
+
+	Optional<LabelClass> findFirstByDatasetVersionAndName(DatasetVersion version, String name);
+
+	@Query("""
+        SELECT new com.flowmind.domain.dataset.cache.LabelClassRef(c.classId, c.name)
+        FROM LabelClass c
+        WHERE c.datasetVersion.datasetVersionId = :versionId
+        ORDER BY c.classId
+    """)
+	List<LabelClassRef> findRefsByVersionId(@Param("versionId") Long versionId);
+
+	@Modifying
+	@Query("DELETE FROM LabelClass c WHERE c.datasetVersion.datasetVersionId = :versionId")
+	int deleteByVersionId(@Param("versionId") Long versionId);
+}
@@ -0,0 +1,4 @@
+package com.flowmind.domain.dataset.repository;
+
+// 샘플링 후보 로드용 (엔티티 대신 필요한 컬럼만)
+public record PredictionRow(Long assetId, byte[] classScores, byte[] embedding) {}
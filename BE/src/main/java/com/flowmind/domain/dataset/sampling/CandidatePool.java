@@ -0,0 +1,263 @@
+package com.flowmind.domain.dataset.sampling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 한 버전의 샘플링 후보 (예측이 있는 Asset) 를 기본형 배열로 들고 있는다.
+ * - 불확실도는 만들 때 한 번 병렬로 계산하고, 방식별 정렬 순서는 처음 쓸 때 한 번만 만든다.
+ * - 라벨이 생기거나 지워지면 비트만 바꾸고 정렬은 다시 하지 않는다 (뽑을 때 라벨된 것을 건너뜀).
+ * - 다양성은 불확실도 상위 후보 안에서 greedy k-center 로 고른다.
+ */
+public final class CandidatePool {
+
+    private final long[] assetIds;          // 오름차순
+    private final float[] entropy;
+    private final float[] margin;
+    private final byte[] embeddings;        // size * dim
+    private final int dim;
+    private final BitSet labeled;           // this 로 보호
+    private final int[][] orders = new int[SamplingStrategy.values().length][];
+
+    private CandidatePool(long[] assetIds, float[] entropy, float[] margin, byte[] embeddings, int dim, BitSet labeled) {
+        this.assetIds = assetIds;
+        this.entropy = entropy;
+        this.margin = margin;
+        this.embeddings = embeddings;
+        this.dim = dim;
+        this.labeled = labeled;
+    }
+
+    public int size() {
+        return assetIds.length;
+    }
+
+    public synchronized int labeledCount() {
+        return labeled.cardinality();
+    }
+
+    public boolean contains(long assetId) {
+        return Arrays.binarySearch(assetIds, assetId) >= 0;
+    }
+
+    // 후보가 아니면 false
+    public synchronized boolean setLabeled(long assetId, boolean value) {
+        int index = Arrays.binarySearch(assetIds, assetId);
+        if (index < 0) {
+            return false;
+        }
+        labeled.set(index, value);
+        return true;
+    }
+
+    public float uncertainty(SamplingStrategy strategy, int index) {
+        return scores(strategy)[index];
+    }
+
+    private float[] scores(SamplingStrategy strategy) {
+        return strategy == SamplingStrategy.ENTROPY ? entropy : margin;
+    }
+
+    // 불확실도 내림차순 (같으면 먼저 올라온 순) 인덱스. (점수 비트 << 32 | 뒤집은 인덱스) 를 long 하나로 묶어 병렬 정렬
+    private synchronized int[] order(SamplingStrategy strategy) {
+        int[] order = orders[strategy.ordinal()];
+        if (order == null) {
+            float[] u = scores(strategy);
+            int n = u.length;
+            long[] keys = new long[n];
+            // 0 이상 float 는 비트 순서 = 값 순서
+            IntStream.range(0, n).parallel()
+                    .forEach(i -> keys[i] = ((long) Float.floatToIntBits(u[i]) << 32) | (n - 1 - i));
+            Arrays.parallelSort(keys);
+            order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = n - 1 - (int) keys[n - 1 - i];
+            }
+            orders[strategy.ordinal()] = order;
+        }
+        return order;
+    }
+
+    /**
+     * @param shortlist      다양성 계산 대상 (불확실도 상위 몇 개까지 볼지)
+     * @param maxAnchors     라벨된 이미지 중 거리 비교에 쓸 최대 개수 (고르게 건너뛰며 선택)
+     * @param diversityWeight 0 이면 불확실도 순 그대로, 1 이면 거리만 본다
+     */
+    public List<SamplePick> select(SamplingStrategy strategy, int k, int shortlist, int maxAnchors,
+                                   double diversityWeight) {
+        BitSet snapshot;
+        synchronized (this) {
+            snapshot = (BitSet) labeled.clone();
+        }
+        float[] u = scores(strategy);
+        int[] order = order(strategy);
+
+        int unlabeled = size() - snapshot.cardinality();
+        int[] candidates = new int[Math.min(Math.max(shortlist, k), unlabeled)];
+        int m = 0;
+        for (int i = 0; i < order.length && m < candidates.length; i++) {
+            if (!snapshot.get(order[i])) {
+                candidates[m++] = order[i];
+            }
+        }
+
+        // 라벨된 이미지까지의 최소 거리 (제곱, 정수)
+        int[] anchors = anchors(snapshot, maxAnchors);
+        long[] minDist = new long[m];
+        IntStream.range(0, m).parallel().forEach(i -> {
+            long best = Long.MAX_VALUE;
+            for (int a : anchors) {
+                best = Math.min(best, distance(candidates[i], a));
+            }
+            minDist[i] = best;
+        });
+
+        double maxPossible = 255.0 * Math.sqrt(dim);
+        boolean[] chosen = new boolean[m];
+        List<SamplePick> picks = new ArrayList<>(Math.min(k, m));
+        for (int step = 0; step < Math.min(k, m); step++) {
+            // 거리는 남은 후보 중 최댓값으로 나눠 불확실도와 같은 0~1 범위로 맞춤
+            long farthest = 0;
+            for (int i = 0; i < m; i++) {
+                if (!chosen[i] && minDist[i] != Long.MAX_VALUE) {
+                    farthest = Math.max(farthest, minDist[i]);
+                }
+            }
+            double farthestSqrt = Math.sqrt(farthest);
+            int best = -1;
+            double bestScore = -1;
+            for (int i = 0; i < m; i++) {
+                if (chosen[i]) {
+                    continue;
+                }
+                double d = minDist[i] == Long.MAX_VALUE ? 1.0
+                        : farthestSqrt == 0 ? 0.0 : Math.sqrt(minDist[i]) / farthestSqrt;
+                double score = (1 - diversityWeight) * u[candidates[i]] + diversityWeight * d;
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            chosen[best] = true;
+            int picked = candidates[best];
+            float diversity = minDist[best] == Long.MAX_VALUE ? 1f
+                    : (float) Math.min(1.0, Math.sqrt(minDist[best]) / maxPossible);
+            picks.add(new SamplePick(assetIds[picked], u[picked], diversity));
+
+            IntStream.range(0, m).parallel().forEach(i -> {
+                if (!chosen[i]) {
+                    minDist[i] = Math.min(minDist[i], distance(candidates[i], picked));
+                }
+            });
+        }
+        return picks;
+    }
+
+    private static int[] anchors(BitSet labeledSet, int maxAnchors) {
+        int count = labeledSet.cardinality();
+        if (count == 0 || maxAnchors <= 0) {
+            return new int[0];
+        }
+        int stride = (count + maxAnchors - 1) / maxAnchors;
+        int[] anchors = new int[(count + stride - 1) / stride];
+        int n = 0;
+        int seen = 0;
+        for (int i = labeledSet.nextSetBit(0); i >= 0; i = labeledSet.nextSetBit(i + 1)) {
+            if (seen++ % stride == 0) {
+                anchors[n++] = i;
+            }
+        }
+        return anchors;
+    }
+
+    private long distance(int a, int b) {
+        int ao = a * dim;
+        int bo = b * dim;
+        long sum = 0;
+        for (int j = 0; j < dim; j++) {
+            int diff = (embeddings[ao + j] & 0xFF) - (embeddings[bo + j] & 0xFF);
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * assetId 오름차순으로 add 한다. 임베딩 차원이 처음 것과 다른 행은 건너뛴다.
+     * 클래스 score 는 build 에서 불확실도로 바꾼 뒤 버린다.
+     */
+    public static final class Builder {
+
+        private long[] assetIds = new long[1024];
+        private int[] scoreOffsets = new int[1025];
+        private float[] scores = new float[1024 * 8];
+        private byte[] embeddings = new byte[1024 * PredictionVectors.EMBEDDING_DIM];
+        private int dim = -1;
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(long assetId, byte[] classScores, byte[] embedding) {
+            if (dim < 0) {
+                dim = embedding.length;
+            }
+            if (embedding.length != dim || embedding.length == 0) {
+                return this;
+            }
+            if (size == assetIds.length) {
+                assetIds = Arrays.copyOf(assetIds, size * 2);
+                scoreOffsets = Arrays.copyOf(scoreOffsets, size * 2 + 1);
+            }
+            int offset = scoreOffsets[size];
+            int needed = offset + classScores.length / 4;
+            if (needed > scores.length) {
+                scores = Arrays.copyOf(scores, Math.max(needed, scores.length * 2));
+            }
+            if ((size + 1) * dim > embeddings.length) {
+                embeddings = Arrays.copyOf(embeddings, Math.max((size + 1) * dim, embeddings.length * 2));
+            }
+            assetIds[size] = assetId;
+            scoreOffsets[size + 1] = offset + PredictionVectors.decodeScores(classScores, scores, offset);
+            System.arraycopy(embedding, 0, embeddings, size * dim, dim);
+            size++;
+            return this;
+        }
+
+        // labeledAssetIds: 오름차순
+        public CandidatePool build(long[] labeledAssetIds) {
+            int n = size;
+            long[] ids = Arrays.copyOf(assetIds, n);
+            float[] entropy = new float[n];
+            float[] margin = new float[n];
+            int[] offsets = scoreOffsets;
+            float[] flat = scores;
+            IntStream.range(0, n).parallel().forEach(i -> {
+                int from = offsets[i];
+                int count = offsets[i + 1] - from;
+                entropy[i] = PredictionVectors.entropy(flat, from, count);
+                margin[i] = PredictionVectors.margin(flat, from, count);
+            });
+
+            // 두 정렬 배열을 한 번에 훑어서 표시
+            BitSet labeled = new BitSet(n);
+            int j = 0;
+            for (int i = 0; i < n && j < labeledAssetIds.length; i++) {
+                while (j < labeledAssetIds.length && labeledAssetIds[j] < ids[i]) {
+                    j++;
+                }
+                if (j < labeledAssetIds.length && labeledAssetIds[j] == ids[i]) {
+                    labeled.set(i);
+                }
+            }
+            int d = Math.max(dim, 0);
+            return new CandidatePool(ids, entropy, margin, Arrays.copyOf(embeddings, n * d), d, labeled);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.flowmind.domain.dataset.sampling;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import com.flowmind.domain.dataset.inference.Detection;
+import com.flowmind.domain.dataset.inference.PreparedImage;
+
+/**
+ * AssetPrediction 에 저장하는 벡터 인코딩과 불확실도 계산.
+ * 디텍터 출력에는 특징 벡터가 없어서, 임베딩은 letterbox 입력을 GRID x GRID 칸으로 평균 낸 색상 값으로 대신한다.
+ */
+public final class PredictionVectors {
+
+    public static final int GRID = 4;
+    public static final int EMBEDDING_DIM = 3 * GRID * GRID;
+
+    private PredictionVectors() {
+    }
+
+    // 클래스별 최고 score
+    public static byte[] classScores(List<Detection> detections, int classCount) {
+        int count = classCount;
+        for (Detection d : detections) {
+            count = Math.max(count, d.classIndex() + 1);
+        }
+        float[] scores = new float[count];
+        for (Detection d : detections) {
+            scores[d.classIndex()] = Math.max(scores[d.classIndex()], d.score());
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(4 * count).order(ByteOrder.LITTLE_ENDIAN);
+        for (float s : scores) {
+            buffer.putFloat(s);
+        }
+        return buffer.array();
+    }
+
+    public static byte[] embed(PreparedImage image) {
+        float[] chw = image.chw();
+        int size = (int) Math.round(Math.sqrt(chw.length / 3.0));
+        int plane = size * size;
+        byte[] embedding = new byte[EMBEDDING_DIM];
+        for (int c = 0; c < 3; c++) {
+            for (int gy = 0; gy < GRID; gy++) {
+                int y0 = gy * size / GRID;
+                int y1 = (gy + 1) * size / GRID;
+                for (int gx = 0; gx < GRID; gx++) {
+                    int x0 = gx * size / GRID;
+                    int x1 = (gx + 1) * size / GRID;
+                    double sum = 0;
+                    for (int y = y0; y < y1; y++) {
+                        int row = c * plane + y * size;
+                        for (int x = x0; x < x1; x++) {
+                            sum += chw[row + x];
+                        }
+                    }
+                    double mean = sum / Math.max(1, (y1 - y0) * (x1 - x0));
+                    embedding[(c * GRID + gy) * GRID + gx] = (byte) Math.round(Math.min(1.0, mean) * 255);
+                }
+            }
+        }
+        return embedding;
+    }
+
+    // dst[offset..] 에 풀어 넣고 클래스 수를 반환
+    public static int decodeScores(byte[] src, float[] dst, int offset) {
+        ByteBuffer buffer = ByteBuffer.wrap(src).order(ByteOrder.LITTLE_ENDIAN);
+        int count = src.length / 4;
+        for (int i = 0; i < count; i++) {
+            dst[offset + i] = buffer.getFloat();
+        }
+        return count;
+    }
+
+    /*
+     * 클래스 score 를 (클래스들 + 배경) 분포로 본다. 배경 몫 = 1 - 최고 score.
+     * 아무것도 못 찾은 이미지는 배경 확률 1 이라 불확실도 0.
+     */
+
+    // 0~1 로 정규화한 엔트로피
+    public static float entropy(float[] scores, int offset, int count) {
+        if (count == 0) {
+            return 0f;
+        }
+        float max = 0f;
+        float sum = 0f;
+        for (int i = offset; i < offset + count; i++) {
+            float s = clamp(scores[i]);
+            max = Math.max(max, s);
+            sum += s;
+        }
+        float background = 1f - max;
+        float total = sum + background;
+        if (total <= 0f) {
+            return 0f;
+        }
+        double h = term(background / total);
+        for (int i = offset; i < offset + count; i++) {
+            h += term(clamp(scores[i]) / total);
+        }
+        return clamp((float) (h / Math.log(count + 1)));
+    }
+
+    public static float margin(float[] scores, int offset, int count) {
+        float max = 0f;
+        float sum = 0f;
+        for (int i = offset; i < offset + count; i++) {
+            float s = clamp(scores[i]);
+            max = Math.max(max, s);
+            sum += s;
+        }
+        float background = 1f - max;
+        float total = sum + background;
+        if (total <= 0f) {
+            return 0f;
+        }
+        float first = background;
+        float second = 0f;
+        for (int i = offset; i < offset + count; i++) {
+            float s = clamp(scores[i]);
+            if (s > first) {
+                second = first;
+                first = s;
+            } else if (s > second) {
+                second = s;
+            }
+        }
+        return clamp(1f - (first - second) / total);
+    }
+
+    private static double term(double p) {
+        return p <= 0 ? 0 : -p * Math.log(p);
+    }
+
+    private static float clamp(float v) {
+        return Float.isNaN(v) ? 0f : Math.max(0f, Math.min(1f, v));
+    }
+}
@@ -0,0 +1,8 @@
+package com.flowmind.domain.dataset.sampling;
+
+// diversity = 이미 라벨링됐거나 앞서 뽑힌 이미지까지의 최소 임베딩 거리 (0~1, 비교 대상이 없으면 1)
+public record SamplePick(
+        long assetId,
+        float uncertainty,
+        float diversity
+) {}
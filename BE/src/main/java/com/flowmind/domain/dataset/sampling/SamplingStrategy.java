@@ -0,0 +1,16 @@
+package com.flowmind.domain.dataset.sampling;
+
+import java.util.Locale;
+
+public enum SamplingStrategy {
+    ENTROPY,    // 클래스 분포(배경 포함) 엔트로피
+    MARGIN;     // 1 - (1위 확률 - 2위 확률)
+
+    public static SamplingStrategy from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 샘플링 방식입니다: " + value);
+        }
+    }
+}
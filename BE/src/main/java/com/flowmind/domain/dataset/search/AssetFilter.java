@@ -0,0 +1,31 @@
+package com.flowmind.domain.dataset.search;
+
+// 검색어 한 항목
+public sealed interface AssetFilter {
+
+    // class:cat, class:cat>5, -class:dog
+    record ClassCount(String className, Comparison comparison, int count, boolean negated) implements AssetFilter {}
+
+    // boxes:0, width>1920, height<=720
+    record Numeric(Field field, Comparison comparison, int value) implements AssetFilter {}
+
+    // split:val, -split:train
+    record Split(String split, boolean negated) implements AssetFilter {}
+
+    // name:frame_ (접두사)
+    record NamePrefix(String prefix) implements AssetFilter {}
+
+    enum Field {
+        BOXES("boxCount"), WIDTH("width"), HEIGHT("height");
+
+        private final String attribute;
+
+        Field(String attribute) {
+            this.attribute = attribute;
+        }
+
+        public String attribute() {
+            return attribute;
+        }
+    }
+}
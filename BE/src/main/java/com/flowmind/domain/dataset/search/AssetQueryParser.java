@@ -0,0 +1,114 @@
+package com.flowmind.domain.dataset.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자산 검색어 파서. 공백으로 구분된 항목은 모두 AND 로 묶인다.
+ *
+ * <pre>
+ * unlabeled                  박스 없는 이미지 (= boxes:0)
+ * class:cat                  cat 박스가 1개 이상
+ * class:cat>5                cat 박스가 5개 초과 (>=, <, <=, =, != 가능)
+ * class:"traffic light"      공백 있는 이름은 따옴표
+ * -class:dog                 dog 박스가 없는 이미지
+ * boxes>=3  width>1920  height<=720
+ * split:val  -split:train
+ * name:frame_                파일 이름 접두사
+ * </pre>
+ */
+public final class AssetQueryParser {
+
+    private static final Pattern TOKEN = Pattern.compile("\\S*\"[^\"]*\"\\S*|\\S+");
+    private static final Pattern TERM = Pattern.compile("(-?)([a-zA-Z]+)(!=|>=|<=|[:=<>])(.+)");
+    private static final Pattern CLASS_VALUE = Pattern.compile("(\"[^\"]*\"|[^<>=!]+)(?:(!=|>=|<=|[=<>])(\\d+))?");
+
+    private AssetQueryParser() {
+    }
+
+    public static List<AssetFilter> parse(String query) {
+        List<AssetFilter> filters = new ArrayList<>();
+        if (query == null || query.isBlank()) {
+            return filters;
+        }
+        Matcher tokens = TOKEN.matcher(query.trim());
+        while (tokens.find()) {
+            filters.add(parseTerm(tokens.group()));
+        }
+        return filters;
+    }
+
+    private static AssetFilter parseTerm(String token) {
+        if (token.equalsIgnoreCase("unlabeled")) {
+            return new AssetFilter.Numeric(AssetFilter.Field.BOXES, Comparison.EQ, 0);
+        }
+        Matcher m = TERM.matcher(token);
+        if (!m.matches()) {
+            throw new IllegalArgumentException("검색어를 해석할 수 없습니다: " + token);
+        }
+        boolean negated = !m.group(1).isEmpty();
+        String field = m.group(2).toLowerCase(Locale.ROOT);
+        String op = m.group(3);
+        String value = m.group(4);
+
+        return switch (field) {
+            case "class" -> parseClass(token, negated, op, value);
+            case "split" -> {
+                requireEquality(token, op);
+                yield new AssetFilter.Split(unquote(value).toLowerCase(Locale.ROOT), negated);
+            }
+            case "name" -> {
+                requireEquality(token, op);
+                if (negated) {
+                    throw new IllegalArgumentException("name 은 부정(-)을 지원하지 않습니다: " + token);
+                }
+                yield new AssetFilter.NamePrefix(unquote(value));
+            }
+            case "boxes", "width", "height" -> {
+                if (negated) {
+                    throw new IllegalArgumentException("숫자 조건은 부정(-) 대신 비교 연산자를 사용하세요: " + token);
+                }
+                AssetFilter.Field f = AssetFilter.Field.valueOf(field.equals("boxes") ? "BOXES" : field.toUpperCase(Locale.ROOT));
+                yield new AssetFilter.Numeric(f, Comparison.of(op), parseInt(token, value));
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 검색 필드: " + field);
+        };
+    }
+
+    private static AssetFilter parseClass(String token, boolean negated, String op, String value) {
+        requireEquality(token, op);
+        Matcher m = CLASS_VALUE.matcher(value);
+        if (!m.matches()) {
+            throw new IllegalArgumentException("검색어를 해석할 수 없습니다: " + token);
+        }
+        String name = unquote(m.group(1));
+        if (m.group(2) == null) {
+            return new AssetFilter.ClassCount(name, Comparison.GE, 1, negated);
+        }
+        return new AssetFilter.ClassCount(name, Comparison.of(m.group(2)), parseInt(token, m.group(3)), negated);
+    }
+
+    private static void requireEquality(String token, String op) {
+        if (!op.equals(":") && !op.equals("=")) {
+            throw new IllegalArgumentException("':' 로 값을 지정하세요: " + token);
+        }
+    }
+
+    private static int parseInt(String token, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닙니다: " + token);
+        }
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,75 @@
+package com.flowmind.domain.dataset.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.flowmind.domain.dataset.entity.Asset;
+import com.flowmind.domain.dataset.entity.AssetClassStat;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+// 검색 필터 -> Asset 조건. 모든 조건은 인덱스 선두 컬럼(dataset_version_id / class_id)에 걸리도록 만든다.
+public final class AssetSpecifications {
+
+    private AssetSpecifications() {
+    }
+
+    /**
+     * @param classIds 버전의 클래스 이름 -> classId (없는 이름은 결과가 비거나 조건이 무시됨)
+     */
+    public static Specification<Asset> search(Long versionId, long afterAssetId, List<AssetFilter> filters,
+                                              Map<String, Long> classIds) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("datasetVersion").get("datasetVersionId"), versionId));
+            predicates.add(cb.gt(root.get("assetId"), afterAssetId));
+
+            for (AssetFilter filter : filters) {
+                switch (filter) {
+                    case AssetFilter.Numeric n ->
+                            predicates.add(n.comparison().toPredicate(cb, root.get(n.field().attribute()), n.value()));
+                    case AssetFilter.Split s -> {
+                        Predicate eq = cb.equal(root.get("split"), s.split());
+                        predicates.add(s.negated() ? cb.or(cb.isNull(root.get("split")), cb.not(eq)) : eq);
+                    }
+                    case AssetFilter.NamePrefix p ->
+                            predicates.add(cb.like(root.get("name"), escapeLike(p.prefix()) + "%", '\\'));
+                    case AssetFilter.ClassCount c ->
+                            predicates.add(classPredicate(root, query, cb, c, classIds.get(c.className())));
+                }
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static Predicate classPredicate(Root<Asset> root, CriteriaQuery<?> query,
+                                            CriteriaBuilder cb, AssetFilter.ClassCount filter, Long classId) {
+        // 박스 0개 = asset_class_stat 행 없음. 0개가 조건을 만족하면 "반대 조건 행이 없다"로 바꿔서 찾는다.
+        boolean zeroMatches = filter.comparison().test(0, filter.count());
+        boolean wantExists = zeroMatches == filter.negated();
+        if (classId == null) {
+            // 버전에 없는 클래스: 모든 Asset 의 박스 수가 0
+            return wantExists ? cb.disjunction() : cb.conjunction();
+        }
+        Comparison comparison = zeroMatches ? filter.comparison().opposite() : filter.comparison();
+
+        Subquery<Long> sub = query.subquery(Long.class);
+        Root<AssetClassStat> stat = sub.from(AssetClassStat.class);
+        sub.select(stat.get("id").get("assetId")).where(
+                cb.equal(stat.get("id").get("classId"), classId),
+                cb.equal(stat.get("id").get("assetId"), root.get("assetId")),
+                comparison.toPredicate(cb, stat.get("boxCount"), filter.count()));
+        return wantExists ? cb.exists(sub) : cb.not(cb.exists(sub));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
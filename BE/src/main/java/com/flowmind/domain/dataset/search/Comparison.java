@@ -0,0 +1,54 @@
+package com.flowmind.domain.dataset.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+public enum Comparison {
+    EQ, NE, GT, GE, LT, LE;
+
+    static Comparison of(String op) {
+        return switch (op) {
+            case ":", "=" -> EQ;
+            case "!=" -> NE;
+            case ">" -> GT;
+            case ">=" -> GE;
+            case "<" -> LT;
+            case "<=" -> LE;
+            default -> throw new IllegalArgumentException("지원하지 않는 비교 연산자: " + op);
+        };
+    }
+
+    public Comparison opposite() {
+        return switch (this) {
+            case EQ -> NE;
+            case NE -> EQ;
+            case GT -> LE;
+            case GE -> LT;
+            case LT -> GE;
+            case LE -> GT;
+        };
+    }
+
+    public boolean test(int actual, int value) {
+        return switch (this) {
+            case EQ -> actual == value;
+            case NE -> actual != value;
+            case GT -> actual > value;
+            case GE -> actual >= value;
+            case LT -> actual < value;
+            case LE -> actual <= value;
+        };
+    }
+
+    public Predicate toPredicate(CriteriaBuilder cb, Expression<Integer> expr, int value) {
+        return switch (this) {
+            case EQ -> cb.equal(expr, value);
+            case NE -> cb.notEqual(expr, value);
+            case GT -> cb.gt(expr, value);
+            case GE -> cb.ge(expr, value);
+            case LT -> cb.lt(expr, value);
+            case LE -> cb.le(expr, value);
+        };
+    }
+}
@@ -0,0 +1,171 @@
+package com.flowmind.domain.dataset.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.cache.VersionRef;
+import com.flowmind.domain.dataset.dto.ActiveLearningResponse;
+import com.flowmind.domain.dataset.entity.Asset;
+import com.flowmind.domain.dataset.repository.AnnotationRepository;
+import com.flowmind.domain.dataset.repository.AssetPredictionRepository;
+import com.flowmind.domain.dataset.repository.AssetRepository;
+import com.flowmind.domain.dataset.repository.PredictionRow;
+import com.flowmind.domain.dataset.sampling.CandidatePool;
+import com.flowmind.domain.dataset.sampling.SamplePick;
+import com.flowmind.domain.dataset.sampling.SamplingStrategy;
+import com.flowmind.util.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다음에 라벨링할 Asset 추천 (불확실도 + 다양성).
+ * 버전별 후보 풀은 처음 요청 때 asset_prediction 에서 만들어 캐시하고,
+ * 라벨 변경은 AssetSummaryService 에서 넘어온 assetId 로 비트만 갱신한다.
+ * 예측을 다시 저장하거나 버전을 지우면 풀을 버린다.
+ * 비트 갱신은 이 인스턴스에서 저장한 라벨만 반영하므로, 다른 인스턴스의 변경은 expire-minutes 뒤 다시 로드할 때 반영된다.
+ */
+@Slf4j
+@Service
+public class ActiveLearningService {
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    private final AssetPredictionRepository assetPredictionRepository;
+    private final AnnotationRepository annotationRepository;
+    private final AssetRepository assetRepository;
+    private final DatasetLookupCache datasetLookupCache;
+
+    private final Cache<Long, CandidatePool> pools;
+
+    @Value("${app.active-learning.max-k:500}")
+    private int maxK;
+
+    // 불확실도 상위 k * shortlist-factor 개 안에서 다양성 선택
+    @Value("${app.active-learning.shortlist-factor:20}")
+    private int shortlistFactor;
+
+    @Value("${app.active-learning.max-anchors:2048}")
+    private int maxAnchors;
+
+    @Value("${app.active-learning.diversity-weight:0.5}")
+    private double diversityWeight;
+
+    public ActiveLearningService(AssetPredictionRepository assetPredictionRepository,
+                                 AnnotationRepository annotationRepository,
+                                 AssetRepository assetRepository,
+                                 DatasetLookupCache datasetLookupCache,
+                                 @Value("${app.active-learning.cached-versions:8}") long cachedVersions,
+                                 @Value("${app.active-learning.expire-minutes:10}") long expireMinutes) {
+        this.assetPredictionRepository = assetPredictionRepository;
+        this.annotationRepository = annotationRepository;
+        this.assetRepository = assetRepository;
+        this.datasetLookupCache = datasetLookupCache;
+        this.pools = Caffeine.newBuilder()
+                .maximumSize(cachedVersions)
+                // 계속 조회돼도 만든 지 expire-minutes 가 지나면 다시 로드 (다른 인스턴스의 라벨/예측 반영)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    public ActiveLearningResponse recommend(Long datasetId, String versionTag, Long userId,
+                                            String strategyName, int k) {
+        VersionRef version = datasetLookupCache.version(datasetId, versionTag, userId)
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
+        SamplingStrategy strategy = SamplingStrategy.from(strategyName);
+        if (k < 1 || k > maxK) {
+            throw new IllegalArgumentException("k 는 1 이상 " + maxK + " 이하여야 합니다.");
+        }
+
+        CandidatePool pool = pools.get(version.versionId(), this::load);
+        List<SamplePick> picks = pool.select(strategy, k, k * shortlistFactor, maxAnchors, diversityWeight);
+
+        Map<Long, Asset> assets = assetRepository.findAllById(picks.stream().map(SamplePick::assetId).toList())
+                .stream().collect(Collectors.toMap(Asset::getAssetId, Function.identity()));
+        List<ActiveLearningResponse.Item> items = new ArrayList<>(picks.size());
+        for (SamplePick pick : picks) {
+            Asset asset = assets.get(pick.assetId());
+            if (asset == null) {
+                continue;
+            }
+            items.add(new ActiveLearningResponse.Item(
+                    asset.getAssetId(),
+                    asset.getName(),
+                    "/api/datasets/assets/" + asset.getAssetId() + "/image",
+                    pick.uncertainty(),
+                    pick.diversity()));
+        }
+        return new ActiveLearningResponse(strategy.name().toLowerCase(), pool.size(), pool.labeledCount(), items);
+    }
+
+    private CandidatePool load(Long versionId) {
+        long started = System.nanoTime();
+        CandidatePool.Builder builder = CandidatePool.builder();
+        long lastId = 0L;
+        while (true) {
+            List<PredictionRow> rows = assetPredictionRepository.findRowsAfter(versionId, lastId, Limit.of(LOAD_BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (PredictionRow row : rows) {
+                builder.add(row.assetId(), row.classScores(), row.embedding());
+            }
+            lastId = rows.get(rows.size() - 1).assetId();
+        }
+        long[] labeled = annotationRepository.findManuallyAnnotatedAssetIdsInVersion(versionId).stream()
+                .mapToLong(Long::longValue).toArray();
+        CandidatePool pool = builder.build(labeled);
+        log.info("능동 학습 후보 로드: version={} {}개 (라벨 {}), {}ms", versionId, pool.size(), pool.labeledCount(),
+                (System.nanoTime() - started) / 1_000_000);
+        return pool;
+    }
+
+    // 박스가 바뀐 Asset 들의 라벨 여부를 캐시된 풀에 반영 (커밋 후)
+    public void labelsChanged(Collection<Long> assetIds) {
+        AfterCommit.run(() -> {
+            if (pools.estimatedSize() == 0) {
+                return;
+            }
+            List<CandidatePool> affected = new ArrayList<>();
+            Set<Long> touched = new HashSet<>();
+            for (CandidatePool pool : pools.asMap().values()) {
+                boolean hit = false;
+                for (Long assetId : assetIds) {
+                    if (pool.contains(assetId)) {
+                        touched.add(assetId);
+                        hit = true;
+                    }
+                }
+                if (hit) {
+                    affected.add(pool);
+                }
+            }
+            if (touched.isEmpty()) {
+                return;
+            }
+            Set<Long> manual = new HashSet<>(annotationRepository.findManuallyAnnotatedAssetIds(touched));
+            for (CandidatePool pool : affected) {
+                for (Long assetId : touched) {
+                    pool.setLabeled(assetId, manual.contains(assetId));
+                }
+            }
+        });
+    }
+
+    public void evict(Collection<Long> versionIds) {
+        AfterCommit.run(() -> pools.invalidateAll(versionIds));
+    }
+}
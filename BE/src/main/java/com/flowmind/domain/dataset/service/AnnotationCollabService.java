@@ -0,0 +1,253 @@
+package com.flowmind.domain.dataset.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.cache.LabelClassRef;
+import com.flowmind.domain.dataset.collab.AnnotationBatchWriter;
+import com.flowmind.domain.dataset.collab.BoxState;
+import com.flowmind.domain.dataset.collab.CollabMessage;
+import com.flowmind.domain.dataset.collab.PendingWrite;
+import com.flowmind.domain.dataset.collab.VersionRoom;
+import com.flowmind.domain.dataset.entity.Annotation;
+import com.flowmind.domain.dataset.repository.AnnotationRepository;
+import com.flowmind.domain.dataset.repository.AssetRepository;
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 버전별 실시간 편집 방 관리.
+ * 편집은 메모리에서 바로 브로드캐스트하고, DB 는 flush-interval 마다 방별로 모아서 한 트랜잭션에 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnnotationCollabService implements VersionRoom.Loader {
+
+    private final Map<Long, VersionRoom> rooms = new ConcurrentHashMap<>();
+
+    private final AnnotationRepository annotationRepository;
+    private final AssetRepository assetRepository;
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final LabelClassService labelClassService;
+    private final DatasetLookupCache datasetLookupCache;
+    private final AssetSummaryService assetSummaryService;
+    private final AnnotationBatchWriter annotationBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 같은 배치가 이만큼 연속으로 실패하면 변경을 하나씩 따로 써서 실패하는 것만 버림
+    @Value("${app.collab.max-flush-attempts:3}")
+    private int maxFlushAttempts;
+
+    public void join(Long versionId, Long userId, WebSocketSession session) {
+        // compute 는 같은 키의 flush 정리(computeIfPresent)와 겹치지 않음
+        rooms.compute(versionId, (id, room) -> {
+            VersionRoom target = room != null ? room : new VersionRoom(id, this, objectMapper);
+            target.join(session, userId);
+            return target;
+        });
+    }
+
+    public void leave(Long versionId, String sessionId) {
+        VersionRoom room = rooms.get(versionId);
+        if (room != null) {
+            room.leave(sessionId);
+        }
+    }
+
+    public void handle(Long versionId, String sessionId, CollabMessage message) {
+        VersionRoom room = rooms.get(versionId);
+        if (room != null) {
+            room.handle(sessionId, message);
+        }
+    }
+
+    // REST 저장 / 사전 라벨링으로 박스가 바뀐 이미지 (커밋 후 알림)
+    public void invalidate(Long versionId, Collection<Long> assetIds) {
+        if (assetIds.isEmpty() || !rooms.containsKey(versionId)) {
+            return;
+        }
+        Runnable task = () -> {
+            VersionRoom room = rooms.get(versionId);
+            if (room != null) {
+                room.invalidate(assetIds);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // 삭제된 버전의 방 닫기
+    public void close(Collection<Long> versionIds) {
+        for (Long versionId : versionIds) {
+            VersionRoom room = rooms.remove(versionId);
+            if (room != null) {
+                room.close();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.collab.flush-interval-ms:500}")
+    @PreDestroy
+    public void flush() {
+        for (Long versionId : rooms.keySet()) {
+            VersionRoom room = rooms.get(versionId);
+            if (room != null) {
+                flush(versionId, room);
+            }
+            // 아무도 없고 쓸 것도 없는 방 정리
+            rooms.computeIfPresent(versionId, (id, r) -> r.isIdle() ? null : r);
+        }
+    }
+
+    // rejected: revision 조건에 걸렸거나 따로 써 봐도 실패해서 버리는 변경
+    private record FlushOutcome(Map<Long, Long> assignedIds, Map<String, Long> createdClassIds,
+                                List<PendingWrite> rejected) {}
+
+    private void flush(Long versionId, VersionRoom room) {
+        List<PendingWrite> writes = room.drain();
+        if (writes.isEmpty()) {
+            return;
+        }
+        FlushOutcome outcome;
+        try {
+            outcome = write(versionId, writes);
+        } catch (RuntimeException e) {
+            int attempts = room.flushFailed();
+            if (attempts < maxFlushAttempts) {
+                log.warn("박스 변경 저장 실패, 다음 주기에 재시도: {}건 ({})", writes.size(), e.getMessage());
+                room.requeue(writes);
+                return;
+            }
+            // 같은 배치가 계속 실패하면 문제 있는 변경 하나가 방 전체를 막고 있을 수 있으므로 하나씩 따로 씀
+            log.warn("박스 변경 {}회 연속 저장 실패, 하나씩 따로 저장: version={} {}건", attempts, versionId, writes.size());
+            outcome = writeEach(versionId, room, writes);
+            if (outcome == null) {
+                return;
+            }
+        }
+        room.flushed(outcome.assignedIds(), outcome.createdClassIds());
+
+        List<PendingWrite> rejected = outcome.rejected();
+        if (!rejected.isEmpty()) {
+            log.info("박스 변경 반영 못 함: version={} {}건", versionId, rejected.size());
+            // DB 의 현재 상태는 방 lock 밖에서 읽음 (null = 지워짐, 임시 id 는 DB 에 없음)
+            Map<Long, BoxState> current = new HashMap<>();
+            for (PendingWrite w : rejected) {
+                long id = w.state().annotationId();
+                current.put(id, id < 0 ? null : loadBox(versionId, id));
+            }
+            room.conflicted(current);
+        }
+    }
+
+    private FlushOutcome write(Long versionId, List<PendingWrite> writes) {
+        return transactionTemplate.execute(status -> {
+            // 방에서 처음 쓰인 라벨의 LabelClass 는 실제로 저장할 때 만듦
+            Map<String, Long> created = new HashMap<>();
+            List<PendingWrite> resolved = new ArrayList<>(writes.size());
+            for (PendingWrite w : writes) {
+                BoxState state = w.state();
+                if (state.classId() == null) {
+                    Long classId = created.computeIfAbsent(state.label(), label -> labelClassService
+                            .resolveOrCreate(datasetVersionRepository.getReferenceById(versionId), label)
+                            .getClassId());
+                    state = state.withClassId(classId);
+                }
+                resolved.add(w.withState(state));
+            }
+            if (!created.isEmpty()) {
+                // 아래 JDBC 배치가 FK 로 참조하므로 새 LabelClass 를 먼저 DB 로 내보냄
+                annotationRepository.flush();
+            }
+            AnnotationBatchWriter.Result result = annotationBatchWriter.write(resolved);
+            Set<Long> touched = new HashSet<>();
+            writes.forEach(w -> touched.add(w.state().assetId()));
+            assetSummaryService.refresh(touched);
+            return new FlushOutcome(result.assignedIds(), created, result.conflicts());
+        });
+    }
+
+    // 변경마다 트랜잭션 하나. 그래도 실패하는 변경은 버림 (DB 에 연결할 수 없는 경우만 전부 다시 넣고 null)
+    private FlushOutcome writeEach(Long versionId, VersionRoom room, List<PendingWrite> writes) {
+        Map<Long, Long> assigned = new HashMap<>();
+        Map<String, Long> created = new HashMap<>();
+        List<PendingWrite> rejected = new ArrayList<>();
+        for (int i = 0; i < writes.size(); i++) {
+            PendingWrite w = writes.get(i);
+            try {
+                FlushOutcome one = write(versionId, List.of(w));
+                assigned.putAll(one.assignedIds());
+                created.putAll(one.createdClassIds());
+                rejected.addAll(one.rejected());
+            } catch (TransientDataAccessException | DataAccessResourceFailureException e) {
+                log.warn("DB 연결 실패, 다음 주기에 재시도: {}건 ({})", writes.size() - i, e.getMessage());
+                room.flushed(assigned, created);
+                room.requeue(writes.subList(i, writes.size()));
+                return null;
+            } catch (RuntimeException e) {
+                log.warn("박스 변경 버림: annotation={} ({})", w.state().annotationId(), e.getMessage());
+                rejected.add(w);
+            }
+        }
+        return new FlushOutcome(assigned, created, rejected);
+    }
+
+    @Override
+    public BoxState loadBox(long versionId, long annotationId) {
+        return annotationRepository.findInVersion(annotationId, versionId)
+                .map(AnnotationCollabService::toState)
+                .orElse(null);
+    }
+
+    @Override
+    public boolean assetInVersion(long versionId, long assetId) {
+        return assetRepository.existsByAssetIdAndDatasetVersionDatasetVersionId(assetId, versionId);
+    }
+
+    @Override
+    public Long findClassId(long versionId, String label) {
+        for (LabelClassRef cls : datasetLookupCache.labelClasses(versionId)) {
+            if (cls.name().equals(label)) {
+                return cls.classId();
+            }
+        }
+        return null;
+    }
+
+    private static BoxState toState(Annotation ann) {
+        return new BoxState(ann.getAnnotationId(), ann.getAsset().getAssetId(), ann.getLabelClass().getClassId(),
+                ann.getLabelClass().getName(), ann.getXCenter(), ann.getYCenter(), ann.getWidth(), ann.getHeight(),
+                ann.getRevision(), false);
+    }
+}
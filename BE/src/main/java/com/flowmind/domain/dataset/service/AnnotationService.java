@@ -0,0 +1,70 @@
+package com.flowmind.domain.dataset.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.flowmind.domain.dataset.dto.AnnotationDto;
+import com.flowmind.domain.dataset.dto.AnnotationSaveRequest;
+import com.flowmind.domain.dataset.entity.Annotation;
+import com.flowmind.domain.dataset.entity.Asset;
+import com.flowmind.domain.dataset.entity.LabelClass;
+import com.flowmind.domain.dataset.repository.AnnotationRepository;
+import com.flowmind.domain.dataset.repository.AssetRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AnnotationService {
+
+    private final AssetRepository assetRepository;
+    private final AnnotationRepository annotationRepository;
+    private final LabelClassService labelClassService;
+    private final AssetSummaryService assetSummaryService;
+    private final AnnotationCollabService annotationCollabService;
+
+    // 사람이 저장한 박스로 교체 (모델 제안도 함께 지워지고, 저장된 박스는 confidence = null)
+    public List<AnnotationDto> replaceAnnotations(Long assetId, Long userId, AnnotationSaveRequest request) {
+        Asset asset = assetRepository.findOwnedById(assetId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Asset not found"));
+
+        annotationRepository.deleteByAssetId(assetId);
+
+        Map<String, LabelClass> classes = new HashMap<>();
+        List<Annotation> annotations = new ArrayList<>(request.annotations().size());
+        for (AnnotationSaveRequest.Box box : request.annotations()) {
+            LabelClass cls = classes.computeIfAbsent(box.label(),
+                    name -> labelClassService.resolveOrCreate(asset.getDatasetVersion(), name));
+            annotations.add(Annotation.builder()
+                    .asset(asset)
+                    .labelClass(cls)
+                    .xCenter(box.xCenter())
+                    .yCenter(box.yCenter())
+                    .width(box.width())
+                    .height(box.height())
+                    .build());
+        }
+        annotationRepository.saveAll(annotations);
+        assetSummaryService.refresh(List.of(assetId));
+        annotationCollabService.invalidate(asset.getDatasetVersion().getDatasetVersionId(), List.of(assetId));
+
+        return annotations.stream()
+                .map(ann -> new AnnotationDto(
+                        ann.getAnnotationId(),
+                        ann.getLabelClass().getName(),
+                        ann.getXCenter(),
+                        ann.getYCenter(),
+                        ann.getWidth(),
+                        ann.getHeight(),
+                        ann.getConfidence(),
+                        ann.getRevision()
+                ))
+                .toList();
+    }
+}
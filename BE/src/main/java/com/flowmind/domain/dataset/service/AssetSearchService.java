@@ -0,0 +1,84 @@
+package com.flowmind.domain.dataset.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.cache.LabelClassRef;
+import com.flowmind.domain.dataset.dto.AssetSearchPage;
+import com.flowmind.domain.dataset.dto.AssetSplitRequest;
+import com.flowmind.domain.dataset.dto.AssetSummaryDto;
+import com.flowmind.domain.dataset.entity.Asset;
+import com.flowmind.domain.dataset.entity.DatasetVersion;
+import com.flowmind.domain.dataset.repository.AssetRepository;
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+import com.flowmind.domain.dataset.search.AssetFilter;
+import com.flowmind.domain.dataset.search.AssetQueryParser;
+import com.flowmind.domain.dataset.search.AssetSpecifications;
+import com.flowmind.domain.job.service.JobHandle;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AssetSearchService {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final AssetRepository assetRepository;
+    private final DatasetLookupCache datasetLookupCache;
+    private final AssetSummaryBackfillService assetSummaryBackfillService;
+
+    // 요약 컬럼(박스 수 / 클래스별 수 / 크기)으로 거르는데 아직 채워지지 않은 버전이면 채우는 작업
+    public Optional<JobHandle> pendingBackfill(Long datasetId, String versionTag, Long userId, String q) {
+        boolean usesSummaries = AssetQueryParser.parse(q).stream()
+                .anyMatch(f -> f instanceof AssetFilter.ClassCount || f instanceof AssetFilter.Numeric);
+        return usesSummaries ? assetSummaryBackfillService.pending(datasetId, versionTag, userId) : Optional.empty();
+    }
+
+    // assetId keyset 페이지네이션 (OFFSET 없이 cursor 이후만 읽음)
+    public AssetSearchPage search(Long datasetId, String versionTag, Long userId, String q, Long cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1~" + MAX_LIMIT + " 사이여야 합니다.");
+        }
+        DatasetVersion version = getVersion(datasetId, versionTag, userId);
+        List<AssetFilter> filters = AssetQueryParser.parse(q);
+
+        Map<String, Long> classIds = new HashMap<>();
+        if (filters.stream().anyMatch(f -> f instanceof AssetFilter.ClassCount)) {
+            for (LabelClassRef cls : datasetLookupCache.labelClasses(version.getDatasetVersionId())) {
+                classIds.putIfAbsent(cls.name(), cls.classId());
+            }
+        }
+
+        List<Asset> assets = assetRepository.findBy(
+                AssetSpecifications.search(version.getDatasetVersionId(), cursor == null ? 0L : cursor, filters, classIds),
+                query -> query.sortBy(Sort.by("assetId")).limit(limit + 1).all());
+
+        boolean hasMore = assets.size() > limit;
+        List<AssetSummaryDto> items = assets.stream().limit(limit).map(AssetSummaryDto::from).toList();
+        Long nextCursor = hasMore ? items.get(items.size() - 1).id() : null;
+        return new AssetSearchPage(items, nextCursor);
+    }
+
+    @Transactional
+    public int updateSplit(AssetSplitRequest request, Long userId) {
+        DatasetVersion version = getVersion(request.datasetId(), request.version(), userId);
+        return assetRepository.updateSplit(version, request.assetIds(), request.split());
+    }
+
+    // 캐시에서 확인하고 엔티티는 프록시로 (쿼리 없음)
+    private DatasetVersion getVersion(Long datasetId, String versionTag, Long userId) {
+        return datasetLookupCache.version(datasetId, versionTag, userId)
+                .map(ref -> datasetVersionRepository.getReferenceById(ref.versionId()))
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,116 @@
+package com.flowmind.domain.dataset.service;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.cache.VersionRef;
+import com.flowmind.domain.dataset.entity.Asset;
+import com.flowmind.domain.dataset.entity.DatasetVersion;
+import com.flowmind.domain.dataset.repository.AssetRepository;
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+import com.flowmind.domain.job.service.JobHandle;
+import com.flowmind.domain.job.service.JobService;
+import com.flowmind.util.ImageSize;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색용 요약(box_count, asset_class_stat, width/height)이 생기기 전에 올라온 버전을 한 번 채운다.
+ * 버전을 처음 요약 컬럼으로 검색할 때 작업을 시작하고, 끝난 버전은 기억해서 다시 확인하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssetSummaryBackfillService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final AssetRepository assetRepository;
+    private final AssetSummaryService assetSummaryService;
+    private final DatasetLookupCache datasetLookupCache;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 채우는 중인 버전 -> 작업, 이미 채운 버전 (크기를 못 읽는 파일은 null 로 남아도 다시 시도하지 않음)
+    private final Map<Long, JobHandle> running = new ConcurrentHashMap<>();
+    private final Set<Long> doneVersions = ConcurrentHashMap.newKeySet();
+
+    private record SizedAsset(Long assetId, ImageSize size) {}
+
+    // 채워야 하면 그 작업 (이미 돌고 있으면 같은 작업), 아니면 empty
+    public Optional<JobHandle> pending(Long datasetId, String versionTag, Long userId) {
+        VersionRef version = datasetLookupCache.version(datasetId, versionTag, userId)
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
+        Long versionId = version.versionId();
+        if (doneVersions.contains(versionId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(running.compute(versionId, (id, current) -> {
+            if (current != null && !current.isFinished()) {
+                return current;
+            }
+            if (!assetRepository.needsSummaryBackfill(id)) {
+                doneVersions.add(id);
+                return null;
+            }
+            long total = assetRepository.countByVersionId(id);
+            return jobService.submit(userId, "summary-backfill", handle -> {
+                try {
+                    handle.setTotal(total);
+                    long count = backfill(id, handle);
+                    doneVersions.add(id);
+                    log.info("검색 요약 채우기 완료: version={} {}건", id, count);
+                    return count;
+                } finally {
+                    running.remove(id, handle);
+                }
+            });
+        }));
+    }
+
+    private long backfill(Long versionId, JobHandle handle) {
+        DatasetVersion version = datasetVersionRepository.getReferenceById(versionId);
+        long count = 0;
+        long lastId = 0L;
+        while (true) {
+            handle.checkCancelled();
+            long afterId = lastId;
+            List<Asset> batch = transactionTemplate.execute(status -> assetRepository
+                    .findByDatasetVersionAndAssetIdGreaterThanOrderByAssetIdAsc(version, afterId, Limit.of(BATCH_SIZE)));
+            if (batch.isEmpty()) {
+                return count;
+            }
+            lastId = batch.get(batch.size() - 1).getAssetId();
+
+            // 크기는 헤더만 읽으므로 파일을 디코딩하지 않음
+            List<SizedAsset> sized = batch.parallelStream()
+                    .filter(a -> a.getWidth() == null && a.getStorageUri() != null)
+                    .map(a -> {
+                        ImageSize size = ImageSize.read(Paths.get(a.getStorageUri()));
+                        return size == null ? null : new SizedAsset(a.getAssetId(), size);
+                    })
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            List<Long> assetIds = batch.stream().map(Asset::getAssetId).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                sized.forEach(s -> assetRepository.updateSize(s.assetId(), s.size().width(), s.size().height()));
+                assetSummaryService.refresh(assetIds);
+            });
+            count += batch.size();
+            handle.addDone(batch.size());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.flowmind.domain.dataset.service;
+
+import java.util.Collection;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.flowmind.domain.dataset.repository.AssetClassStatRepository;
+import com.flowmind.domain.dataset.repository.AssetRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// Annotation 을 쓴 뒤 같은 트랜잭션에서 호출해 검색용 요약(box_count, asset_class_stat)을 맞춘다
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AssetSummaryService {
+
+    private final AssetRepository assetRepository;
+    private final AssetClassStatRepository assetClassStatRepository;
+    private final ActiveLearningService activeLearningService;
+    private final VersionDiffService versionDiffService;
+
+    public void refresh(Collection<Long> assetIds) {
+        if (assetIds.isEmpty()) {
+            return;
+        }
+        assetRepository.refreshBoxCounts(assetIds);
+        assetClassStatRepository.deleteByAssetIds(assetIds);
+        assetClassStatRepository.insertFromAnnotations(assetIds);
+        activeLearningService.labelsChanged(assetIds);
+        versionDiffService.annotationsChanged(assetIds);
+    }
+}
@@ -0,0 +1,349 @@
+package com.flowmind.domain.dataset.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.flowmind.domain.dataset.augment.*;
+import com.flowmind.domain.dataset.dto.AugmentRequest;
+import com.flowmind.domain.dataset.entity.*;
+import com.flowmind.domain.dataset.repository.*;
+import com.flowmind.domain.job.service.JobHandle;
+import com.flowmind.domain.job.service.JobService;
+import com.flowmind.util.ContentHash;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 원본 버전을 읽어서 증강 파이프라인을 적용한 새 버전을 만든다.
+ * 배치 단위로 (디코딩 -> 증강/인코딩 -> DB 저장) 을 반복하므로 메모리는 배치 크기로 제한된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DatasetAugmentService {
+
+    private static final Pattern VERSION_TAG = Pattern.compile("v(\\d+)");
+    private static final int VERSION_TAG_ATTEMPTS = 5;
+
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final AssetRepository assetRepository;
+    private final AnnotationRepository annotationRepository;
+    private final LabelClassRepository labelClassRepository;
+    private final AssetSummaryService assetSummaryService;
+    private final LabelClassService labelClassService;
+    private final DatasetDeletionService datasetDeletionService;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.dataset.root-path}")
+    private String datasetRootPath;
+
+    // 한 번에 디코딩해서 메모리에 올리는 원본 이미지 수 (MOSAIC 후보 풀 크기이기도 함)
+    @Value("${app.augment.batch-size:32}")
+    private int batchSize;
+
+    public JobHandle startAugmentation(AugmentRequest request, Long userId) {
+        datasetVersionRepository
+                .findByDatasetIdAndVersionAndUser(request.datasetId(), request.sourceVersion(), userId)
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
+
+        for (AugmentStep step : request.steps()) {
+            if (step.type() == null || step.probability() < 0 || step.probability() > 1) {
+                throw new IllegalArgumentException("증강 단계 설정이 올바르지 않습니다: " + step);
+            }
+        }
+
+        return jobService.submit(userId, "augment", handle -> augment(request, userId, handle));
+    }
+
+    private AugmentResult augment(AugmentRequest request, Long userId, JobHandle handle)
+            throws IOException, InterruptedException, ExecutionException {
+        // 1. 새 버전 + 클래스 복제
+        Target target = createTargetVersion(request, userId);
+        boolean completed = false;
+        try {
+            AugmentResult result = fill(request, target, handle);
+            completed = true;
+            return result;
+        } finally {
+            if (!completed) {
+                discard(request.datasetId(), target, userId);
+            }
+        }
+    }
+
+    private AugmentResult fill(AugmentRequest request, Target target, JobHandle handle)
+            throws IOException, InterruptedException, ExecutionException {
+        boolean includeOriginals = request.includeOriginals() == null || request.includeOriginals();
+        long seed = request.seed() != null ? request.seed() : System.nanoTime();
+        int outputsPerSource = request.copies() + (includeOriginals ? 1 : 0);
+
+        handle.setTotal(target.sourceCount() * outputsPerSource);
+
+        Path versionDir = Paths.get(datasetRootPath, target.datasetName(), target.versionTag());
+        Files.createDirectories(versionDir);
+
+        long started = System.nanoTime();
+        int sources = 0;
+        int produced = 0;
+        int failed = 0;
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            long lastId = 0L;
+            while (true) {
+                handle.checkCancelled();
+                long afterId = lastId;
+                List<SourceItem> batch = transactionTemplate.execute(status -> loadBatch(target.sourceVersionId(), afterId));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).assetId();
+
+                // 2. 병렬 디코딩 (실패한 이미지는 null)
+                List<Sample> decoded = pool.submit(() -> batch.parallelStream().map(DatasetAugmentService::decode).toList()).get();
+                List<Sample> mosaicPool = decoded.stream().filter(Objects::nonNull).toList();
+
+                // 3. (원본, 사본 번호) 단위로 병렬 증강 + 인코딩 + 파일 쓰기
+                List<int[]> tasks = new ArrayList<>();
+                for (int i = 0; i < batch.size(); i++) {
+                    if (decoded.get(i) == null) {
+                        failed++;
+                        continue;
+                    }
+                    for (int copy = includeOriginals ? 0 : 1; copy <= request.copies(); copy++) {
+                        tasks.add(new int[]{i, copy});
+                    }
+                }
+
+                List<Output> outputs = pool.submit(() -> tasks.parallelStream().map(t -> {
+                    SourceItem src = batch.get(t[0]);
+                    int copy = t[1];
+                    if (copy == 0) {
+                        return copyOriginal(src, decoded.get(t[0]), versionDir);
+                    }
+                    handle.checkCancelled();
+                    // (seed, assetId, copy) 로 난수를 고정해서 스레드 스케줄과 무관하게 재현 가능
+                    SplittableRandom random = new SplittableRandom(seed ^ (src.assetId() * 0x9E3779B97F4A7C15L) ^ copy);
+                    Sample out = ImageAugmenter.apply(decoded.get(t[0]), request.steps(), mosaicPool, random);
+                    return write(src, copy, out, versionDir);
+                }).toList()).get();
+
+                // 4. 배치 단위 DB 저장
+                transactionTemplate.executeWithoutResult(status -> saveOutputs(target, outputs));
+
+                sources += mosaicPool.size();
+                produced += outputs.size();
+                handle.addDone(outputs.size());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        double imagesPerSec = elapsedMs == 0 ? 0.0 : produced * 1000.0 / elapsedMs;
+        log.info("증강 완료: {} -> {} ({}장, {} images/sec)", request.sourceVersion(), target.versionTag(), produced,
+                String.format("%.1f", imagesPerSec));
+
+        return new AugmentResult(target.versionTag(), target.versionId(), sources, produced, failed, elapsedMs, imagesPerSec);
+    }
+
+    private Target createTargetVersion(AugmentRequest request, Long userId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> insertTargetVersion(request, userId));
+            } catch (DataIntegrityViolationException e) {
+                // 같은 데이터셋에 동시에 만들어진 버전과 태그가 겹침 -> 다음 번호로 다시
+                if (attempt >= VERSION_TAG_ATTEMPTS) {
+                    throw new IllegalStateException("새 버전 태그를 정하지 못했습니다.", e);
+                }
+            }
+        }
+    }
+
+    // 실패/취소된 증강 버전은 반쯤 채워진 채로 남기지 않고 삭제 작업으로 넘김
+    private void discard(Long datasetId, Target target, Long userId) {
+        try {
+            datasetDeletionService.deleteVersion(datasetId, target.versionTag(), userId);
+            log.info("증강 중단, 버전 삭제 요청: version={} ({})", target.versionId(), target.versionTag());
+        } catch (RuntimeException e) {
+            log.warn("증강 버전 정리 실패: version={} ({})", target.versionId(), e.getMessage());
+        }
+    }
+
+    private Target insertTargetVersion(AugmentRequest request, Long userId) {
+        DatasetVersion source = datasetVersionRepository
+                .findByDatasetIdAndVersionAndUser(request.datasetId(), request.sourceVersion(), userId)
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
+        Dataset dataset = source.getDataset();
+
+        DatasetVersion target = DatasetVersion.builder()
+                .versionTag(nextVersionTag(dataset.getDatasetId()))
+                .build();
+        target.setDataset(dataset);
+        datasetVersionRepository.save(target);
+
+        Map<Long, Long> classMapping = new HashMap<>();
+        labelClassService.copyClasses(source, target)
+                .forEach((sourceId, copy) -> classMapping.put(sourceId, copy.getClassId()));
+
+        return new Target(
+                source.getDatasetVersionId(),
+                target.getDatasetVersionId(),
+                target.getVersionTag(),
+                dataset.getName(),
+                classMapping,
+                assetRepository.countByDatasetVersion(source)
+        );
+    }
+
+    private String nextVersionTag(Long datasetId) {
+        int max = -1;
+        for (String tag : datasetVersionRepository.findVersionTagsByDatasetId(datasetId)) {
+            Matcher m = VERSION_TAG.matcher(tag);
+            if (m.matches()) {
+                max = Math.max(max, Integer.parseInt(m.group(1)));
+            }
+        }
+        return "v" + (max + 1);
+    }
+
+    private List<SourceItem> loadBatch(Long sourceVersionId, long afterId) {
+        DatasetVersion source = datasetVersionRepository.getReferenceById(sourceVersionId);
+        List<Asset> assets = assetRepository.findByDatasetVersionAndAssetIdGreaterThanOrderByAssetIdAsc(
+                source, afterId, Limit.of(batchSize));
+        if (assets.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Box>> boxes = new HashMap<>();
+        for (Annotation ann : annotationRepository.findWithLabelClassByAssetIds(assets.stream().map(Asset::getAssetId).toList())) {
+            boxes.computeIfAbsent(ann.getAsset().getAssetId(), k -> new ArrayList<>())
+                    .add(new Box(ann.getLabelClass().getClassId(), ann.getXCenter(), ann.getYCenter(), ann.getWidth(), ann.getHeight()));
+        }
+
+        return assets.stream()
+                .map(a -> new SourceItem(a.getAssetId(), a.getName(), a.getStorageUri(), a.getContentHash(),
+                        a.getSplit(), boxes.getOrDefault(a.getAssetId(), List.of())))
+                .toList();
+    }
+
+    private static Sample decode(SourceItem src) {
+        try {
+            BufferedImage image = ImageIO.read(Paths.get(src.storageUri()).toFile());
+            return image == null ? null : new Sample(ImageAugmenter.toRgb(image), src.boxes());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Output copyOriginal(SourceItem src, Sample decoded, Path versionDir) {
+        Path target = versionDir.resolve(src.name());
+        try {
+            Files.copy(Paths.get(src.storageUri()), target, StandardCopyOption.REPLACE_EXISTING);
+            // 내용이 같으므로 원본 해시를 그대로 사용 (없으면 계산)
+            String hash = src.contentHash() != null ? src.contentHash() : ContentHash.of(target);
+            return new Output(src.name(), target, hash, Files.size(target),
+                    decoded.image().getWidth(), decoded.image().getHeight(), src.split(), src.boxes());
+        } catch (IOException e) {
+            throw new RuntimeException("원본 이미지 복사에 실패했습니다: " + src.name(), e);
+        }
+    }
+
+    private static Output write(SourceItem src, int copy, Sample sample, Path versionDir) {
+        String name = src.name();
+        int dot = name.lastIndexOf('.');
+        String stem = dot > 0 ? name.substring(0, dot) : name;
+        String ext = dot > 0 ? name.substring(dot + 1).toLowerCase(Locale.ROOT) : "jpg";
+        String format = ext.equals("png") ? "png" : "jpeg";
+        // png 외에는 전부 JPEG 로 다시 인코딩하므로 확장자도 .jpg (bmp/gif/webp 이름에 JPEG 바이트가 들어가지 않도록)
+        String fileName = stem + "_aug" + copy + "." + (format.equals("png") ? "png" : "jpg");
+
+        Path target = versionDir.resolve(fileName);
+        MessageDigest digest = ContentHash.newDigest();
+        try (OutputStream out = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(target)), digest)) {
+            if (!ImageIO.write(sample.image(), format, out)) {
+                throw new IOException("지원하지 않는 이미지 형식: " + format);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("증강 이미지 저장에 실패했습니다: " + fileName, e);
+        }
+        return new Output(fileName, target, ContentHash.hex(digest), size(target),
+                sample.image().getWidth(), sample.image().getHeight(), src.split(), sample.boxes());
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 크기를 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    private void saveOutputs(Target target, List<Output> outputs) {
+        DatasetVersion version = datasetVersionRepository.getReferenceById(target.versionId());
+        List<Long> assetIds = new ArrayList<>(outputs.size());
+        for (Output output : outputs) {
+            Asset asset = Asset.builder()
+                    .name(output.name())
+                    .storageUri(output.path().toString())
+                    .contentHash(output.contentHash())
+                    .bytes(output.bytes())
+                    .width(output.width())
+                    .height(output.height())
+                    .split(output.split())
+                    .build();
+            asset.setDatasetVersion(version);
+            assetRepository.save(asset);
+
+            List<Annotation> annotations = new ArrayList<>(output.boxes().size());
+            for (Box box : output.boxes()) {
+                annotations.add(Annotation.builder()
+                        .asset(asset)
+                        .labelClass(labelClassRepository.getReferenceById(target.classMapping().get(box.classId())))
+                        .xCenter(box.xCenter())
+                        .yCenter(box.yCenter())
+                        .width(box.width())
+                        .height(box.height())
+                        .build());
+            }
+            annotationRepository.saveAll(annotations);
+            assetIds.add(asset.getAssetId());
+        }
+        assetSummaryService.refresh(assetIds);
+    }
+
+    private record Target(Long sourceVersionId, Long versionId, String versionTag, String datasetName,
+                          Map<Long, Long> classMapping, long sourceCount) {}
+
+    private record SourceItem(Long assetId, String name, String storageUri, String contentHash, String split,
+                              List<Box> boxes) {}
+
+    private record Output(String name, Path path, String contentHash, long bytes, int width, int height,
+                          String split, List<Box> boxes) {}
+
+    public record AugmentResult(String versionTag, Long versionId, int sourceImages, int producedImages,
+                                int failedImages, long elapsedMs, double imagesPerSec) {}
+}
@@ -0,0 +1,334 @@
+package com.flowmind.domain.dataset.service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.entity.Dataset;
+import com.flowmind.domain.dataset.entity.DatasetVersion;
+import com.flowmind.domain.dataset.repository.AnnotationRepository;
+import com.flowmind.domain.dataset.repository.AssetClassStatRepository;
+import com.flowmind.domain.dataset.repository.AssetFileRow;
+import com.flowmind.domain.dataset.repository.AssetPredictionRepository;
+import com.flowmind.domain.dataset.repository.AssetRepository;
+import com.flowmind.domain.dataset.repository.DatasetRepository;
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+import com.flowmind.domain.dataset.repository.LabelClassRepository;
+import com.flowmind.domain.dataset.shard.PackPaths;
+import com.flowmind.domain.job.service.JobHandle;
+import com.flowmind.domain.job.service.JobService;
+import com.flowmind.domain.job.service.JobTask;
+import com.flowmind.domain.model.repository.ModelRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dataset / DatasetVersion 삭제.
+ * 요청 시에는 deleted_at 만 찍고 바로 돌려준다 (이후 모든 조회에서 빠짐).
+ * 실제 삭제는 백그라운드 작업이 Asset 을 assetId 순 배치로 나눠 배치마다 짧은 트랜잭션의 집합 DELETE 로 지우고,
+ * 커밋된 배치의 파일은 제한된 스레드 수로 병렬 삭제한다. 중간에 멈춰도 같은 DELETE 요청이나 재기동 시 이어서 지운다.
+ * 같은 데이터셋의 데이터셋/버전 삭제는 데이터셋 단위 lock 으로 하나씩 돈다 (같은 버전을 동시에 지우지 않도록).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DatasetDeletionService {
+
+    private final DatasetRepository datasetRepository;
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final AssetRepository assetRepository;
+    private final AnnotationRepository annotationRepository;
+    private final AssetClassStatRepository assetClassStatRepository;
+    private final AssetPredictionRepository assetPredictionRepository;
+    private final LabelClassRepository labelClassRepository;
+    private final AnnotationCollabService annotationCollabService;
+    private final DatasetLookupCache datasetLookupCache;
+    private final ActiveLearningService activeLearningService;
+    private final ModelRepository modelRepository;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 같은 대상에 삭제 작업이 두 개 돌지 않도록 ("dataset:1", "version:5")
+    private final Map<String, JobHandle> running = new ConcurrentHashMap<>();
+
+    // datasetId -> 그 데이터셋의 삭제 작업 직렬화용 (데이터셋 삭제가 끝나면 제거)
+    private final Map<Long, ReentrantLock> datasetLocks = new ConcurrentHashMap<>();
+
+    @Value("${app.dataset.root-path}")
+    private String datasetRootPath;
+
+    // 배치 하나 = 트랜잭션 하나 (테이블 잠금 시간을 짧게)
+    @Value("${app.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.purge.file-threads:4}")
+    private int fileThreads;
+
+    // 배치 사이 쉬는 시간 (운영 중 DB 부하 조절)
+    @Value("${app.purge.pause-ms:0}")
+    private long pauseMs;
+
+    public JobHandle deleteDataset(Long datasetId, Long userId) {
+        Dataset dataset = datasetRepository.findByDatasetIdAndUserId(datasetId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋을 찾을 수 없습니다."));
+        List<Long> versionIds = datasetVersionRepository.findByDatasetDatasetId(datasetId).stream()
+                .map(DatasetVersion::getDatasetVersionId)
+                .toList();
+        checkNoModels(versionIds);
+        transactionTemplate.executeWithoutResult(status ->
+                datasetRepository.markDeleted(datasetId, LocalDateTime.now()));
+        annotationCollabService.close(versionIds);
+        datasetLookupCache.evictVersions(versionIds);
+        activeLearningService.evict(versionIds);
+        return submit("dataset:" + datasetId, userId, "dataset-delete",
+                handle -> purgeDataset(datasetId, dataset.getName(), handle));
+    }
+
+    public JobHandle deleteVersion(Long datasetId, String versionTag, Long userId) {
+        DatasetVersion version = datasetVersionRepository.findIncludingDeleted(datasetId, versionTag, userId)
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
+        Long versionId = version.getDatasetVersionId();
+        checkNoModels(List.of(versionId));
+        transactionTemplate.executeWithoutResult(status ->
+                datasetVersionRepository.markDeleted(versionId, LocalDateTime.now()));
+        annotationCollabService.close(List.of(versionId));
+        datasetLookupCache.evictVersions(List.of(versionId));
+        activeLearningService.evict(List.of(versionId));
+        return submit("version:" + versionId, userId, "version-delete",
+                handle -> purgeSingleVersion(datasetId, versionId, version.getDataset().getName(), versionTag, handle));
+    }
+
+    // 모델 계보(model.dataset_version_id)가 가리키는 버전은 남겨 둠
+    private void checkNoModels(List<Long> versionIds) {
+        if (!versionIds.isEmpty() && modelRepository.existsByVersionIds(versionIds)) {
+            throw new IllegalStateException("학습된 모델이 있는 버전은 삭제할 수 없습니다.");
+        }
+    }
+
+    // 서버가 삭제 도중 내려갔던 것 이어서 지우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingDeletes() {
+        for (Dataset dataset : datasetRepository.findByDeletedAtIsNotNull()) {
+            log.info("삭제 재개: dataset={}", dataset.getDatasetId());
+            submit("dataset:" + dataset.getDatasetId(), dataset.getUserId(), "dataset-delete",
+                    handle -> purgeDataset(dataset.getDatasetId(), dataset.getName(), handle));
+        }
+        for (DatasetVersion version : datasetVersionRepository.findDeletedInLiveDatasets()) {
+            log.info("삭제 재개: version={}", version.getDatasetVersionId());
+            Dataset dataset = version.getDataset();
+            submit("version:" + version.getDatasetVersionId(), dataset.getUserId(), "version-delete",
+                    handle -> purgeSingleVersion(dataset.getDatasetId(), version.getDatasetVersionId(),
+                            dataset.getName(), version.getVersionTag(), handle));
+        }
+    }
+
+    private JobHandle submit(String key, Long userId, String type, JobTask task) {
+        // 이미 돌고 있으면 그 작업을 돌려줌
+        return running.compute(key, (k, current) -> {
+            if (current != null && !current.isFinished()) {
+                return current;
+            }
+            return jobService.submit(userId, type, handle -> {
+                try {
+                    return task.run(handle);
+                } finally {
+                    running.remove(key, handle);
+                }
+            });
+        });
+    }
+
+    private PurgeResult purgeDataset(Long datasetId, String datasetName, JobHandle handle) throws Exception {
+        ReentrantLock lock = lockDataset(datasetId);
+        try {
+            handle.setTotal(assetRepository.countByDatasetId(datasetId));
+            Counters result = new Counters();
+            for (DatasetVersion version : datasetVersionRepository.findByDatasetDatasetId(datasetId)) {
+                purgeVersion(version.getDatasetVersionId(), datasetName, version.getVersionTag(), handle, result);
+            }
+            transactionTemplate.executeWithoutResult(status -> datasetRepository.purge(datasetId));
+            deleteIfEmpty(Paths.get(datasetRootPath, datasetName));
+            datasetLocks.remove(datasetId, lock);
+            return result.finish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PurgeResult purgeSingleVersion(Long datasetId, Long versionId, String datasetName, String versionTag,
+                                           JobHandle handle) throws Exception {
+        ReentrantLock lock = lockDataset(datasetId);
+        try {
+            // 기다리는 동안 데이터셋 삭제가 이 버전까지 지웠을 수 있음 (그러면 남은 행이 없어 바로 끝남)
+            handle.setTotal(assetRepository.countByVersionId(versionId));
+            Counters result = new Counters();
+            purgeVersion(versionId, datasetName, versionTag, handle, result);
+            deleteIfEmpty(Paths.get(datasetRootPath, datasetName));
+            return result.finish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 취소하면 기다리던 중에도 바로 빠져나옴
+    private ReentrantLock lockDataset(Long datasetId) throws InterruptedException {
+        ReentrantLock lock = datasetLocks.computeIfAbsent(datasetId, id -> new ReentrantLock());
+        lock.lockInterruptibly();
+        return lock;
+    }
+
+    private void purgeVersion(Long versionId, String datasetName, String versionTag, JobHandle handle,
+                              Counters result) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, fileThreads), r -> {
+            Thread t = new Thread(r, "flowmind-purge");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            long afterId = 0;
+            while (true) {
+                handle.checkCancelled();
+                List<AssetFileRow> rows = assetRepository.findFileRowsByVersionAfter(
+                        versionId, afterId, PageRequest.of(0, batchSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Long> assetIds = rows.stream().map(AssetFileRow::assetId).toList();
+                transactionTemplate.executeWithoutResult(status -> {
+                    annotationRepository.deleteByAssetIds(assetIds);
+                    assetClassStatRepository.deleteByAssetIds(assetIds);
+                    assetPredictionRepository.deleteByAssetIds(assetIds);
+                    assetRepository.deleteByAssetIds(assetIds);
+                });
+                datasetLookupCache.evictAssets(assetIds);
+                result.assets += rows.size();
+                deleteFiles(rows, pool, result);
+
+                afterId = assetIds.get(assetIds.size() - 1);
+                handle.addDone(rows.size());
+                if (pauseMs > 0) {
+                    Thread.sleep(pauseMs);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            labelClassRepository.deleteByVersionId(versionId);
+            datasetVersionRepository.purge(versionId);
+        });
+        datasetLookupCache.evictLabelClasses(versionId);
+        result.versions++;
+
+        // 이 버전의 팩(만들다 남은 것 포함)과 비어 있는 버전 디렉터리
+        deleteTree(PackPaths.packDir(datasetRootPath, versionId));
+        deleteTree(PackPaths.stagingDir(datasetRootPath, versionId));
+        deleteIfEmpty(Paths.get(datasetRootPath, datasetName, versionTag));
+        log.info("버전 삭제 완료: version={} ({}/{})", versionId, datasetName, versionTag);
+    }
+
+    // 행이 지워진 뒤에도 다른 Asset 이 같은 파일을 가리키면 남김
+    private void deleteFiles(List<AssetFileRow> rows, ExecutorService pool, Counters result) throws Exception {
+        Set<String> uris = new HashSet<>();
+        for (AssetFileRow row : rows) {
+            if (row.storageUri() != null) {
+                uris.add(row.storageUri());
+            }
+        }
+        if (uris.isEmpty()) {
+            return;
+        }
+        uris.removeAll(assetRepository.findExistingStorageUris(uris));
+
+        Path root = Paths.get(datasetRootPath).toAbsolutePath().normalize();
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (String uri : uris) {
+            Path file = Paths.get(uri).toAbsolutePath().normalize();
+            if (!file.startsWith(root)) {
+                log.warn("저장소 밖 파일은 지우지 않음: {}", file);
+                continue;
+            }
+            tasks.add(() -> {
+                long size = Files.size(file);
+                return Files.deleteIfExists(file) ? size : -1L;
+            });
+        }
+        for (Future<Long> future : pool.invokeAll(tasks)) {
+            try {
+                long size = future.get();
+                if (size >= 0) {
+                    result.files++;
+                    result.bytes += size;
+                }
+            } catch (ExecutionException e) {
+                // 이미 없는 파일 등은 건너뜀 (남은 파일은 저장소 점검이 고아 파일로 정리)
+                if (!(e.getCause() instanceof NoSuchFileException)) {
+                    log.warn("파일 삭제 실패: {}", e.getCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path p : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    private static void deleteIfEmpty(Path dir) {
+        try {
+            Files.deleteIfExists(dir);
+        } catch (DirectoryNotEmptyException e) {
+            // 같은 이름의 다른 데이터셋/버전 파일이 남아 있음
+        } catch (IOException e) {
+            log.warn("디렉터리 삭제 실패: {} ({})", dir, e.getMessage());
+        }
+    }
+
+    private static final class Counters {
+        private final long started = System.nanoTime();
+        private int versions;
+        private long assets;
+        private long files;
+        private long bytes;
+
+        PurgeResult finish() {
+            return new PurgeResult(versions, assets, files, bytes, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    public record PurgeResult(int versions, long assets, long files, long bytes, long elapsedMs) {}
+}
@@ -0,0 +1,250 @@
+package com.flowmind.domain.dataset.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.cache.LabelClassRef;
+import com.flowmind.domain.dataset.cache.VersionRef;
+import com.flowmind.domain.dataset.entity.*;
+import com.flowmind.domain.dataset.repository.*;
+import com.flowmind.domain.dataset.shard.PackPaths;
+import com.flowmind.domain.dataset.shard.ShardReader;
+import com.flowmind.domain.dataset.shard.ShardRecord;
+import com.flowmind.domain.dataset.shard.ShardWriter;
+import com.flowmind.domain.job.service.JobHandle;
+import com.flowmind.domain.job.service.JobService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 버전을 샤드 팩({root}/.packs/{versionId}.pack)으로 묶고, 내보내기는 팩을 mmap 으로 읽어서 바로 zip 으로 보낸다.
+ * 팩 생성은 백그라운드 작업이고 진행 상황은 /api/jobs/{jobId} 로 조회한다.
+ * 같은 버전의 팩 작업은 하나만 돈다 (스테이징 디렉토리를 같이 쓰므로).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DatasetPackService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final AssetRepository assetRepository;
+    private final AnnotationRepository annotationRepository;
+    private final DatasetLookupCache datasetLookupCache;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 팩을 만드는 중인 버전 -> 작업
+    private final Map<Long, JobHandle> running = new ConcurrentHashMap<>();
+
+    @Value("${app.dataset.root-path}")
+    private String datasetRootPath;
+
+    // skippedBoxes: 팩 작업 시작 뒤에 생긴 클래스라 YOLO 인덱스가 없어서 뺀 박스 수
+    private record PackItem(long assetId, String name, String storageUri, String label, int skippedBoxes) {}
+
+    public JobHandle startPack(Long datasetId, String versionTag, Long userId) {
+        VersionRef version = datasetLookupCache.version(datasetId, versionTag, userId)
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
+        Long versionId = version.versionId();
+        JobHandle current = running.get(versionId);
+        if (current != null && !current.isFinished()) {
+            return current;
+        }
+        long total = assetRepository.countByVersionId(versionId);
+        // 이미 돌고 있으면 그 작업을 돌려줌
+        return running.compute(versionId, (id, existing) -> {
+            if (existing != null && !existing.isFinished()) {
+                return existing;
+            }
+            return jobService.submit(userId, "pack", handle -> {
+                try {
+                    handle.setTotal(total);
+                    return pack(id, handle);
+                } finally {
+                    running.remove(id, handle);
+                }
+            });
+        });
+    }
+
+    private PackResult pack(Long versionId, JobHandle handle) throws IOException {
+        // YOLO 클래스 인덱스 = 버전 내 LabelClass를 classId 순으로 정렬했을 때의 위치
+        Map<Long, Integer> classIndex = new HashMap<>();
+        for (LabelClassRef cls : datasetLookupCache.labelClasses(versionId)) {
+            classIndex.put(cls.classId(), classIndex.size());
+        }
+
+        Path packDir = PackPaths.packDir(datasetRootPath, versionId);
+        Path tmpDir = PackPaths.stagingDir(datasetRootPath, versionId);
+        long started = System.nanoTime();
+        int missing = 0;
+        int oversized = 0;
+        long skippedBoxes = 0;
+
+        deleteRecursively(tmpDir);
+        ShardWriter writer = new ShardWriter(tmpDir);
+        boolean done = false;
+        try {
+            try (writer) {
+                long lastId = 0L;
+                while (true) {
+                    handle.checkCancelled();
+                    long afterId = lastId;
+                    List<PackItem> batch = transactionTemplate.execute(status -> loadBatch(versionId, afterId, classIndex));
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    for (PackItem item : batch) {
+                        skippedBoxes += item.skippedBoxes();
+                        Path image = Paths.get(item.storageUri());
+                        if (!Files.isRegularFile(image)) {
+                            missing++;
+                            continue;
+                        }
+                        try {
+                            writer.append(item.assetId(), item.name(), image, item.label());
+                        } catch (ShardWriter.RecordTooLargeException e) {
+                            log.warn("팩에서 제외: {}", e.getMessage());
+                            oversized++;
+                        }
+                    }
+                    lastId = batch.get(batch.size() - 1).assetId();
+                    handle.addDone(batch.size());
+                }
+            }
+
+            // 다 쓴 다음에 교체해서 읽는 쪽이 반쯤 쓰인 팩을 보지 않도록 함
+            deleteRecursively(packDir);
+            Files.move(tmpDir, packDir, StandardCopyOption.ATOMIC_MOVE);
+            done = true;
+        } finally {
+            if (!done) {
+                deleteRecursively(tmpDir);
+            }
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        double mbPerSec = elapsedMs == 0 ? 0.0 : writer.getTotalBytes() / 1048576.0 * 1000.0 / elapsedMs;
+        if (skippedBoxes > 0) {
+            log.warn("팩 작업 중 새로 생긴 클래스의 박스 {}개는 라벨에서 제외: version={}", skippedBoxes, versionId);
+        }
+        log.info("팩 생성 완료: version={} {}건, 샤드 {}개, {} bytes, {} MB/sec", versionId, writer.getCount(),
+                writer.getShardCount(), writer.getTotalBytes(), String.format("%.1f", mbPerSec));
+        return new PackResult(writer.getCount(), writer.getShardCount(), writer.getTotalBytes(), missing, oversized,
+                skippedBoxes, elapsedMs, mbPerSec);
+    }
+
+    private List<PackItem> loadBatch(Long versionId, long afterId, Map<Long, Integer> classIndex) {
+        List<Asset> assets = assetRepository.findByDatasetVersionAndAssetIdGreaterThanOrderByAssetIdAsc(
+                datasetVersionRepository.getReferenceById(versionId), afterId, Limit.of(BATCH_SIZE));
+        if (assets.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, StringBuilder> labels = new HashMap<>();
+        Map<Long, Integer> skipped = new HashMap<>();
+        List<Long> ids = assets.stream().map(Asset::getAssetId).toList();
+        for (Annotation ann : annotationRepository.findWithLabelClassByAssetIds(ids)) {
+            Integer index = classIndex.get(ann.getLabelClass().getClassId());
+            if (index == null) {
+                skipped.merge(ann.getAsset().getAssetId(), 1, Integer::sum);
+                continue;
+            }
+            labels.computeIfAbsent(ann.getAsset().getAssetId(), k -> new StringBuilder())
+                    .append(index).append(' ')
+                    .append(ann.getXCenter()).append(' ')
+                    .append(ann.getYCenter()).append(' ')
+                    .append(ann.getWidth()).append(' ')
+                    .append(ann.getHeight()).append('\n');
+        }
+        List<PackItem> items = new ArrayList<>(assets.size());
+        for (Asset asset : assets) {
+            StringBuilder label = labels.get(asset.getAssetId());
+            items.add(new PackItem(asset.getAssetId(), asset.getName(), asset.getStorageUri(),
+                    label == null ? "" : label.toString(), skipped.getOrDefault(asset.getAssetId(), 0)));
+        }
+        return items;
+    }
+
+    public VersionRef getPackedVersion(Long datasetId, String versionTag, Long userId) {
+        VersionRef version = datasetLookupCache.version(datasetId, versionTag, userId)
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
+        if (!Files.isDirectory(PackPaths.packDir(datasetRootPath, version.versionId()))) {
+            throw new IllegalArgumentException("팩이 생성되지 않은 버전입니다: " + versionTag);
+        }
+        return version;
+    }
+
+    /**
+     * YOLO 형식 zip: images/{assetId}_{이름}, labels/{assetId}_{이름에서 확장자 뺀 것}.txt, classes.txt
+     * 이미지는 이미 압축된 형식이라 다시 압축하지 않고 mmap 영역에서 그대로 복사한다.
+     */
+    public void exportZip(VersionRef version, OutputStream out) throws IOException {
+        Path packDir = PackPaths.packDir(datasetRootPath, version.versionId());
+        ShardReader reader;
+        try {
+            reader = ShardReader.open(packDir);
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("팩이 생성되지 않은 버전입니다: " + version.versionTag());
+        }
+        try (reader; ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.setLevel(Deflater.NO_COMPRESSION);
+            StringBuilder classes = new StringBuilder();
+            for (LabelClassRef cls : datasetLookupCache.labelClasses(version.versionId())) {
+                classes.append(cls.name()).append('\n');
+            }
+            zip.putNextEntry(new ZipEntry("classes.txt"));
+            zip.write(classes.toString().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            for (int i = 0; i < reader.size(); i++) {
+                ShardRecord record = reader.get(i);
+                String fileName = record.assetId() + "_" + record.name();
+                zip.putNextEntry(new ZipEntry("images/" + fileName));
+                ByteBuffer image = record.image();
+                while (image.hasRemaining()) {
+                    int n = Math.min(buffer.length, image.remaining());
+                    image.get(buffer, 0, n);
+                    zip.write(buffer, 0, n);
+                }
+                zip.closeEntry();
+
+                int dot = fileName.lastIndexOf('.');
+                zip.putNextEntry(new ZipEntry("labels/" + (dot > 0 ? fileName.substring(0, dot) : fileName) + ".txt"));
+                zip.write(record.label().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (var paths = Files.walk(dir)) {
+            for (Path p : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+
+    public record PackResult(int assetCount, int shardCount, long bytes, int missingFiles, int oversizedFiles,
+                             long skippedBoxes, long elapsedMs, double mbPerSec) {}
+}
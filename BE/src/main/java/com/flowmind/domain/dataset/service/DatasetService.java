@@ -6,6 +6,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.cache.VersionRef;
 import com.flowmind.domain.dataset.dto.AnnotationDto;
 import com.flowmind.domain.dataset.dto.DatasetDetailResponse;
 import com.flowmind.domain.dataset.dto.DatasetResponse;
@@ -13,10 +15,15 @@ import com.flowmind.domain.dataset.dto.ImageWithAnnotationsDto;
 import com.flowmind.domain.dataset.entity.*;
 import com.flowmind.domain.dataset.repository.*;
 import com.flowmind.domain.user.entity.User;
+import com.flowmind.util.ContentHash;
 import com.flowmind.util.CurrentUserProvider;
+import com.flowmind.util.ImageSize;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.List;
 
 @Service
@@ -28,15 +35,19 @@ public class DatasetService {
     private final DatasetVersionRepository datasetVersionRepository;
     private final AssetRepository assetRepository;
     private final CurrentUserProvider currentUserProvider;
+    private final DatasetLookupCache datasetLookupCache;
 
     @Value("${app.dataset.root-path}")
     private String datasetRootPath;
 
-    public DatasetVersion createDatasetWithV0(String datasetName, List<MultipartFile> files) {
+    public DatasetVersion createDatasetWithV0(String datasetName, List<MultipartFile> files, String split) {
 
         if (files == null || files.isEmpty()) {
             throw new IllegalArgumentException("업로드할 이미지가 없습니다.");
         }
+        if (split != null && !split.matches("train|val|test")) {
+            throw new IllegalArgumentException("split 은 train / val / test 중 하나여야 합니다.");
+        }
 
         // 1. 현재 로그인한 유저
         User user = currentUserProvider.getCurrentUser();
@@ -72,15 +83,24 @@ public class DatasetService {
 
             Path target = versionDir.resolve(originalFilename);
 
-            try {
-                file.transferTo(target.toFile());
+            // 저장하면서 해시도 같이 계산 (파일을 다시 읽지 않도록)
+            MessageDigest digest = ContentHash.newDigest();
+            long bytes;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                bytes = Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
             } catch (IOException e) {
                 throw new RuntimeException("파일 저장에 실패했습니다: " + originalFilename, e);
             }
+            ImageSize size = ImageSize.read(target);
 
             Asset asset = Asset.builder()
                     .name(originalFilename)        // 파일 이름
                     .storageUri(target.toString())      // 실제 경로
+                    .contentHash(ContentHash.hex(digest))
+                    .bytes(bytes)
+                    .width(size != null ? size.width() : null)
+                    .height(size != null ? size.height() : null)
+                    .split(split)
                     .build();
             asset.setDatasetVersion(version);
             assetRepository.save(asset);
@@ -90,12 +110,12 @@ public class DatasetService {
     }
     
     public DatasetDetailResponse getDatasetDetail(Long datasetId, String versionTag, Long userId) {
-        DatasetVersion version = datasetVersionRepository
-                .findByDatasetIdAndVersionAndUser(datasetId, versionTag, userId)
+        VersionRef version = datasetLookupCache.version(datasetId, versionTag, userId)
                 .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
 
         // Asset + Annotation + LabelClass 로드
-        List<Asset> assets = assetRepository.findWithAnnotationsByDatasetVersion(version);
+        List<Asset> assets = assetRepository.findWithAnnotationsByDatasetVersion(
+                datasetVersionRepository.getReferenceById(version.versionId()));
 
         List<ImageWithAnnotationsDto> imageDtos = assets.stream()
                 .map(asset -> {
@@ -106,7 +126,9 @@ public class DatasetService {
                                     ann.getXCenter(),
                                     ann.getYCenter(),
                                     ann.getWidth(),
-                                    ann.getHeight()
+                                    ann.getHeight(),
+                                    ann.getConfidence(),
+                                    ann.getRevision()
                             ))
                             .toList();
 
@@ -123,17 +145,17 @@ public class DatasetService {
                 .toList();
 
         return new DatasetDetailResponse(
-                version.getDataset().getDatasetId(),
-                version.getDataset().getName(),
-                version.getVersionTag(),
-                version.getCreatedAt().toString(),
-                version.getDataset().getDescription(),   // description 칼럼이 있다면
+                version.datasetId(),
+                version.datasetName(),
+                version.versionTag(),
+                version.createdAt().toString(),
+                version.description(),   // description 칼럼이 있다면
                 imageDtos
         );
     }
     
     public List<DatasetResponse> getDatasetsWithVersions(Long userId) {
-        List<Dataset> datasets = datasetRepository.findByUserId(userId);
+        List<Dataset> datasets = datasetRepository.findByUserIdAndDeletedAtIsNull(userId);
 
         return datasets.stream()
                 .map(DatasetResponse::from)
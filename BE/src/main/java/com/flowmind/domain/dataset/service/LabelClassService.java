@@ -0,0 +1,52 @@
+package com.flowmind.domain.dataset.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.entity.DatasetVersion;
+import com.flowmind.domain.dataset.entity.LabelClass;
+import com.flowmind.domain.dataset.repository.LabelClassRepository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LabelClassService {
+
+    private final LabelClassRepository labelClassRepository;
+    private final DatasetLookupCache datasetLookupCache;
+
+    // 원본 버전의 클래스를 대상 버전에 복제하고 (원본 classId -> 새 LabelClass) 매핑을 돌려줌
+    public Map<Long, LabelClass> copyClasses(DatasetVersion source, DatasetVersion target) {
+        Map<Long, LabelClass> mapping = new LinkedHashMap<>();
+        for (LabelClass cls : labelClassRepository.findByDatasetVersionOrderByClassIdAsc(source)) {
+            LabelClass copy = LabelClass.builder()
+                    .name(cls.getName())
+                    .datasetVersion(target)
+                    .build();
+            mapping.put(cls.getClassId(), labelClassRepository.save(copy));
+        }
+        datasetLookupCache.evictLabelClasses(target.getDatasetVersionId());
+        return mapping;
+    }
+
+    // 버전 안에서 이름으로 찾고 없으면 새로 만든다
+    public LabelClass resolveOrCreate(DatasetVersion version, String name) {
+        return labelClassRepository.findFirstByDatasetVersionAndName(version, name)
+                .orElseGet(() -> {
+                    datasetLookupCache.evictLabelClasses(version.getDatasetVersionId());
+                    return labelClassRepository.save(LabelClass.builder()
+                            .name(name)
+                            .datasetVersion(version)
+                            .build());
+                });
+    }
+
+    public LabelClass getReference(Long classId) {
+        return labelClassRepository.getReferenceById(classId);
+    }
+}
@@ -0,0 +1,322 @@
+package com.flowmind.domain.dataset.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.flowmind.domain.dataset.entity.*;
+import com.flowmind.domain.dataset.inference.*;
+import com.flowmind.domain.dataset.repository.*;
+import com.flowmind.domain.dataset.sampling.PredictionVectors;
+import com.flowmind.domain.job.service.JobHandle;
+import com.flowmind.domain.job.service.JobService;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 버전의 Asset 들에 CPU 디텍터를 돌려서 제안 박스를 Annotation(confidence 포함)으로 저장한다.
+ * 디코딩/전처리는 ForkJoinPool 에서 병렬로, 추론은 MicroBatcher 가 묶어서 처리한다.
+ * 준비된 입력 텐서는 (마이크로 배치 크기 x 워커 수) 개까지만 메모리에 두고, 한 배치를 저장하는 동안 다음 배치를 추론한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PreAnnotationService {
+
+    private static final int ASSET_BATCH_SIZE = 64;
+
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final AssetRepository assetRepository;
+    private final AnnotationRepository annotationRepository;
+    private final AssetPredictionRepository assetPredictionRepository;
+    private final AssetSummaryService assetSummaryService;
+    private final AnnotationCollabService annotationCollabService;
+    private final ActiveLearningService activeLearningService;
+    private final LabelClassService labelClassService;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.preannotate.model-path:}")
+    private String modelPath;
+
+    @Value("${app.preannotate.max-batch:8}")
+    private int maxBatch;
+
+    @Value("${app.preannotate.max-delay-ms:10}")
+    private long maxDelayMs;
+
+    @Value("${app.preannotate.workers:2}")
+    private int workers;
+
+    @Value("${app.preannotate.min-score:0.05}")
+    private float minScore;
+
+    private Detector detector;
+    private MicroBatcher<PreparedImage, List<Detection>> batcher;
+
+    public JobHandle startPreAnnotation(Long datasetId, String versionTag, Long userId,
+                                        double minConfidence, boolean skipAnnotated) {
+        DatasetVersion version = datasetVersionRepository
+                .findByDatasetIdAndVersionAndUser(datasetId, versionTag, userId)
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
+        if (modelPath == null || modelPath.isBlank()) {
+            throw new IllegalStateException("사전 라벨링 모델이 설정되지 않았습니다. (app.preannotate.model-path)");
+        }
+
+        Long versionId = version.getDatasetVersionId();
+        long total = assetRepository.countByDatasetVersion(version);
+        return jobService.submit(userId, "pre-annotate", handle -> {
+            handle.setTotal(total);
+            return preAnnotate(versionId, minConfidence, skipAnnotated, handle);
+        });
+    }
+
+    private PreAnnotateResult preAnnotate(Long versionId, double minConfidence, boolean skipAnnotated, JobHandle handle)
+            throws Exception {
+        MicroBatcher<PreparedImage, List<Detection>> batcher = batcher();
+        int inputSize = detector.inputSize();
+        Map<String, Long> classIds = new HashMap<>();
+        // 메모리에 올라와 있는 입력 텐서 수 = 워커마다 마이크로 배치 하나
+        Semaphore permits = new Semaphore(detector.maxBatch() * workers);
+
+        long started = System.nanoTime();
+        int images = 0;
+        int proposals = 0;
+        int skipped = 0;
+        int failed = 0;
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        // 아직 추론이 끝나지 않은 요청만 (끝나면 빠지므로 작업 크기와 상관없이 permits 개 이하)
+        Set<CompletableFuture<List<Detection>>> submitted = ConcurrentHashMap.newKeySet();
+        try {
+            PendingBatch pending = null;
+            long lastId = 0L;
+            while (true) {
+                handle.checkCancelled();
+                long afterId = lastId;
+                List<Asset> assets = transactionTemplate.execute(status -> assetRepository
+                        .findByDatasetVersionAndAssetIdGreaterThanOrderByAssetIdAsc(
+                                datasetVersionRepository.getReferenceById(versionId), afterId, Limit.of(ASSET_BATCH_SIZE)));
+                if (assets.isEmpty()) {
+                    break;
+                }
+                lastId = assets.get(assets.size() - 1).getAssetId();
+
+                List<Asset> targets = assets;
+                if (skipAnnotated) {
+                    Set<Long> annotated = new HashSet<>(annotationRepository.findManuallyAnnotatedAssetIds(
+                            assets.stream().map(Asset::getAssetId).toList()));
+                    targets = assets.stream().filter(a -> !annotated.contains(a.getAssetId())).toList();
+                    skipped += assets.size() - targets.size();
+                    handle.addDone(assets.size() - targets.size());
+                }
+                if (targets.isEmpty()) {
+                    continue;
+                }
+
+                // 다음 배치를 먼저 흘려 넣고 이전 배치를 저장해서 저장하는 동안에도 추론이 쉬지 않도록
+                PendingBatch current = submitBatch(targets, inputSize, batcher, permits, pool, submitted);
+                if (pending != null) {
+                    BatchOutcome outcome = finishBatch(versionId, pending, minConfidence, classIds, handle);
+                    images += outcome.images();
+                    proposals += outcome.proposals();
+                    failed += outcome.failed();
+                }
+                pending = current;
+            }
+            if (pending != null) {
+                BatchOutcome outcome = finishBatch(versionId, pending, minConfidence, classIds, handle);
+                images += outcome.images();
+                proposals += outcome.proposals();
+                failed += outcome.failed();
+            }
+        } finally {
+            // 취소/실패 시 아직 큐에 남은 요청은 추론하지 않도록
+            submitted.forEach(f -> f.cancel(false));
+            pool.shutdownNow();
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        double imagesPerSec = elapsedMs == 0 ? 0.0 : images * 1000.0 / elapsedMs;
+        log.info("사전 라벨링 완료: version={} {}장, 제안 {}개, {} images/sec", versionId, images, proposals,
+                String.format("%.1f", imagesPerSec));
+        return new PreAnnotateResult(images, proposals, skipped, failed, elapsedMs, imagesPerSec);
+    }
+
+    // 디코딩 + letterbox 를 병렬로 하면서 준비되는 대로 배처 큐에 넣음
+    private PendingBatch submitBatch(List<Asset> assets, int inputSize, MicroBatcher<PreparedImage, List<Detection>> batcher,
+                                     Semaphore permits, ForkJoinPool pool,
+                                     Set<CompletableFuture<List<Detection>>> submitted) {
+        Map<Long, byte[]> embeddings = new ConcurrentHashMap<>();
+        List<CompletableFuture<List<Detection>>> futures = new ArrayList<>(assets.size());
+        for (Asset asset : assets) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                // 디코딩 전에 자리를 잡고 추론이 끝나면 반납 (준비된 텐서가 permits 개를 넘지 않음)
+                acquire(permits);
+                PreparedImage prepared = prepare(asset.getStorageUri(), inputSize);
+                if (prepared == null) {
+                    permits.release();
+                    throw new CompletionException(new IOException("이미지를 읽을 수 없습니다: " + asset.getName()));
+                }
+                embeddings.put(asset.getAssetId(), PredictionVectors.embed(prepared));
+                CompletableFuture<List<Detection>> detection;
+                try {
+                    detection = batcher.submit(prepared);
+                } catch (InterruptedException e) {
+                    permits.release();
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(e);
+                }
+                // 이미 끝난 future 면 whenComplete 가 바로 돌기 때문에 먼저 넣어 둠
+                submitted.add(detection);
+                detection.whenComplete((r, e) -> {
+                    permits.release();
+                    submitted.remove(detection);
+                });
+                return detection;
+            }, pool).thenCompose(f -> f));
+        }
+        return new PendingBatch(assets, futures, embeddings);
+    }
+
+    private BatchOutcome finishBatch(Long versionId, PendingBatch batch, double minConfidence,
+                                     Map<String, Long> classIds, JobHandle handle) throws InterruptedException {
+        Map<Long, List<Detection>> results = new LinkedHashMap<>();
+        int failed = 0;
+        for (int i = 0; i < batch.assets().size(); i++) {
+            try {
+                results.put(batch.assets().get(i).getAssetId(), batch.futures().get(i).get());
+            } catch (ExecutionException | CancellationException e) {
+                failed++;
+            }
+        }
+        handle.checkCancelled();
+        int proposals = transactionTemplate.execute(status ->
+                saveProposals(versionId, results, batch.embeddings(), minConfidence, classIds));
+        handle.addDone(batch.assets().size());
+        return new BatchOutcome(results.size(), proposals, failed);
+    }
+
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private int saveProposals(Long versionId, Map<Long, List<Detection>> results, Map<Long, byte[]> embeddings,
+                              double minConfidence, Map<String, Long> classIds) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+        DatasetVersion version = datasetVersionRepository.getReferenceById(versionId);
+        annotationRepository.deleteProposalsByAssetIds(results.keySet());
+
+        List<Annotation> annotations = new ArrayList<>();
+        results.forEach((assetId, detections) -> {
+            Asset asset = assetRepository.getReferenceById(assetId);
+            for (Detection d : detections) {
+                if (d.score() < minConfidence) {
+                    continue;
+                }
+                String name = detector.className(d.classIndex());
+                Long classId = classIds.computeIfAbsent(name,
+                        n -> labelClassService.resolveOrCreate(version, n).getClassId());
+                annotations.add(Annotation.builder()
+                        .asset(asset)
+                        .labelClass(labelClassService.getReference(classId))
+                        .xCenter(d.xCenter())
+                        .yCenter(d.yCenter())
+                        .width(d.width())
+                        .height(d.height())
+                        .confidence((double) d.score())
+                        .build());
+            }
+        });
+        annotationRepository.saveAll(annotations);
+
+        // 능동 학습용 예측은 minConfidence 와 상관없이 전부 남김
+        String modelName = Path.of(modelPath).getFileName().toString();
+        LocalDateTime now = LocalDateTime.now();
+        List<AssetPrediction> predictions = new ArrayList<>();
+        results.forEach((assetId, detections) -> predictions.add(AssetPrediction.builder()
+                .assetId(assetId)
+                .datasetVersionId(versionId)
+                .modelName(modelName)
+                .classScores(PredictionVectors.classScores(detections, detector.classNames().size()))
+                .embedding(embeddings.get(assetId))
+                .createdAt(now)
+                .build()));
+        assetPredictionRepository.saveAll(predictions);
+
+        assetSummaryService.refresh(results.keySet());
+        annotationCollabService.invalidate(versionId, results.keySet());
+        activeLearningService.evict(List.of(versionId));
+        return annotations.size();
+    }
+
+    private static PreparedImage prepare(String storageUri, int inputSize) {
+        try {
+            BufferedImage image = ImageIO.read(Paths.get(storageUri).toFile());
+            return image == null ? null : PreparedImage.letterbox(image, inputSize);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 모델은 첫 요청 때 한 번만 로드해서 모든 작업이 공유
+    private synchronized MicroBatcher<PreparedImage, List<Detection>> batcher() throws Exception {
+        if (batcher == null) {
+            int cores = Runtime.getRuntime().availableProcessors();
+            // 워커들이 동시에 추론해도 코어를 나눠 쓰도록 intra-op 스레드 분배
+            detector = new OnnxDetector(Path.of(modelPath), maxBatch, Math.max(1, cores / workers), minScore);
+            batcher = new MicroBatcher<>("flowmind-infer", workers, detector.maxBatch(), maxDelayMs,
+                    detector.maxBatch() * workers * 4, batch -> {
+                        try {
+                            return detector.detect(batch);
+                        } catch (Exception e) {
+                            throw new RuntimeException("추론에 실패했습니다.", e);
+                        }
+                    });
+            log.info("사전 라벨링 모델 로드: {} (input={}, maxBatch={})", modelPath, detector.inputSize(), detector.maxBatch());
+        }
+        return batcher;
+    }
+
+    @PreDestroy
+    public synchronized void close() throws Exception {
+        if (batcher != null) {
+            batcher.close();
+        }
+        if (detector != null) {
+            detector.close();
+        }
+    }
+
+    private record PendingBatch(List<Asset> assets, List<CompletableFuture<List<Detection>>> futures,
+                                Map<Long, byte[]> embeddings) {}
+
+    private record BatchOutcome(int images, int proposals, int failed) {}
+
+    public record PreAnnotateResult(int images, int proposals, int skipped, int failed,
+                                    long elapsedMs, double imagesPerSec) {}
+}
@@ -0,0 +1,385 @@
+package com.flowmind.domain.dataset.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.diff.*;
+import com.flowmind.domain.dataset.dto.VersionDiffPage;
+import com.flowmind.domain.dataset.dto.VersionDiffSummary;
+import com.flowmind.domain.dataset.entity.*;
+import com.flowmind.domain.dataset.repository.*;
+import com.flowmind.domain.job.service.JobHandle;
+import com.flowmind.domain.job.service.JobService;
+import com.flowmind.util.AfterCommit;
+import com.flowmind.util.ContentHash;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 두 버전을 (contentHash, assetId) 순서 커서로 동시에 읽으면서 merge 하듯 비교한다.
+ * 한 번에 메모리에 올리는 것은 커서 페이지와 GROUP_BATCH 개 해시 그룹의 박스뿐이라 버전 크기와 무관하다.
+ * 해시가 비어 있는 (해시 컬럼 이전에 올라온) 버전은 먼저 백그라운드 작업으로 채우고, 그동안 조회는 작업 상태를 돌려준다.
+ * 요약도 두 버전을 끝까지 훑어야 하므로 캐시에 없으면 백그라운드 작업으로 계산한다.
+ */
+@Slf4j
+@Service
+public class VersionDiffService {
+
+    private static final int CURSOR_PAGE = 1000;
+    private static final int GROUP_BATCH = 256;
+    private static final int HASH_BATCH = 200;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private record SummaryKey(Long fromId, Long toId) {}
+
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final AssetRepository assetRepository;
+    private final AnnotationRepository annotationRepository;
+    private final DatasetLookupCache datasetLookupCache;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 요약은 전체를 한 번 훑어야 하므로 캐시. 박스가 바뀌면 그 버전이 들어간 요약은 커밋 후 버림
+    private final Cache<SummaryKey, VersionDiffSummary> summaryCache;
+
+    // 해시를 채우는 중인 버전 -> 작업, 이미 채운 버전 (파일이 없어서 null 로 남은 Asset 은 다시 시도하지 않음)
+    private final Map<Long, JobHandle> hashing = new ConcurrentHashMap<>();
+    private final Set<Long> hashedVersions = ConcurrentHashMap.newKeySet();
+
+    // 요약을 계산 중인 버전 쌍 -> 작업. 계산 중에 evict 가 있었으면 결과를 캐시에 넣지 않음
+    private final Map<SummaryKey, JobHandle> summarizing = new ConcurrentHashMap<>();
+    private final AtomicLong summaryEpoch = new AtomicLong();
+
+    public VersionDiffService(DatasetVersionRepository datasetVersionRepository,
+                              AssetRepository assetRepository,
+                              AnnotationRepository annotationRepository,
+                              DatasetLookupCache datasetLookupCache,
+                              JobService jobService,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.diff.summary-cache-size:64}") long summaryCacheSize,
+                              @Value("${app.diff.summary-expire-minutes:30}") long summaryExpireMinutes) {
+        this.datasetVersionRepository = datasetVersionRepository;
+        this.assetRepository = assetRepository;
+        this.annotationRepository = annotationRepository;
+        this.datasetLookupCache = datasetLookupCache;
+        this.jobService = jobService;
+        this.transactionTemplate = transactionTemplate;
+        // 다른 서버에서 바뀐 박스는 만료 시간 안에 반영
+        this.summaryCache = Caffeine.newBuilder()
+                .maximumSize(summaryCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(summaryExpireMinutes))
+                .build();
+    }
+
+    // 두 버전 중 해시를 채워야 하는 게 있으면 그 작업 (이미 돌고 있으면 같은 작업), 없으면 empty
+    public Optional<JobHandle> pendingHashing(Long datasetId, String fromTag, String toTag, Long userId) {
+        DatasetVersion from = findVersion(datasetId, fromTag, userId);
+        DatasetVersion to = findVersion(datasetId, toTag, userId);
+        JobHandle fromJob = startHashing(from, userId);
+        JobHandle toJob = startHashing(to, userId);
+        return Optional.ofNullable(fromJob != null ? fromJob : toJob);
+    }
+
+    private JobHandle startHashing(DatasetVersion version, Long userId) {
+        Long versionId = version.getDatasetVersionId();
+        if (hashedVersions.contains(versionId)) {
+            return null;
+        }
+        JobHandle running = hashing.get(versionId);
+        if (running != null && !running.isFinished()) {
+            return running;
+        }
+        // DB 조회는 compute 밖에서 (compute 중에는 맵의 해당 구간이 잠겨 있음)
+        long total = assetRepository.countByDatasetVersionAndContentHashIsNull(version);
+        if (total == 0) {
+            hashedVersions.add(versionId);
+            return null;
+        }
+        return hashing.compute(versionId, (id, current) -> {
+            if (current != null && !current.isFinished()) {
+                return current;
+            }
+            return jobService.submit(userId, "hash-backfill", handle -> {
+                try {
+                    handle.setTotal(total);
+                    long hashed = backfillHashes(version, handle);
+                    hashedVersions.add(id);
+                    log.info("해시 채우기 완료: version={} {}건", id, hashed);
+                    return hashed;
+                } finally {
+                    hashing.remove(id, handle);
+                }
+            });
+        });
+    }
+
+    // 박스를 쓴 뒤 (AssetSummaryService) 해당 버전이 들어간 요약을 커밋 후 버림
+    public void annotationsChanged(Collection<Long> assetIds) {
+        AfterCommit.run(() -> {
+            if (summaryCache.estimatedSize() == 0 || assetIds.isEmpty()) {
+                return;
+            }
+            Set<Long> versionIds = new HashSet<>(assetRepository.findVersionIdsByAssetIds(assetIds));
+            evict(versionIds);
+        });
+    }
+
+    public void evict(Collection<Long> versionIds) {
+        AfterCommit.run(() -> {
+            summaryEpoch.incrementAndGet();
+            summaryCache.asMap().keySet()
+                    .removeIf(k -> versionIds.contains(k.fromId()) || versionIds.contains(k.toId()));
+        });
+    }
+
+    // 캐시된 요약 (없으면 empty -> startSummary)
+    public Optional<VersionDiffSummary> cachedSummary(Long datasetId, String fromTag, String toTag, Long userId) {
+        DatasetVersion from = findVersion(datasetId, fromTag, userId);
+        DatasetVersion to = findVersion(datasetId, toTag, userId);
+        return Optional.ofNullable(summaryCache.getIfPresent(
+                new SummaryKey(from.getDatasetVersionId(), to.getDatasetVersionId())));
+    }
+
+    // 요약 계산 작업 (이미 돌고 있으면 같은 작업). 결과는 작업 result 와 캐시에 남음
+    public JobHandle startSummary(Long datasetId, String fromTag, String toTag, Long userId) {
+        DatasetVersion from = findVersion(datasetId, fromTag, userId);
+        DatasetVersion to = findVersion(datasetId, toTag, userId);
+        SummaryKey key = new SummaryKey(from.getDatasetVersionId(), to.getDatasetVersionId());
+        return summarizing.compute(key, (k, current) -> {
+            if (current != null && !current.isFinished()) {
+                return current;
+            }
+            return jobService.submit(userId, "diff-summary", handle -> {
+                try {
+                    long epoch = summaryEpoch.get();
+                    VersionDiffSummary summary = summarize(from, to, fromTag, toTag, handle);
+                    if (summaryEpoch.get() == epoch) {
+                        summaryCache.put(k, summary);
+                    }
+                    return summary;
+                } finally {
+                    summarizing.remove(k, handle);
+                }
+            });
+        });
+    }
+
+    private VersionDiffSummary summarize(DatasetVersion from, DatasetVersion to, String fromTag, String toTag,
+                                         JobHandle handle) {
+        long started = System.nanoTime();
+
+        long[] counts = new long[8];
+        merge(from.getDatasetVersionId(), to.getDatasetVersionId(), null, Integer.MAX_VALUE, true, entry -> {
+            handle.checkCancelled();
+            handle.addDone(1);
+            counts[entry.type().ordinal()]++;
+            for (BoxChange change : entry.boxChanges()) {
+                switch (change.type()) {
+                    case ADDED -> counts[4]++;
+                    case REMOVED -> counts[5]++;
+                    case MOVED -> counts[6]++;
+                    case RELABELED -> counts[7]++;
+                    case MOVED_AND_RELABELED -> {
+                        counts[6]++;
+                        counts[7]++;
+                    }
+                }
+            }
+        });
+
+        Set<String> fromClasses = classNames(from);
+        Set<String> toClasses = classNames(to);
+        VersionDiffSummary summary = new VersionDiffSummary(
+                fromTag,
+                toTag,
+                counts[DiffEntry.Type.ASSET_ADDED.ordinal()],
+                counts[DiffEntry.Type.ASSET_REMOVED.ordinal()],
+                counts[DiffEntry.Type.ASSET_CHANGED.ordinal()],
+                counts[DiffEntry.Type.ASSET_UNCHANGED.ordinal()],
+                counts[4],
+                counts[5],
+                counts[6],
+                counts[7],
+                toClasses.stream().filter(c -> !fromClasses.contains(c)).sorted().toList(),
+                fromClasses.stream().filter(c -> !toClasses.contains(c)).sorted().toList(),
+                assetRepository.countByDatasetVersionAndContentHashIsNull(from)
+                        + assetRepository.countByDatasetVersionAndContentHashIsNull(to),
+                (System.nanoTime() - started) / 1_000_000
+        );
+        log.info("버전 비교 요약: {} -> {} {}ms", fromTag, toTag, summary.elapsedMs());
+        return summary;
+    }
+
+    // 변경된 Asset 만 cursor 이후부터 limit 개 (해시 그룹 경계에서 끊기 때문에 약간 넘칠 수 있음)
+    public VersionDiffPage diff(Long datasetId, String fromTag, String toTag, Long userId, String cursor, int limit) {
+        DatasetVersion from = findVersion(datasetId, fromTag, userId);
+        DatasetVersion to = findVersion(datasetId, toTag, userId);
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<DiffEntry> entries = new ArrayList<>();
+        String next = merge(from.getDatasetVersionId(), to.getDatasetVersionId(), cursor, pageSize, false, entries::add);
+        return new VersionDiffPage(entries, next);
+    }
+
+    // 반환값: 다음 페이지 커서 (끝까지 읽었으면 null)
+    private String merge(Long fromId, Long toId, String afterHash, int maxEntries, boolean emitUnchanged,
+                         Consumer<DiffEntry> sink) {
+        AssetCursor a = cursor(fromId, afterHash);
+        AssetCursor b = cursor(toId, afterHash);
+        List<Group> groups = new ArrayList<>();
+        int emitted = 0;
+
+        while (true) {
+            AssetKey ha = a.peek();
+            AssetKey hb = b.peek();
+            if (ha == null && hb == null) {
+                break;
+            }
+            String hash = ha == null ? hb.contentHash()
+                    : hb == null ? ha.contentHash()
+                    : ha.contentHash().compareTo(hb.contentHash()) <= 0 ? ha.contentHash() : hb.contentHash();
+
+            Group group = new Group(hash, new ArrayList<>(1), new ArrayList<>(1));
+            while (a.peek() != null && a.peek().contentHash().equals(hash)) {
+                group.from().add(a.next());
+            }
+            while (b.peek() != null && b.peek().contentHash().equals(hash)) {
+                group.to().add(b.next());
+            }
+            groups.add(group);
+
+            if (groups.size() >= Math.min(GROUP_BATCH, maxEntries - emitted)) {
+                emitted += flush(groups, emitUnchanged, sink);
+                String last = groups.get(groups.size() - 1).hash();
+                groups.clear();
+                if (emitted >= maxEntries) {
+                    return a.peek() == null && b.peek() == null ? null : last;
+                }
+            }
+        }
+        flush(groups, emitUnchanged, sink);
+        return null;
+    }
+
+    private int flush(List<Group> groups, boolean emitUnchanged, Consumer<DiffEntry> sink) {
+        if (groups.isEmpty()) {
+            return 0;
+        }
+        List<Long> assetIds = new ArrayList<>();
+        for (Group g : groups) {
+            g.from().forEach(k -> assetIds.add(k.assetId()));
+            g.to().forEach(k -> assetIds.add(k.assetId()));
+        }
+        Map<Long, List<BoxRef>> boxes = new HashMap<>();
+        for (Annotation ann : annotationRepository.findWithLabelClassByAssetIds(assetIds)) {
+            boxes.computeIfAbsent(ann.getAsset().getAssetId(), k -> new ArrayList<>())
+                    .add(new BoxRef(ann.getAnnotationId(), ann.getLabelClass().getName(),
+                            ann.getXCenter(), ann.getYCenter(), ann.getWidth(), ann.getHeight()));
+        }
+
+        int emitted = 0;
+        for (Group g : groups) {
+            int pairs = Math.min(g.from().size(), g.to().size());
+            // 같은 내용이 여러 장이면 assetId 순서대로 짝지음
+            for (int i = 0; i < pairs; i++) {
+                AssetKey fa = g.from().get(i);
+                AssetKey tb = g.to().get(i);
+                List<BoxChange> changes = BoxDiffer.diff(
+                        boxes.getOrDefault(fa.assetId(), List.of()),
+                        boxes.getOrDefault(tb.assetId(), List.of()));
+                if (!changes.isEmpty()) {
+                    sink.accept(new DiffEntry(DiffEntry.Type.ASSET_CHANGED, g.hash(), fa.assetId(), tb.assetId(), tb.name(), changes));
+                    emitted++;
+                } else if (emitUnchanged) {
+                    sink.accept(new DiffEntry(DiffEntry.Type.ASSET_UNCHANGED, g.hash(), fa.assetId(), tb.assetId(), tb.name(), List.of()));
+                }
+            }
+            for (int i = pairs; i < g.from().size(); i++) {
+                AssetKey fa = g.from().get(i);
+                List<BoxChange> removed = BoxDiffer.diff(boxes.getOrDefault(fa.assetId(), List.of()), List.of());
+                sink.accept(new DiffEntry(DiffEntry.Type.ASSET_REMOVED, g.hash(), fa.assetId(), null, fa.name(), removed));
+                emitted++;
+            }
+            for (int i = pairs; i < g.to().size(); i++) {
+                AssetKey tb = g.to().get(i);
+                List<BoxChange> added = BoxDiffer.diff(List.of(), boxes.getOrDefault(tb.assetId(), List.of()));
+                sink.accept(new DiffEntry(DiffEntry.Type.ASSET_ADDED, g.hash(), null, tb.assetId(), tb.name(), added));
+                emitted++;
+            }
+        }
+        return emitted;
+    }
+
+    private AssetCursor cursor(Long versionId, String afterHash) {
+        return new AssetCursor(
+                (hash, id, limit) -> assetRepository.findKeysAfter(versionId, hash, id, PageRequest.of(0, limit)),
+                CURSOR_PAGE,
+                afterHash);
+    }
+
+    // 해시 컬럼이 생기기 전에 올라온 Asset 은 파일을 읽어서 채움 (파일이 없으면 null 로 남음)
+    private long backfillHashes(DatasetVersion version, JobHandle handle) {
+        long filled = 0;
+        long lastId = 0L;
+        while (true) {
+            handle.checkCancelled();
+            long afterId = lastId;
+            List<Asset> batch = transactionTemplate.execute(status -> assetRepository
+                    .findByDatasetVersionAndContentHashIsNullAndAssetIdGreaterThanOrderByAssetIdAsc(
+                            version, afterId, Limit.of(HASH_BATCH)));
+            if (batch.isEmpty()) {
+                return filled;
+            }
+            lastId = batch.get(batch.size() - 1).getAssetId();
+
+            List<HashedFile> hashed = batch.parallelStream()
+                    .map(asset -> {
+                        Path file = Paths.get(asset.getStorageUri());
+                        try {
+                            return new HashedFile(asset.getAssetId(), ContentHash.of(file), Files.size(file));
+                        } catch (IOException e) {
+                            return null;
+                        }
+                    })
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            transactionTemplate.executeWithoutResult(status -> hashed.forEach(
+                    h -> assetRepository.updateContent(h.assetId(), h.contentHash(), h.bytes())));
+            filled += hashed.size();
+            handle.addDone(batch.size());
+        }
+    }
+
+    private Set<String> classNames(DatasetVersion version) {
+        Set<String> names = new HashSet<>();
+        datasetLookupCache.labelClasses(version.getDatasetVersionId()).forEach(c -> names.add(c.name()));
+        return names;
+    }
+
+    // 캐시에서 확인하고 엔티티는 프록시로 (쿼리 없음)
+    private DatasetVersion findVersion(Long datasetId, String versionTag, Long userId) {
+        return datasetLookupCache.version(datasetId, versionTag, userId)
+                .map(ref -> datasetVersionRepository.getReferenceById(ref.versionId()))
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다: " + versionTag));
+    }
+
+    private record Group(String hash, List<AssetKey> from, List<AssetKey> to) {}
+
+    private record HashedFile(Long assetId, String contentHash, long bytes) {}
+}
@@ -0,0 +1,27 @@
+package com.flowmind.domain.dataset.shard;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 팩 위치: {root}/.packs/{versionId}.pack
+ * 데이터셋 이름은 사용자끼리 겹칠 수 있어서 버전 id 로 구분한다.
+ * 만드는 동안에는 {versionId}.pack.tmp 에 쓰고 다 쓴 뒤 교체한다.
+ */
+public final class PackPaths {
+
+    public static final String PACKS_DIR = ".packs";
+    public static final String PACK_SUFFIX = ".pack";
+    public static final String STAGING_SUFFIX = ".pack.tmp";
+
+    private PackPaths() {
+    }
+
+    public static Path packDir(String rootPath, long versionId) {
+        return Paths.get(rootPath, PACKS_DIR, versionId + PACK_SUFFIX);
+    }
+
+    public static Path stagingDir(String rootPath, long versionId) {
+        return Paths.get(rootPath, PACKS_DIR, versionId + STAGING_SUFFIX);
+    }
+}
@@ -0,0 +1,35 @@
+package com.flowmind.domain.dataset.shard;
+
+/**
+ * 팩 디렉토리 레이아웃
+ *
+ * <pre>
+ * {versionId}.pack/   (위치는 PackPaths)
+ *   shard-00000.fms ...   헤더(magic, format) 뒤에 [name][image][label] 레코드가 연속으로 기록됨
+ *   index.fmi             헤더(magic, format, count, shardCount) 뒤에 assetId 오름차순 고정폭 엔트리
+ * </pre>
+ *
+ * 인덱스 엔트리(32바이트): assetId(8) shard(4) offset(8) nameLen(4) imageLen(4) labelLen(4)
+ */
+final class ShardFormat {
+
+    static final int SHARD_MAGIC = 0x464D5348; // "FMSH"
+    static final int INDEX_MAGIC = 0x464D4958; // "FMIX"
+    static final int FORMAT_VERSION = 1;
+
+    static final int SHARD_HEADER_BYTES = 8;
+    static final int INDEX_HEADER_BYTES = 16;
+    static final int INDEX_ENTRY_BYTES = 32;
+
+    // mmap 한 번에 매핑 가능한 크기(2GB 미만)를 넘지 않도록 샤드 크기 제한
+    static final long MAX_SHARD_BYTES = 1L << 30;
+
+    static final String INDEX_FILE = "index.fmi";
+
+    static String shardFileName(int shardNo) {
+        return String.format("shard-%05d.fms", shardNo);
+    }
+
+    private ShardFormat() {
+    }
+}
@@ -0,0 +1,150 @@
+package com.flowmind.domain.dataset.shard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * 팩 디렉토리를 mmap으로 열어서 assetId 랜덤 액세스 / 셔플 순회를 제공한다.
+ * 스프링 의존성이 없으므로 export 경로와 학습 워커 양쪽에서 그대로 사용 가능.
+ * 인스턴스는 읽기 전용이라 여러 스레드에서 동시에 사용해도 된다.
+ */
+public class ShardReader implements Closeable {
+
+    private final MappedByteBuffer index;
+    private final MappedByteBuffer[] shards;
+    private final int count;
+
+    private ShardReader(MappedByteBuffer index, MappedByteBuffer[] shards, int count) {
+        this.index = index;
+        this.shards = shards;
+        this.count = count;
+    }
+
+    public static ShardReader open(Path dir) throws IOException {
+        MappedByteBuffer index = map(dir.resolve(ShardFormat.INDEX_FILE));
+        index.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (index.getInt(0) != ShardFormat.INDEX_MAGIC || index.getInt(4) != ShardFormat.FORMAT_VERSION) {
+            throw new IOException("팩 인덱스 형식이 올바르지 않습니다: " + dir);
+        }
+        int count = index.getInt(8);
+        int shardCount = index.getInt(12);
+
+        MappedByteBuffer[] shards = new MappedByteBuffer[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = map(dir.resolve(ShardFormat.shardFileName(i)));
+            if (shards[i].order(ByteOrder.LITTLE_ENDIAN).getInt(0) != ShardFormat.SHARD_MAGIC) {
+                throw new IOException("샤드 형식이 올바르지 않습니다: " + ShardFormat.shardFileName(i));
+            }
+        }
+        return new ShardReader(index, shards, count);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public long assetIdAt(int position) {
+        return index.getLong(entryOffset(position));
+    }
+
+    public ShardRecord get(int position) {
+        if (position < 0 || position >= count) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        int e = entryOffset(position);
+        long assetId = index.getLong(e);
+        MappedByteBuffer shard = shards[index.getInt(e + 8)];
+        int offset = Math.toIntExact(index.getLong(e + 12));
+        int nameLen = index.getInt(e + 20);
+        int imageLen = index.getInt(e + 24);
+        int labelLen = index.getInt(e + 28);
+
+        String name = decode(shard, offset, nameLen);
+        ByteBuffer image = shard.slice(offset + nameLen, imageLen).asReadOnlyBuffer();
+        String label = decode(shard, offset + nameLen + imageLen, labelLen);
+        return new ShardRecord(assetId, name, image, label);
+    }
+
+    // 인덱스가 assetId 오름차순이므로 이진 탐색
+    public Optional<ShardRecord> find(long assetId) {
+        int lo = 0;
+        int hi = count - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long id = assetIdAt(mid);
+            if (id < assetId) {
+                lo = mid + 1;
+            } else if (id > assetId) {
+                hi = mid - 1;
+            } else {
+                return Optional.of(get(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 같은 seed면 같은 순서 (epoch마다 seed를 바꿔서 사용)
+    public Iterator<ShardRecord> shuffled(long seed) {
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < order.length;
+            }
+
+            @Override
+            public ShardRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(order[next++]);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        // MappedByteBuffer는 GC 시점에 해제됨 (명시적 unmap API 없음)
+    }
+
+    private static int entryOffset(int position) {
+        return ShardFormat.INDEX_HEADER_BYTES + position * ShardFormat.INDEX_ENTRY_BYTES;
+    }
+
+    private static String decode(ByteBuffer shard, int offset, int len) {
+        byte[] bytes = new byte[len];
+        shard.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.flowmind.domain.dataset.shard;
+
+import java.nio.ByteBuffer;
+
+// image는 mmap 영역을 그대로 가리키는 read-only slice (복사 없음)
+public record ShardRecord(
+        long assetId,
+        String name,
+        ByteBuffer image,
+        String label
+) {}
@@ -0,0 +1,152 @@
+package com.flowmind.domain.dataset.shard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 이미지 + YOLO 라벨을 큰 순차 샤드 파일로 기록한다.
+ * append()는 assetId 오름차순으로 호출되어야 한다 (인덱스를 정렬 없이 그대로 씀).
+ */
+public class ShardWriter implements Closeable {
+
+    private final Path dir;
+    private final long maxShardBytes;
+
+    private FileChannel shard;
+    private FileChannel index;
+    private final ByteBuffer entry = ByteBuffer.allocate(ShardFormat.INDEX_ENTRY_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+    private int shardNo = -1;
+    private long shardPos;
+    private long lastAssetId = Long.MIN_VALUE;
+    private int count;
+    private long totalBytes;
+
+    public ShardWriter(Path dir) throws IOException {
+        this(dir, ShardFormat.MAX_SHARD_BYTES);
+    }
+
+    ShardWriter(Path dir, long maxShardBytes) throws IOException {
+        this.dir = dir;
+        this.maxShardBytes = maxShardBytes;
+        Files.createDirectories(dir);
+        this.index = FileChannel.open(dir.resolve(ShardFormat.INDEX_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        // 헤더는 close 시점에 count를 채워서 다시 씀
+        index.write(ByteBuffer.allocate(ShardFormat.INDEX_HEADER_BYTES), 0);
+        index.position(ShardFormat.INDEX_HEADER_BYTES);
+    }
+
+    public void append(long assetId, String name, Path image, String label) throws IOException {
+        if (assetId <= lastAssetId) {
+            throw new IllegalArgumentException("assetId 오름차순으로 기록해야 합니다: " + assetId);
+        }
+
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        byte[] labelBytes = label.getBytes(StandardCharsets.UTF_8);
+
+        try (FileChannel src = FileChannel.open(image, StandardOpenOption.READ)) {
+            long imageLen = src.size();
+            if (imageLen > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("이미지가 너무 큽니다: " + image);
+            }
+            long recordLen = nameBytes.length + imageLen + labelBytes.length;
+            // 빈 샤드에도 안 들어가는 레코드는 mmap 한도를 넘기므로 받지 않음
+            if (recordLen > maxShardBytes - ShardFormat.SHARD_HEADER_BYTES) {
+                throw new RecordTooLargeException(assetId, recordLen);
+            }
+
+            if (shard == null || (shardPos + recordLen > maxShardBytes && shardPos > ShardFormat.SHARD_HEADER_BYTES)) {
+                rollShard();
+            }
+
+            long offset = shardPos;
+            writeFully(shard, ByteBuffer.wrap(nameBytes));
+            long copied = 0;
+            while (copied < imageLen) {
+                copied += src.transferTo(copied, imageLen - copied, shard);
+            }
+            writeFully(shard, ByteBuffer.wrap(labelBytes));
+            shardPos += recordLen;
+
+            entry.clear();
+            entry.putLong(assetId)
+                    .putInt(shardNo)
+                    .putLong(offset)
+                    .putInt(nameBytes.length)
+                    .putInt((int) imageLen)
+                    .putInt(labelBytes.length)
+                    .flip();
+            writeFully(index, entry);
+
+            lastAssetId = assetId;
+            count++;
+            totalBytes += recordLen;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getShardCount() {
+        return shardNo + 1;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (shard != null) {
+                shard.force(false);
+                shard.close();
+            }
+            ByteBuffer header = ByteBuffer.allocate(ShardFormat.INDEX_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(ShardFormat.INDEX_MAGIC)
+                    .putInt(ShardFormat.FORMAT_VERSION)
+                    .putInt(count)
+                    .putInt(getShardCount())
+                    .flip();
+            index.write(header, 0);
+            index.force(false);
+        } finally {
+            index.close();
+        }
+    }
+
+    private void rollShard() throws IOException {
+        if (shard != null) {
+            shard.force(false);
+            shard.close();
+        }
+        shardNo++;
+        shard = FileChannel.open(dir.resolve(ShardFormat.shardFileName(shardNo)),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(ShardFormat.SHARD_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(ShardFormat.SHARD_MAGIC).putInt(ShardFormat.FORMAT_VERSION).flip();
+        writeFully(shard, header);
+        shardPos = ShardFormat.SHARD_HEADER_BYTES;
+    }
+
+    public static class RecordTooLargeException extends IllegalArgumentException {
+        RecordTooLargeException(long assetId, long recordLen) {
+            super("샤드 하나에 담을 수 없는 크기입니다: assetId=" + assetId + ", " + recordLen + " bytes");
+        }
+    }
+
+    private static void writeFully(FileChannel ch, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            ch.write(buf);
+        }
+    }
+}
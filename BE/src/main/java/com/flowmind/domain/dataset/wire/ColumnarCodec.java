@@ -0,0 +1,284 @@
+package com.flowmind.domain.dataset.wire;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.flowmind.domain.dataset.dto.AnnotationDto;
+import com.flowmind.domain.dataset.dto.DatasetDetailResponse;
+import com.flowmind.domain.dataset.dto.ImageWithAnnotationsDto;
+
+/**
+ * DatasetDetailResponse 의 열(column) 지향 바이너리 인코딩 (application/x-flowmind-columnar)
+ *
+ * <pre>
+ * "FMC1"
+ * id(varint) name version createdAt description       문자열 = varint(길이+1) + UTF-8, 0 이면 null
+ * 라벨 사전: count, 문자열...
+ * 이미지 N: id 차분(zigzag varint) x N, filename x N, 박스 수(varint) x N
+ * 박스 M : annotationId 차분 x M, 라벨 인덱스 x M,
+ *          xCenter/yCenter/width/height 각각 uint16 x M (0~1 을 65535 단계로 양자화),
+ *          confidence uint16 x M (0xFFFF = null), revision varint x M
+ * </pre>
+ *
+ * imageUrl 은 id 로부터 다시 만들 수 있으므로 보내지 않는다.
+ */
+public final class ColumnarCodec {
+
+    public static final String MEDIA_TYPE = "application/x-flowmind-columnar";
+
+    private static final int MAGIC = 0x31434D46; // "FMC1"
+    private static final int QUANT = 0xFFFE;     // 0xFFFF 는 null 표시용
+    private static final int NULL_U16 = 0xFFFF;
+
+    private ColumnarCodec() {
+    }
+
+    public static byte[] encode(DatasetDetailResponse response) {
+        List<ImageWithAnnotationsDto> images = response.images() == null ? List.of() : response.images();
+        int boxCount = 0;
+        for (ImageWithAnnotationsDto image : images) {
+            boxCount += image.annotations().size();
+        }
+
+        Writer w = new Writer(64 + images.size() * 32 + boxCount * 14);
+        w.buf.putInt(MAGIC);
+        w.varint(response.id() == null ? 0 : response.id());
+        w.string(response.name());
+        w.string(response.version());
+        w.string(response.createdAt());
+        w.string(response.description());
+
+        // 라벨 사전
+        Map<String, Integer> labelIndex = new HashMap<>();
+        List<String> labels = new ArrayList<>();
+        for (ImageWithAnnotationsDto image : images) {
+            for (AnnotationDto ann : image.annotations()) {
+                if (labelIndex.putIfAbsent(ann.label(), labels.size()) == null) {
+                    labels.add(ann.label());
+                }
+            }
+        }
+        w.varint(labels.size());
+        labels.forEach(w::string);
+
+        // 이미지 열
+        w.varint(images.size());
+        long prev = 0;
+        for (ImageWithAnnotationsDto image : images) {
+            w.zigzag(image.id() - prev);
+            prev = image.id();
+        }
+        for (ImageWithAnnotationsDto image : images) {
+            w.string(image.filename());
+        }
+        for (ImageWithAnnotationsDto image : images) {
+            w.varint(image.annotations().size());
+        }
+
+        // 박스 열
+        prev = 0;
+        for (ImageWithAnnotationsDto image : images) {
+            for (AnnotationDto ann : image.annotations()) {
+                w.zigzag(ann.id() - prev);
+                prev = ann.id();
+            }
+        }
+        for (ImageWithAnnotationsDto image : images) {
+            for (AnnotationDto ann : image.annotations()) {
+                w.varint(labelIndex.get(ann.label()));
+            }
+        }
+        w.ensure(boxCount * 10);
+        for (int col = 0; col < 5; col++) {
+            for (ImageWithAnnotationsDto image : images) {
+                for (AnnotationDto ann : image.annotations()) {
+                    switch (col) {
+                        case 0 -> w.buf.putShort(quantize(ann.xCenter()));
+                        case 1 -> w.buf.putShort(quantize(ann.yCenter()));
+                        case 2 -> w.buf.putShort(quantize(ann.width()));
+                        case 3 -> w.buf.putShort(quantize(ann.height()));
+                        default -> w.buf.putShort(ann.confidence() == null ? (short) NULL_U16 : quantize(ann.confidence()));
+                    }
+                }
+            }
+        }
+        for (ImageWithAnnotationsDto image : images) {
+            for (AnnotationDto ann : image.annotations()) {
+                w.varint(ann.revision());
+            }
+        }
+        return w.toByteArray();
+    }
+
+    public static DatasetDetailResponse decode(byte[] bytes) {
+        Reader r = new Reader(bytes);
+        if (r.buf.getInt() != MAGIC) {
+            throw new IllegalArgumentException("columnar 형식이 아닙니다.");
+        }
+        long id = r.varint();
+        String name = r.string();
+        String version = r.string();
+        String createdAt = r.string();
+        String description = r.string();
+
+        String[] labels = new String[(int) r.varint()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = r.string();
+        }
+
+        int n = (int) r.varint();
+        long[] imageIds = new long[n];
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            prev += r.zigzag();
+            imageIds[i] = prev;
+        }
+        String[] filenames = new String[n];
+        for (int i = 0; i < n; i++) {
+            filenames[i] = r.string();
+        }
+        int[] boxCounts = new int[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            boxCounts[i] = (int) r.varint();
+            m += boxCounts[i];
+        }
+
+        long[] annIds = new long[m];
+        prev = 0;
+        for (int i = 0; i < m; i++) {
+            prev += r.zigzag();
+            annIds[i] = prev;
+        }
+        int[] labelIdx = new int[m];
+        for (int i = 0; i < m; i++) {
+            labelIdx[i] = (int) r.varint();
+        }
+        double[][] coords = new double[4][m];
+        for (int c = 0; c < 4; c++) {
+            for (int i = 0; i < m; i++) {
+                coords[c][i] = dequantize(r.buf.getShort());
+            }
+        }
+        Double[] confidence = new Double[m];
+        for (int i = 0; i < m; i++) {
+            int raw = r.buf.getShort() & 0xFFFF;
+            confidence[i] = raw == NULL_U16 ? null : raw / (double) QUANT;
+        }
+        long[] revisions = new long[m];
+        for (int i = 0; i < m; i++) {
+            revisions[i] = r.varint();
+        }
+
+        List<ImageWithAnnotationsDto> images = new ArrayList<>(n);
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            List<AnnotationDto> anns = new ArrayList<>(boxCounts[i]);
+            for (int j = 0; j < boxCounts[i]; j++, k++) {
+                anns.add(new AnnotationDto(annIds[k], labels[labelIdx[k]],
+                        coords[0][k], coords[1][k], coords[2][k], coords[3][k], confidence[k], revisions[k]));
+            }
+            images.add(new ImageWithAnnotationsDto(imageIds[i], filenames[i],
+                    "/api/datasets/assets/" + imageIds[i] + "/image", anns));
+        }
+        return new DatasetDetailResponse(id, name, version, createdAt, description, images);
+    }
+
+    private static short quantize(double v) {
+        double clamped = v < 0 ? 0 : v > 1 ? 1 : v;
+        return (short) Math.round(clamped * QUANT);
+    }
+
+    private static double dequantize(short s) {
+        return (s & 0xFFFF) / (double) QUANT;
+    }
+
+    private static final class Writer {
+        ByteBuffer buf;
+
+        Writer(int initial) {
+            buf = ByteBuffer.allocate(Math.max(initial, 256)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        void ensure(int extra) {
+            if (buf.remaining() < extra) {
+                ByteBuffer bigger = ByteBuffer.allocate(Math.max(buf.capacity() * 2, buf.position() + extra))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                buf.flip();
+                bigger.put(buf);
+                buf = bigger;
+            }
+        }
+
+        void varint(long v) {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buf.put((byte) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            buf.put((byte) v);
+        }
+
+        void zigzag(long v) {
+            varint((v << 1) ^ (v >> 63));
+        }
+
+        void string(String s) {
+            if (s == null) {
+                varint(0);
+                return;
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1L);
+            ensure(bytes.length);
+            buf.put(bytes);
+        }
+
+        byte[] toByteArray() {
+            byte[] out = new byte[buf.position()];
+            buf.flip();
+            buf.get(out);
+            return out;
+        }
+    }
+
+    private static final class Reader {
+        final ByteBuffer buf;
+
+        Reader(byte[] bytes) {
+            buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        long varint() {
+            long v = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buf.get();
+                v |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return v;
+        }
+
+        long zigzag() {
+            long v = varint();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        String string() {
+            int len = (int) varint();
+            if (len == 0) {
+                return null;
+            }
+            byte[] bytes = new byte[len - 1];
+            buf.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
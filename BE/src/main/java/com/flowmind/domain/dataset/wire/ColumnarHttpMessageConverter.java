@@ -0,0 +1,47 @@
+package com.flowmind.domain.dataset.wire;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.flowmind.domain.dataset.dto.DatasetDetailResponse;
+
+// Accept: application/x-flowmind-columnar 일 때만 선택됨 (컨버터 목록 맨 뒤에 등록)
+public class ColumnarHttpMessageConverter extends AbstractHttpMessageConverter<DatasetDetailResponse> {
+
+    public ColumnarHttpMessageConverter() {
+        super(MediaType.parseMediaType(ColumnarCodec.MEDIA_TYPE));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return DatasetDetailResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected DatasetDetailResponse readInternal(Class<? extends DatasetDetailResponse> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        try {
+            return ColumnarCodec.decode(inputMessage.getBody().readAllBytes());
+        } catch (RuntimeException e) {
+            throw new HttpMessageNotReadableException("columnar 본문을 읽을 수 없습니다.", e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Long getContentLength(DatasetDetailResponse response, MediaType contentType) {
+        // 압축 필터가 길이를 다시 계산하므로 미리 계산하지 않음
+        return null;
+    }
+
+    @Override
+    protected void writeInternal(DatasetDetailResponse response, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        outputMessage.getBody().write(ColumnarCodec.encode(response));
+    }
+}
@@ -0,0 +1,38 @@
+package com.flowmind.domain.job.controller;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import com.flowmind.domain.job.dto.JobStatusResponse;
+import com.flowmind.domain.job.service.JobService;
+import com.flowmind.domain.user.service.UserService;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+    private final JobService jobService;
+    private final UserService userService;
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobStatusResponse> getJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(JobStatusResponse.from(jobService.getJob(jobId, userId)));
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<JobStatusResponse> cancelJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(JobStatusResponse.from(jobService.cancel(jobId, userId)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.flowmind.domain.job.dto;
+
+import com.flowmind.domain.job.service.JobHandle;
+
+public record JobStatusResponse(
+        String jobId,
+        String type,
+        String state,
+        long done,
+        long total,
+        long elapsedMs,
+        double throughputPerSec,
+        Object result,
+        String error
+) {
+    public static JobStatusResponse from(JobHandle handle) {
+        return new JobStatusResponse(
+                handle.getJobId(),
+                handle.getType(),
+                handle.getState().name(),
+                handle.getDoneCount(),
+                handle.getTotal(),
+                handle.getElapsedMs(),
+                handle.getThroughputPerSec(),
+                handle.getResult(),
+                handle.getError()
+        );
+    }
+}
@@ -0,0 +1,100 @@
+package com.flowmind.domain.job.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 백그라운드 작업 하나의 상태 (메모리에만 유지)
+@Getter
+public class JobHandle {
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final String type;
+    private final Long userId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile JobState state = JobState.QUEUED;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private volatile LocalDateTime finishedAt;
+    private volatile Object result;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+    private volatile Future<?> future;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong done = new AtomicLong();
+    private volatile long total = -1;
+
+    JobHandle(String type, Long userId) {
+        this.type = type;
+        this.userId = userId;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public void addDone(long n) {
+        done.addAndGet(n);
+    }
+
+    public long getDoneCount() {
+        return done.get();
+    }
+
+    // 작업 코드가 배치 경계마다 호출해서 취소 요청에 응답
+    public void checkCancelled() {
+        if (cancelRequested || Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("작업이 취소되었습니다.");
+        }
+    }
+
+    public long getElapsedMs() {
+        if (startedNanos == 0) {
+            return 0;
+        }
+        long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+        return (end - startedNanos) / 1_000_000;
+    }
+
+    // 처리 단위(이미지 등) 기준 초당 처리량
+    public double getThroughputPerSec() {
+        long elapsedMs = getElapsedMs();
+        return elapsedMs == 0 ? 0.0 : done.get() * 1000.0 / elapsedMs;
+    }
+
+    public boolean isFinished() {
+        return state == JobState.SUCCEEDED || state == JobState.FAILED || state == JobState.CANCELLED;
+    }
+
+    void markRunning() {
+        startedNanos = System.nanoTime();
+        state = JobState.RUNNING;
+    }
+
+    void markFinished(JobState finalState, Object result, String error) {
+        this.result = result;
+        this.error = error;
+        this.finishedNanos = System.nanoTime();
+        this.finishedAt = LocalDateTime.now();
+        this.state = finalState;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+        Future<?> f = future;
+        if (f != null) {
+            f.cancel(true);
+        }
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+}
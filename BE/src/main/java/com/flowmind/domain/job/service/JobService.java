@@ -0,0 +1,84 @@
+package com.flowmind.domain.job.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.*;
+
+@Slf4j
+@Service
+public class JobService {
+
+    // 끝난 작업 상태를 조회할 수 있게 남겨두는 시간
+    private static final long RETENTION_MINUTES = 60;
+
+    private final Map<String, JobHandle> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    public JobService(@Value("${app.job.max-concurrent:2}") int maxConcurrent) {
+        this.executor = Executors.newFixedThreadPool(maxConcurrent, r -> {
+            Thread t = new Thread(r, "flowmind-job");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public JobHandle submit(Long userId, String type, JobTask task) {
+        evictFinished();
+
+        JobHandle handle = new JobHandle(type, userId);
+        jobs.put(handle.getJobId(), handle);
+
+        handle.setFuture(executor.submit(() -> {
+            if (handle.isCancelRequested()) {
+                handle.markFinished(JobState.CANCELLED, null, null);
+                return;
+            }
+            handle.markRunning();
+            try {
+                Object result = task.run(handle);
+                handle.markFinished(JobState.SUCCEEDED, result, null);
+            } catch (CancellationException | InterruptedException e) {
+                handle.markFinished(JobState.CANCELLED, null, null);
+            } catch (Exception e) {
+                log.error("작업 실패: {} ({})", handle.getJobId(), handle.getType(), e);
+                handle.markFinished(JobState.FAILED, null, e.getMessage());
+            }
+        }));
+        return handle;
+    }
+
+    public JobHandle getJob(String jobId, Long userId) {
+        JobHandle handle = jobs.get(jobId);
+        if (handle == null || !handle.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("작업을 찾을 수 없습니다.");
+        }
+        return handle;
+    }
+
+    public JobHandle cancel(String jobId, Long userId) {
+        JobHandle handle = getJob(jobId, userId);
+        if (!handle.isFinished()) {
+            handle.requestCancel();
+            // 큐에서 대기 중에 취소된 경우 실행 스레드가 상태를 바꾸지 못하므로 여기서 처리
+            if (handle.getState() == JobState.QUEUED && handle.getFuture().isCancelled()) {
+                handle.markFinished(JobState.CANCELLED, null, null);
+            }
+        }
+        return handle;
+    }
+
+    private void evictFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(RETENTION_MINUTES);
+        jobs.values().removeIf(j -> j.isFinished() && j.getFinishedAt() != null && j.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,9 @@
+package com.flowmind.domain.job.service;
+
+public enum JobState {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED
+}
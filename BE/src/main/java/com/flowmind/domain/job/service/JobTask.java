@@ -0,0 +1,7 @@
+package com.flowmind.domain.job.service;
+
+@FunctionalInterface
+public interface JobTask {
+    // 반환값은 완료 시 JobHandle.result로 노출됨
+    Object run(JobHandle handle) throws Exception;
+}
@@ -0,0 +1,93 @@
+package com.flowmind.domain.model.chunk;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.flowmind.domain.model.entity.ModelChunk;
+
+/**
+ * 모델 가중치 청크 저장소. 청크는 SHA-256 이름으로 {root}/chunks/ab/abcdef... 에 한 번만 저장되고
+ * 같은 청크를 가진 모델(파인튜닝 계보, 같은 파일 재업로드)은 파일을 공유한다.
+ * 저장된 청크는 내용이 바뀌지 않으므로 읽을 때 잠금이 필요 없다.
+ */
+@Component
+public class ChunkStore {
+
+    private final Path root;
+
+    public ChunkStore(@Value("${app.model.root-path:${app.dataset.root-path}/.models}") String rootPath) {
+        this.root = Paths.get(rootPath).resolve("chunks");
+    }
+
+    public Path path(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    // 새로 쓴 경우 true (이미 같은 청크가 있으면 false)
+    public boolean put(String hash, byte[] data, int length) throws IOException {
+        Path target = path(hash);
+        if (Files.isRegularFile(target) && Files.size(target) == length) {
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        // 다른 업로드가 같은 청크를 동시에 써도 완성된 파일만 보이도록 임시 파일 -> 원자적 이동
+        Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data, 0, length);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return true;
+    }
+
+    /**
+     * 파일의 [start, end] (양 끝 포함) 구간을 청크 파일에서 바로 out 으로 보낸다.
+     * chunks 는 seq 순이어야 한다.
+     */
+    public void copyRange(List<ModelChunk> chunks, long start, long end, OutputStream out) throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+        for (ModelChunk chunk : chunks) {
+            long chunkStart = chunk.getOffsetBytes();
+            long chunkEnd = chunkStart + chunk.getLength();
+            if (chunkEnd <= start) {
+                continue;
+            }
+            if (chunkStart > end) {
+                break;
+            }
+            long from = Math.max(start, chunkStart) - chunkStart;
+            long count = Math.min(end + 1, chunkEnd) - chunkStart - from;
+            try (FileChannel channel = FileChannel.open(path(chunk.getChunkHash()), StandardOpenOption.READ)) {
+                while (count > 0) {
+                    long sent = channel.transferTo(from, count, target);
+                    if (sent <= 0) {
+                        throw new IOException("청크 파일이 예상보다 짧습니다: " + chunk.getChunkHash());
+                    }
+                    from += sent;
+                    count -= sent;
+                }
+            }
+        }
+        out.flush();
+    }
+}
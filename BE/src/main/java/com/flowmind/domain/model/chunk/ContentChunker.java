@@ -0,0 +1,96 @@
+package com.flowmind.domain.model.chunk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.SplittableRandom;
+
+/**
+ * 내용 기준 청크 분할 (FastCDC 방식 gear 해시).
+ * 경계가 바이트 위치가 아니라 주변 내용으로 정해져서, 파인튜닝한 가중치처럼 앞부분 크기가 조금 달라져도
+ * 바뀌지 않은 레이어는 같은 청크로 잘린다.
+ * 평균 크기 전까지는 어려운 마스크, 이후에는 쉬운 마스크를 써서 청크 크기를 AVG_SIZE 근처로 모은다.
+ */
+public final class ContentChunker {
+
+    public static final int MIN_SIZE = 256 * 1024;
+    public static final int AVG_SIZE = 1024 * 1024;
+    public static final int MAX_SIZE = 4 * 1024 * 1024;
+
+    // 상위 비트일수록 더 많은 바이트(최대 64)의 영향을 받음
+    private static final long MASK_HARD = highBits(22);
+    private static final long MASK_EASY = highBits(18);
+    private static final long[] GEAR = new long[256];
+
+    static {
+        // 모든 서버가 같은 경계를 만들도록 고정 시드
+        SplittableRandom random = new SplittableRandom(0x5EEDC0DEL);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[MAX_SIZE];
+    private int filled;
+    private int current;
+    private boolean eof;
+
+    public ContentChunker(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * 다음 청크를 buffer() 의 [0, 반환값) 에 놓는다. 더 없으면 -1.
+     * 반환된 내용은 다음 호출 전까지만 유효하다.
+     */
+    public int next() throws IOException {
+        if (current > 0) {
+            System.arraycopy(buffer, current, buffer, 0, filled - current);
+            filled -= current;
+            current = 0;
+        }
+        while (!eof && filled < MAX_SIZE) {
+            int n = in.read(buffer, filled, MAX_SIZE - filled);
+            if (n < 0) {
+                eof = true;
+            } else {
+                filled += n;
+            }
+        }
+        if (filled == 0) {
+            return -1;
+        }
+        current = cut(buffer, filled);
+        return current;
+    }
+
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    static int cut(byte[] data, int length) {
+        if (length <= MIN_SIZE) {
+            return length;
+        }
+        int normal = Math.min(AVG_SIZE, length);
+        long hash = 0;
+        int i = MIN_SIZE;
+        for (; i < normal; i++) {
+            hash = (hash << 1) + GEAR[data[i] & 0xFF];
+            if ((hash & MASK_HARD) == 0) {
+                return i + 1;
+            }
+        }
+        for (; i < length; i++) {
+            hash = (hash << 1) + GEAR[data[i] & 0xFF];
+            if ((hash & MASK_EASY) == 0) {
+                return i + 1;
+            }
+        }
+        return length;
+    }
+
+    private static long highBits(int count) {
+        return -1L << (64 - count);
+    }
+}
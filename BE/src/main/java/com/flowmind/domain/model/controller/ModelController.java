@@ -0,0 +1,159 @@
+package com.flowmind.domain.model.controller;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import com.flowmind.domain.model.dto.EvaluationRequest;
+import com.flowmind.domain.model.dto.ModelCreateRequest;
+import com.flowmind.domain.model.dto.ModelDetailResponse;
+import com.flowmind.domain.model.dto.ModelEvaluationSummary;
+import com.flowmind.domain.model.dto.ModelSummary;
+import com.flowmind.domain.model.dto.ModelUploadResponse;
+import com.flowmind.domain.model.service.ModelArtifact;
+import com.flowmind.domain.model.service.ModelService;
+import com.flowmind.domain.user.service.UserService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/models")
+@RequiredArgsConstructor
+public class ModelController {
+
+    private final ModelService modelService;
+    private final UserService userService;
+
+    // 학습 결과 등록 (가중치는 PUT /{modelId}/weights 로 따로 올림)
+    @PostMapping
+    public ResponseEntity<ModelSummary> createModel(
+            @Valid @RequestBody ModelCreateRequest request,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(modelService.createModel(request, userId));
+    }
+
+    // TrainPage 목록
+    @GetMapping
+    public ResponseEntity<List<ModelSummary>> listModels(
+            @RequestParam(required = false) Long datasetId,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(modelService.listModels(userId, datasetId));
+    }
+
+    // 하이퍼파라미터/변환 옵션 포함
+    @GetMapping("/{modelId}")
+    public ResponseEntity<ModelDetailResponse> getModel(
+            @PathVariable Long modelId,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(modelService.getModel(modelId, userId));
+    }
+
+    // EvaluatePage 목록
+    @GetMapping("/evaluations")
+    public ResponseEntity<List<ModelEvaluationSummary>> listEvaluations(@AuthenticationPrincipal String email) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(modelService.listEvaluations(userId));
+    }
+
+    @PutMapping("/{modelId}/evaluation")
+    public ResponseEntity<Void> saveEvaluation(
+            @PathVariable Long modelId,
+            @Valid @RequestBody EvaluationRequest request,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        modelService.saveEvaluation(modelId, userId, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 자기 자신부터 처음 학습한 모델까지 (parentModelId 를 따라감)
+    @GetMapping("/{modelId}/lineage")
+    public ResponseEntity<List<ModelSummary>> getLineage(
+            @PathVariable Long modelId,
+            @AuthenticationPrincipal String email
+    ) {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(modelService.getLineage(modelId, userId));
+    }
+
+    // 본문이 파일 그대로 (multipart 아님, 크기 제한/임시 파일 없이 스트리밍)
+    @PutMapping(value = "/{modelId}/weights", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ModelUploadResponse> uploadWeights(
+            @PathVariable Long modelId,
+            @RequestParam(required = false) String filename,
+            @AuthenticationPrincipal String email,
+            HttpServletRequest request
+    ) throws IOException {
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.ok(modelService.uploadWeights(modelId, userId, filename, request.getInputStream()));
+    }
+
+    // Range 요청(한 구간)이면 206, If-Range 가 ETag 와 다르면 전체를 다시 보냄
+    @GetMapping("/{modelId}/weights")
+    public void downloadWeights(
+            @PathVariable Long modelId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @AuthenticationPrincipal String email,
+            HttpServletResponse response
+    ) throws IOException {
+        Long userId = userService.findUserIdByEmail(email);
+        ModelArtifact artifact = modelService.getArtifact(modelId, userId);
+        long length = artifact.bytes();
+        String etag = "\"" + artifact.sha256() + "\"";
+
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                // 형식이 틀린 Range 는 무시하고 전체 전송
+                ranges = List.of();
+            }
+            // 여러 구간(multipart/byteranges)은 지원하지 않고 전체 전송
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                start = range.getRangeStart(length);
+                if (start >= length) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                end = range.getRangeEnd(length);
+                partial = true;
+            }
+        }
+
+        response.setStatus(partial ? HttpStatus.PARTIAL_CONTENT.value() : HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(artifact.name()).build().toString());
+        if (partial) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentLengthLong(end - start + 1);
+        modelService.writeRange(artifact, start, end, response.getOutputStream());
+    }
+}
@@ -0,0 +1,13 @@
+package com.flowmind.domain.model.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+
+// 모든 값 0~1
+public record EvaluationRequest(
+        @DecimalMin("0") @DecimalMax("1") Float f1Score,
+        @DecimalMin("0") @DecimalMax("1") Float precision,
+        @DecimalMin("0") @DecimalMax("1") Float recall,
+        @DecimalMin("0") @DecimalMax("1") Float map50,
+        @DecimalMin("0") @DecimalMax("1") Float map5095
+) {}
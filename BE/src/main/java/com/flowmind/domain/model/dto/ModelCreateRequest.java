@@ -0,0 +1,17 @@
+package com.flowmind.domain.model.dto;
+
+import java.util.Map;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record ModelCreateRequest(
+        @NotNull Long datasetId,
+        @NotBlank String datasetVersion,            // 학습에 쓴 버전 태그 (v0, v1, ...)
+        Long parentModelId,                         // 파인튜닝이면 출발 모델
+        @Size(max = 45) String version,
+        @Size(max = 45) String modelType,
+        Map<String, Object> hyperparam,
+        Map<String, Object> convertParam
+) {}
@@ -0,0 +1,10 @@
+package com.flowmind.domain.model.dto;
+
+import java.util.Map;
+
+public record ModelDetailResponse(
+        ModelSummary summary,
+        Map<String, Object> hyperparam,
+        Map<String, Object> convertParam,
+        String artifactSha256       // 다운로드 ETag 와 같음
+) {}
@@ -0,0 +1,18 @@
+package com.flowmind.domain.model.dto;
+
+import java.time.LocalDateTime;
+
+public record ModelEvaluationSummary(
+        Long modelId,
+        String version,
+        String modelType,
+        Long datasetId,
+        String datasetName,
+        String datasetVersion,
+        Float f1Score,
+        Float precision,
+        Float recall,
+        Float map50,
+        Float map5095,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,17 @@
+package com.flowmind.domain.model.dto;
+
+import java.time.LocalDateTime;
+
+// 모델 목록 한 줄 (JSON 컬럼/청크 목록 없이 프로젝션으로 바로 조회)
+public record ModelSummary(
+        Long modelId,
+        String version,
+        String modelType,
+        Long parentModelId,         // null 이면 처음부터 학습
+        Long datasetId,
+        String datasetName,
+        String datasetVersion,
+        String artifactName,        // null 이면 아직 가중치 없음
+        Long artifactBytes,
+        LocalDateTime createdAt
+) {}
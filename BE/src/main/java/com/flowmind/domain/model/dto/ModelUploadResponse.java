@@ -0,0 +1,12 @@
+package com.flowmind.domain.model.dto;
+
+// newChunks/newBytes: 이번 업로드로 실제 디스크에 새로 쓴 양 (나머지는 기존 청크 재사용)
+public record ModelUploadResponse(
+        Long modelId,
+        String artifactName,
+        long bytes,
+        String sha256,
+        int chunks,
+        int newChunks,
+        long newBytes
+) {}
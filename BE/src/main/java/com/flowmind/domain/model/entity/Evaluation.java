@@ -0,0 +1,34 @@
+package com.flowmind.domain.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 모델당 한 줄 (다시 평가하면 덮어씀)
+@Entity
+@Table(name = "evaluation")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Evaluation {
+
+    @Id
+    @Column(name = "model_id")
+    private Long modelId;
+
+    @Column(name = "f1_score")
+    private Float f1Score;
+
+    // MySQL 예약어
+    @Column(name = "`precision`")
+    private Float precision;
+
+    @Column(name = "recall")
+    private Float recall;
+
+    @Column(name = "map_50")
+    private Float map50;
+
+    @Column(name = "map_50_95")
+    private Float map5095;
+}
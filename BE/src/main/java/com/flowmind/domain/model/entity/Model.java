@@ -0,0 +1,76 @@
+package com.flowmind.domain.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.flowmind.domain.dataset.entity.DatasetVersion;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "model", indexes = {
+        @Index(name = "fk_model_dataset_version1_idx", columnList = "dataset_version_id"),
+        @Index(name = "fk_model_model1_idx", columnList = "parent_model_id"),
+        // 같은 가중치를 올린 모델 찾기
+        @Index(name = "idx_model_artifact_hash", columnList = "artifact_hash")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Model {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "model_id")
+    private Long modelId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "hyperparam")
+    private Map<String, Object> hyperparam;
+
+    @Column(name = "version", length = 45)
+    private String version;
+
+    // yolov8n, yolov8s, ...
+    @Column(name = "model_type", length = 45)
+    private String modelType;
+
+    // 변환(ONNX 등) 옵션
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "convert_param")
+    private Map<String, Object> convertParam;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // 학습에 쓴 데이터셋 버전
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "dataset_version_id", nullable = false)
+    private DatasetVersion datasetVersion;
+
+    // 파인튜닝 출발점 (처음부터 학습했으면 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_model_id")
+    private Model parent;
+
+    // 가중치 파일 (올리기 전에는 null, 올린 뒤에는 바꾸지 않음)
+    @Column(name = "artifact_name")
+    private String artifactName;
+
+    @Column(name = "artifact_bytes")
+    private Long artifactBytes;
+
+    // 파일 전체 SHA-256 (hex), 다운로드 ETag
+    @Column(name = "artifact_hash", length = 64)
+    private String artifactHash;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
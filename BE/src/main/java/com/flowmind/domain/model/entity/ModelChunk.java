@@ -0,0 +1,46 @@
+package com.flowmind.domain.model.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 가중치 파일을 이루는 청크 순서 (청크 내용은 ChunkStore 에 해시 이름으로 한 번만 저장)
+@Entity
+@Table(name = "model_chunk", indexes = {
+        // 청크를 쓰는 모델 찾기 (공유/정리용)
+        @Index(name = "idx_model_chunk_hash", columnList = "chunk_hash")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ModelChunk {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "chunk_hash", nullable = false, length = 64)
+    private String chunkHash;
+
+    // 파일 안 시작 위치
+    @Column(name = "offset_bytes", nullable = false)
+    private long offsetBytes;
+
+    @Column(name = "length", nullable = false)
+    private int length;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "model_id")
+        private Long modelId;
+
+        @Column(name = "seq")
+        private int seq;
+    }
+}
@@ -0,0 +1,8 @@
+package com.flowmind.domain.model.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.flowmind.domain.model.entity.Evaluation;
+
+public interface EvaluationRepository extends JpaRepository<Evaluation, Long>{
+}
@@ -0,0 +1,11 @@
+package com.flowmind.domain.model.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.flowmind.domain.model.entity.ModelChunk;
+
+public interface ModelChunkRepository extends JpaRepository<ModelChunk, ModelChunk.Key>{
+	List<ModelChunk> findByIdModelIdOrderByIdSeqAsc(Long modelId);
+}
@@ -0,0 +1,87 @@
+package com.flowmind.domain.model.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.flowmind.domain.model.dto.ModelEvaluationSummary;
+import com.flowmind.domain.model.dto.ModelSummary;
+import com.flowmind.domain.model.entity.Model;
+
+public interface ModelRepository extends JpaRepository<Model, Long>{
+	// 모델은 학습에 쓴 데이터셋의 주인 것
+	@Query("""
+        SELECT m
+        FROM Model m
+        JOIN m.datasetVersion v
+        JOIN v.dataset d
+        WHERE m.modelId = :modelId
+          AND d.userId = :userId
+    """)
+	Optional<Model> findOwned(@Param("modelId") Long modelId, @Param("userId") Long userId);
+
+	// TrainPage 목록 (datasetId 가 null 이면 전체)
+	@Query("""
+        SELECT new com.flowmind.domain.model.dto.ModelSummary(
+            m.modelId, m.version, m.modelType, p.modelId, d.datasetId, d.name, v.versionTag,
+            m.artifactName, m.artifactBytes, m.createdAt)
+        FROM Model m
+        JOIN m.datasetVersion v
+        JOIN v.dataset d
+        LEFT JOIN m.parent p
+        WHERE d.userId = :userId
+          AND (:datasetId IS NULL OR d.datasetId = :datasetId)
+        ORDER BY m.createdAt DESC, m.modelId DESC
+    """)
+	List<ModelSummary> findSummaries(@Param("userId") Long userId, @Param("datasetId") Long datasetId);
+
+	@Query("""
+        SELECT new com.flowmind.domain.model.dto.ModelSummary(
+            m.modelId, m.version, m.modelType, p.modelId, d.datasetId, d.name, v.versionTag,
+            m.artifactName, m.artifactBytes, m.createdAt)
+        FROM Model m
+        JOIN m.datasetVersion v
+        JOIN v.dataset d
+        LEFT JOIN m.parent p
+        WHERE m.modelId = :modelId
+          AND d.userId = :userId
+    """)
+	Optional<ModelSummary> findSummary(@Param("modelId") Long modelId, @Param("userId") Long userId);
+
+	// EvaluatePage 목록 (평가된 모델만, mAP50-95 높은 순)
+	@Query("""
+        SELECT new com.flowmind.domain.model.dto.ModelEvaluationSummary(
+            m.modelId, m.version, m.modelType, d.datasetId, d.name, v.versionTag,
+            e.f1Score, e.precision, e.recall, e.map50, e.map5095, m.createdAt)
+        FROM Evaluation e
+        JOIN Model m ON m.modelId = e.modelId
+        JOIN m.datasetVersion v
+        JOIN v.dataset d
+        WHERE d.userId = :userId
+        ORDER BY e.map5095 DESC NULLS LAST, m.modelId DESC
+    """)
+	List<ModelEvaluationSummary> findEvaluations(@Param("userId") Long userId);
+
+	// 모델이 학습한 버전은 지우지 않음 (계보 유지)
+	@Query("SELECT COUNT(m) > 0 FROM Model m WHERE m.datasetVersion.datasetVersionId IN :versionIds")
+	boolean existsByVersionIds(@Param("versionIds") Collection<Long> versionIds);
+
+	// 처음 올리는 경우에만 (가중치는 한 번 올리면 바꾸지 않음)
+	@Modifying
+	@Query("""
+        UPDATE Model m
+        SET m.artifactName = :name, m.artifactBytes = :bytes, m.artifactHash = :hash
+        WHERE m.modelId = :modelId
+          AND m.artifactHash IS NULL
+    """)
+	int attachArtifact(
+			@Param("modelId") Long modelId,
+			@Param("name") String name,
+			@Param("bytes") long bytes,
+			@Param("hash") String hash);
+}
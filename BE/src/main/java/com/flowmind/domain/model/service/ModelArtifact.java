@@ -0,0 +1,13 @@
+package com.flowmind.domain.model.service;
+
+import java.util.List;
+
+import com.flowmind.domain.model.entity.ModelChunk;
+
+// 다운로드에 필요한 가중치 정보 (chunks 는 seq 순)
+public record ModelArtifact(
+        String name,
+        long bytes,
+        String sha256,
+        List<ModelChunk> chunks
+) {}
@@ -0,0 +1,189 @@
+package com.flowmind.domain.model.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.cache.VersionRef;
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+import com.flowmind.domain.model.chunk.ChunkStore;
+import com.flowmind.domain.model.chunk.ContentChunker;
+import com.flowmind.domain.model.dto.EvaluationRequest;
+import com.flowmind.domain.model.dto.ModelCreateRequest;
+import com.flowmind.domain.model.dto.ModelDetailResponse;
+import com.flowmind.domain.model.dto.ModelEvaluationSummary;
+import com.flowmind.domain.model.dto.ModelSummary;
+import com.flowmind.domain.model.dto.ModelUploadResponse;
+import com.flowmind.domain.model.entity.Evaluation;
+import com.flowmind.domain.model.entity.Model;
+import com.flowmind.domain.model.entity.ModelChunk;
+import com.flowmind.domain.model.repository.EvaluationRepository;
+import com.flowmind.domain.model.repository.ModelChunkRepository;
+import com.flowmind.domain.model.repository.ModelRepository;
+import com.flowmind.util.ContentHash;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모델 등록/계보/가중치 저장.
+ * 가중치는 ContentChunker 로 잘라 청크 해시 단위로 ChunkStore 에 저장하고, 모델에는 청크 순서만 남긴다.
+ * 업로드는 요청 본문을 그대로 읽어 청크 하나(최대 4MB) 크기의 버퍼만 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ModelService {
+
+    private final ModelRepository modelRepository;
+    private final ModelChunkRepository modelChunkRepository;
+    private final EvaluationRepository evaluationRepository;
+    private final DatasetVersionRepository datasetVersionRepository;
+    private final DatasetLookupCache datasetLookupCache;
+    private final ChunkStore chunkStore;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> uploading = ConcurrentHashMap.newKeySet();
+
+    public ModelSummary createModel(ModelCreateRequest request, Long userId) {
+        VersionRef version = datasetLookupCache.version(request.datasetId(), request.datasetVersion(), userId)
+                .orElseThrow(() -> new IllegalArgumentException("데이터셋 또는 버전을 찾을 수 없습니다."));
+        Model parent = request.parentModelId() == null ? null
+                : modelRepository.findOwned(request.parentModelId(), userId)
+                        .orElseThrow(() -> new IllegalArgumentException("부모 모델을 찾을 수 없습니다."));
+
+        Model model = modelRepository.save(Model.builder()
+                .datasetVersion(datasetVersionRepository.getReferenceById(version.versionId()))
+                .parent(parent)
+                .version(request.version())
+                .modelType(request.modelType())
+                .hyperparam(request.hyperparam())
+                .convertParam(request.convertParam())
+                .build());
+        return modelRepository.findSummary(model.getModelId(), userId).orElseThrow();
+    }
+
+    public ModelUploadResponse uploadWeights(Long modelId, Long userId, String filename, InputStream in)
+            throws IOException {
+        Model model = modelRepository.findOwned(modelId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("모델을 찾을 수 없습니다."));
+        if (model.getArtifactHash() != null) {
+            throw new IllegalStateException("이미 가중치가 올라간 모델입니다. 새 가중치는 새 모델로 등록하세요.");
+        }
+        if (!uploading.add(modelId)) {
+            throw new IllegalStateException("이 모델의 가중치를 이미 올리는 중입니다.");
+        }
+        try {
+            String name = filename == null || filename.isBlank()
+                    ? "weights.pt" : Path.of(filename).getFileName().toString();
+            MessageDigest fileDigest = ContentHash.newDigest();
+            ContentChunker chunker = new ContentChunker(in);
+            List<ModelChunk> chunks = new ArrayList<>();
+            long offset = 0;
+            int newChunks = 0;
+            long newBytes = 0;
+            int length;
+            while ((length = chunker.next()) > 0) {
+                byte[] data = chunker.buffer();
+                fileDigest.update(data, 0, length);
+                MessageDigest chunkDigest = ContentHash.newDigest();
+                chunkDigest.update(data, 0, length);
+                String chunkHash = ContentHash.hex(chunkDigest);
+                if (chunkStore.put(chunkHash, data, length)) {
+                    newChunks++;
+                    newBytes += length;
+                }
+                chunks.add(ModelChunk.builder()
+                        .id(new ModelChunk.Key(modelId, chunks.size()))
+                        .chunkHash(chunkHash)
+                        .offsetBytes(offset)
+                        .length(length)
+                        .build());
+                offset += length;
+            }
+            if (chunks.isEmpty()) {
+                throw new IllegalArgumentException("가중치 파일이 비어 있습니다.");
+            }
+
+            String sha256 = ContentHash.hex(fileDigest);
+            long bytes = offset;
+            transactionTemplate.executeWithoutResult(status -> {
+                if (modelRepository.attachArtifact(modelId, name, bytes, sha256) == 0) {
+                    throw new IllegalStateException("이미 가중치가 올라간 모델입니다.");
+                }
+                modelChunkRepository.saveAll(chunks);
+            });
+            log.info("모델 가중치 저장: model={} {} bytes, 청크 {}개 중 새로 쓴 것 {}개 ({} bytes)",
+                    modelId, bytes, chunks.size(), newChunks, newBytes);
+            return new ModelUploadResponse(modelId, name, bytes, sha256, chunks.size(), newChunks, newBytes);
+        } finally {
+            uploading.remove(modelId);
+        }
+    }
+
+    public ModelArtifact getArtifact(Long modelId, Long userId) {
+        Model model = modelRepository.findOwned(modelId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("모델을 찾을 수 없습니다."));
+        if (model.getArtifactHash() == null) {
+            throw new IllegalStateException("가중치가 아직 올라가지 않았습니다.");
+        }
+        return new ModelArtifact(model.getArtifactName(), model.getArtifactBytes(), model.getArtifactHash(),
+                modelChunkRepository.findByIdModelIdOrderByIdSeqAsc(modelId));
+    }
+
+    // [start, end] 양 끝 포함
+    public void writeRange(ModelArtifact artifact, long start, long end, OutputStream out) throws IOException {
+        chunkStore.copyRange(artifact.chunks(), start, end, out);
+    }
+
+    public ModelDetailResponse getModel(Long modelId, Long userId) {
+        Model model = modelRepository.findOwned(modelId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("모델을 찾을 수 없습니다."));
+        ModelSummary summary = modelRepository.findSummary(modelId, userId).orElseThrow();
+        return new ModelDetailResponse(summary, model.getHyperparam(), model.getConvertParam(), model.getArtifactHash());
+    }
+
+    public List<ModelSummary> listModels(Long userId, Long datasetId) {
+        return modelRepository.findSummaries(userId, datasetId);
+    }
+
+    // 자기 자신부터 처음 학습한 모델까지
+    public List<ModelSummary> getLineage(Long modelId, Long userId) {
+        List<ModelSummary> lineage = new ArrayList<>();
+        Long current = modelId;
+        while (current != null) {
+            ModelSummary summary = modelRepository.findSummary(current, userId)
+                    .orElseThrow(() -> new IllegalArgumentException("모델을 찾을 수 없습니다."));
+            lineage.add(summary);
+            current = summary.parentModelId();
+        }
+        return lineage;
+    }
+
+    public List<ModelEvaluationSummary> listEvaluations(Long userId) {
+        return modelRepository.findEvaluations(userId);
+    }
+
+    public void saveEvaluation(Long modelId, Long userId, EvaluationRequest request) {
+        modelRepository.findOwned(modelId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("모델을 찾을 수 없습니다."));
+        evaluationRepository.save(Evaluation.builder()
+                .modelId(modelId)
+                .f1Score(request.f1Score())
+                .precision(request.precision())
+                .recall(request.recall())
+                .map50(request.map50())
+                .map5095(request.map5095())
+                .build());
+    }
+}
@@ -0,0 +1,46 @@
+package com.flowmind.domain.storage.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import com.flowmind.domain.job.dto.JobStatusResponse;
+import com.flowmind.domain.storage.dto.ScrubReport;
+import com.flowmind.domain.storage.service.StorageScrubService;
+import com.flowmind.domain.user.service.UserService;
+import com.flowmind.security.AdminAccess;
+
+import lombok.RequiredArgsConstructor;
+
+// 운영용 저장소 점검 API (app.admin.emails 에 등록된 사용자만)
+@RestController
+@RequestMapping("/api/storage")
+@RequiredArgsConstructor
+public class StorageController {
+
+    private final StorageScrubService storageScrubService;
+    private final UserService userService;
+    private final AdminAccess adminAccess;
+
+    // repair=true 면 빠진 해시를 채우고 고아 파일을 격리 (진행 상황: /api/jobs/{jobId})
+    @PostMapping("/scrub")
+    public ResponseEntity<JobStatusResponse> startScrub(
+            @RequestParam(defaultValue = "false") boolean repair,
+            @AuthenticationPrincipal String email
+    ) {
+        adminAccess.check(email);
+        Long userId = userService.findUserIdByEmail(email);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(JobStatusResponse.from(storageScrubService.startScrub(userId, repair)));
+    }
+
+    // 마지막 점검 결과 (예약 실행 포함)
+    @GetMapping("/scrub/report")
+    public ResponseEntity<ScrubReport> getLastReport(@AuthenticationPrincipal String email) {
+        adminAccess.check(email);
+        return storageScrubService.getLastReport()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,9 @@
+package com.flowmind.domain.storage.dto;
+
+public record ScrubFinding(
+        ScrubIssue issue,
+        Long assetId,       // ORPHAN_FILE 은 null
+        String path,
+        String detail,
+        boolean repaired
+) {}
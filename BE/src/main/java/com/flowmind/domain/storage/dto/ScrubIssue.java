@@ -0,0 +1,9 @@
+package com.flowmind.domain.storage.dto;
+
+public enum ScrubIssue {
+    MISSING_FILE,       // Asset 행은 있는데 파일이 없음
+    SIZE_MISMATCH,      // 파일 크기가 기록과 다름
+    CHECKSUM_MISMATCH,  // 파일 내용이 기록된 SHA-256 과 다름
+    MISSING_CHECKSUM,   // 해시/크기 기록이 없음 (repair 시 채움)
+    ORPHAN_FILE         // 파일은 있는데 Asset 행이 없음 (repair 시 격리)
+}
@@ -0,0 +1,19 @@
+package com.flowmind.domain.storage.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public record ScrubReport(
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        boolean repair,
+        boolean completed,                 // 취소되면 false (중간 결과)
+        long assetsChecked,
+        long filesScanned,
+        long bytesHashed,
+        long elapsedMs,
+        Map<ScrubIssue, Long> issueCounts,
+        List<ScrubFinding> findings,       // 최대 MAX_FINDINGS 개
+        boolean findingsTruncated
+) {}
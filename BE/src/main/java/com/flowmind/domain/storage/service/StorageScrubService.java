@@ -0,0 +1,404 @@
+package com.flowmind.domain.storage.service;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.flowmind.domain.dataset.repository.AssetFileRow;
+import com.flowmind.domain.dataset.repository.AssetRepository;
+import com.flowmind.domain.dataset.shard.PackPaths;
+import com.flowmind.domain.job.service.JobHandle;
+import com.flowmind.domain.job.service.JobService;
+import com.flowmind.domain.storage.dto.ScrubFinding;
+import com.flowmind.domain.storage.dto.ScrubIssue;
+import com.flowmind.domain.storage.dto.ScrubReport;
+import com.flowmind.util.ContentHash;
+import com.flowmind.util.TokenBucket;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장소 점검: asset 테이블 -> 디스크(존재/크기/SHA-256), 디스크 -> asset 테이블(고아 파일)을 배치 단위로 병렬 확인한다.
+ * 파일 메타데이터 조회와 해시용 읽기 모두 TokenBucket 으로 속도를 제한해서 운영 중에도 계속 돌릴 수 있게 한다.
+ * repair 모드에서는 빠진 해시/크기를 채우고 고아 파일은 삭제하지 않고 {root}/.quarantine/ 으로 옮긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageScrubService {
+
+    private static final int MAX_FINDINGS = 1000;
+    private static final String QUARANTINE_DIR = ".quarantine";
+
+    private final AssetRepository assetRepository;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.dataset.root-path}")
+    private String datasetRootPath;
+
+    // 모델 가중치 청크 저장소 (기본값이면 데이터셋 루트 아래라서 점검에서 제외)
+    @Value("${app.model.root-path:${app.dataset.root-path}/.models}")
+    private String modelRootPath;
+
+    @Value("${app.scrub.enabled:false}")
+    private boolean scheduledEnabled;
+
+    @Value("${app.scrub.auto-repair:false}")
+    private boolean autoRepair;
+
+    @Value("${app.scrub.batch-size:256}")
+    private int batchSize;
+
+    @Value("${app.scrub.threads:2}")
+    private int threads;
+
+    // 해시 계산용 읽기 예산
+    @Value("${app.scrub.io-mb-per-sec:20}")
+    private double ioMbPerSec;
+
+    // stat/exists 호출 예산
+    @Value("${app.scrub.files-per-sec:500}")
+    private double filesPerSec;
+
+    @Value("${app.scrub.verify-checksum:true}")
+    private boolean verifyChecksum;
+
+    // 업로드 중인 파일을 고아로 보지 않도록 최근 파일은 건너뜀
+    @Value("${app.scrub.orphan-grace-minutes:60}")
+    private long orphanGraceMinutes;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<ScrubReport> lastReport = new AtomicReference<>();
+
+    // 예약 점검은 스케줄러 스레드(협업 flush 등과 공유)를 붙잡지 않고, 사용자 작업 슬롯도 쓰지 않도록 전용 스레드에서
+    private final ExecutorService scheduledExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "flowmind-scrub");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public JobHandle startScrub(Long userId, boolean repair) {
+        if (running.get()) {
+            throw new IllegalStateException("저장소 점검이 이미 실행 중입니다.");
+        }
+        return jobService.submit(userId, "storage-scrub", handle -> runExclusive(repair, handle));
+    }
+
+    public Optional<ScrubReport> getLastReport() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    @Scheduled(initialDelayString = "${app.scrub.initial-delay-ms:300000}",
+            fixedDelayString = "${app.scrub.interval-ms:21600000}")
+    public void scheduledScrub() {
+        if (!scheduledEnabled || running.get()) {
+            return;
+        }
+        scheduledExecutor.execute(() -> {
+            try {
+                runExclusive(autoRepair, null);
+            } catch (IllegalStateException e) {
+                log.info("저장소 점검 건너뜀: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("저장소 점검 실패", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    private ScrubReport runExclusive(boolean repair, JobHandle handle) throws InterruptedException, IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("저장소 점검이 이미 실행 중입니다.");
+        }
+        try {
+            return scrub(repair, handle);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ScrubReport scrub(boolean repair, JobHandle handle) throws InterruptedException, IOException {
+        Run run = new Run(repair, handle);
+        if (handle != null) {
+            handle.setTotal(assetRepository.count());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        try {
+            checkAssets(run, pool);
+            checkFiles(run, pool);
+        } catch (CancellationException e) {
+            lastReport.set(run.report(false));
+            throw e;
+        } finally {
+            pool.shutdownNow();
+        }
+
+        ScrubReport report = run.report(true);
+        lastReport.set(report);
+        log.info("저장소 점검 완료: Asset {}개, 파일 {}개, 해시 {}MB, 문제 {}", report.assetsChecked(),
+                report.filesScanned(), report.bytesHashed() >> 20, report.issueCounts());
+        return report;
+    }
+
+    // 1. asset 테이블 -> 디스크
+    private void checkAssets(Run run, ForkJoinPool pool) throws InterruptedException {
+        long afterId = 0L;
+        while (true) {
+            run.checkCancelled();
+            List<AssetFileRow> rows = assetRepository.findFileRowsAfter(afterId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                return;
+            }
+            afterId = rows.get(rows.size() - 1).assetId();
+            await(pool.submit(() -> rows.parallelStream().forEach(row -> verifyAsset(row, run))));
+            if (run.handle != null) {
+                run.handle.addDone(rows.size());
+            }
+        }
+    }
+
+    private void verifyAsset(AssetFileRow row, Run run) {
+        run.checkCancelled();
+        run.assetsChecked.increment();
+        if (row.storageUri() == null) {
+            run.add(ScrubIssue.MISSING_FILE, row.assetId(), null, "storage_uri 없음", false);
+            return;
+        }
+        Path file = Paths.get(row.storageUri());
+        try {
+            run.files.acquire(1);
+            if (!Files.isRegularFile(file)) {
+                run.add(ScrubIssue.MISSING_FILE, row.assetId(), row.storageUri(), null, false);
+                return;
+            }
+            long size = Files.size(file);
+            if (row.bytes() != null && row.bytes() != size) {
+                run.add(ScrubIssue.SIZE_MISMATCH, row.assetId(), row.storageUri(),
+                        "기록 " + row.bytes() + "B / 실제 " + size + "B", false);
+                return;
+            }
+
+            if (row.contentHash() == null || row.bytes() == null) {
+                if (!run.repair) {
+                    run.add(ScrubIssue.MISSING_CHECKSUM, row.assetId(), row.storageUri(), null, false);
+                    return;
+                }
+                String hash = hash(file, size, run);
+                transactionTemplate.executeWithoutResult(status -> assetRepository.updateContent(row.assetId(), hash, size));
+                run.add(ScrubIssue.MISSING_CHECKSUM, row.assetId(), row.storageUri(), "해시/크기 기록", true);
+                return;
+            }
+
+            if (verifyChecksum) {
+                String hash = hash(file, size, run);
+                if (!hash.equals(row.contentHash())) {
+                    run.add(ScrubIssue.CHECKSUM_MISMATCH, row.assetId(), row.storageUri(),
+                            "기록 " + row.contentHash() + " / 실제 " + hash, false);
+                }
+            }
+        } catch (IOException e) {
+            run.add(ScrubIssue.MISSING_FILE, row.assetId(), row.storageUri(), "읽기 실패: " + e.getMessage(), false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("작업이 취소되었습니다.");
+        }
+    }
+
+    private static String hash(Path file, long size, Run run) throws IOException, InterruptedException {
+        // KiB 단위 예산을 먼저 예약하고 읽음
+        run.io.acquire(Math.max(1, size >> 10));
+        run.bytesHashed.add(size);
+        return ContentHash.of(file);
+    }
+
+    // 2. 디스크 -> asset 테이블 (팩 디렉토리와 만드는 중인 .pack.tmp, .tmp 파일, 격리 폴더, 모델 저장소는 제외)
+    private void checkFiles(Run run, ForkJoinPool pool) throws IOException, InterruptedException {
+        Path root = Paths.get(datasetRootPath);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        Path modelRoot = Paths.get(modelRootPath).toAbsolutePath().normalize();
+        long graceCutoff = System.currentTimeMillis() - orphanGraceMinutes * 60_000;
+        Path quarantine = root.resolve(QUARANTINE_DIR)
+                .resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+
+        List<Future<?>> pending = new ArrayList<>();
+        List<Path> batch = new ArrayList<>(batchSize);
+
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                run.checkCancelled();
+                String name = dir.getFileName() == null ? "" : dir.getFileName().toString();
+                if (!dir.equals(root) && (name.equals(QUARANTINE_DIR) || name.equals(PackPaths.PACKS_DIR)
+                        || name.endsWith(PackPaths.PACK_SUFFIX) || name.endsWith(PackPaths.STAGING_SUFFIX)
+                        || dir.toAbsolutePath().normalize().equals(modelRoot))) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (!attrs.isRegularFile() || file.getFileName().toString().endsWith(".tmp")
+                        || attrs.lastModifiedTime().toMillis() > graceCutoff) {
+                    return FileVisitResult.CONTINUE;
+                }
+                try {
+                    run.files.acquire(1);
+                    run.filesScanned.increment();
+                    batch.add(file);
+                    if (batch.size() >= batchSize) {
+                        List<Path> paths = List.copyOf(batch);
+                        batch.clear();
+                        pending.add(pool.submit(() -> reconcile(paths, root, quarantine, run)));
+                        // DB 조회가 밀리면 디렉토리 순회도 잠시 멈춤
+                        if (pending.size() > Math.max(1, threads) * 2) {
+                            await(pending.remove(0));
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("작업이 취소되었습니다.");
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                log.warn("저장소 점검 중 파일 접근 실패: {} ({})", file, exc.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        if (!batch.isEmpty()) {
+            pending.add(pool.submit(() -> reconcile(List.copyOf(batch), root, quarantine, run)));
+        }
+        for (Future<?> future : pending) {
+            await(future);
+        }
+    }
+
+    private void reconcile(List<Path> paths, Path root, Path quarantine, Run run) {
+        Set<String> known = new HashSet<>(assetRepository.findExistingStorageUris(
+                paths.stream().map(Path::toString).toList()));
+        for (Path file : paths) {
+            if (known.contains(file.toString())) {
+                continue;
+            }
+            boolean moved = false;
+            String detail = null;
+            if (run.repair) {
+                Path target = quarantine.resolve(root.relativize(file));
+                try {
+                    Files.createDirectories(target.getParent());
+                    Files.move(file, target);
+                    moved = true;
+                    detail = "격리: " + target;
+                } catch (IOException e) {
+                    detail = "격리 실패: " + e.getMessage();
+                }
+            }
+            run.add(ScrubIssue.ORPHAN_FILE, null, file.toString(), detail, moved);
+        }
+    }
+
+    private static void await(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 한 번의 점검 실행 상태 (여러 스레드에서 갱신)
+    private final class Run {
+        final boolean repair;
+        final JobHandle handle;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final long startedNanos = System.nanoTime();
+        final TokenBucket io = new TokenBucket(ioMbPerSec * 1024, 4096);
+        final TokenBucket files = new TokenBucket(filesPerSec, Math.max(1, batchSize));
+        final LongAdder assetsChecked = new LongAdder();
+        final LongAdder filesScanned = new LongAdder();
+        final LongAdder bytesHashed = new LongAdder();
+        final Map<ScrubIssue, AtomicLong> counts = new ConcurrentHashMap<>();
+        final ConcurrentLinkedQueue<ScrubFinding> findings = new ConcurrentLinkedQueue<>();
+        final AtomicInteger findingSlots = new AtomicInteger(MAX_FINDINGS);
+
+        Run(boolean repair, JobHandle handle) {
+            this.repair = repair;
+            this.handle = handle;
+        }
+
+        void checkCancelled() {
+            if (handle != null) {
+                handle.checkCancelled();
+            }
+        }
+
+        void add(ScrubIssue issue, Long assetId, String path, String detail, boolean repaired) {
+            counts.computeIfAbsent(issue, k -> new AtomicLong()).incrementAndGet();
+            if (findingSlots.getAndDecrement() > 0) {
+                findings.add(new ScrubFinding(issue, assetId, path, detail, repaired));
+            }
+            if (!repaired) {
+                log.warn("저장소 점검: {} asset={} path={} {}", issue, assetId, path, detail == null ? "" : detail);
+            }
+        }
+
+        ScrubReport report(boolean completed) {
+            Map<ScrubIssue, Long> issueCounts = new EnumMap<>(ScrubIssue.class);
+            counts.forEach((k, v) -> issueCounts.put(k, v.get()));
+            return new ScrubReport(startedAt, LocalDateTime.now(), repair, completed,
+                    assetsChecked.sum(), filesScanned.sum(), bytesHashed.sum(),
+                    (System.nanoTime() - startedNanos) / 1_000_000,
+                    issueCounts, List.copyOf(findings), findingSlots.get() < 0);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.flowmind.security;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+// 역할(Role) 개념이 없어서 운영용 API 는 설정된 이메일만 허용
+@Component
+public class AdminAccess {
+
+    private final List<String> adminEmails;
+
+    public AdminAccess(@Value("${app.admin.emails:}") List<String> adminEmails) {
+        this.adminEmails = adminEmails.stream().map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    public void check(String email) {
+        if (email == null || !adminEmails.contains(email)) {
+            throw new AccessDeniedException("관리자만 사용할 수 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.flowmind.security;
+
+import org.springframework.http.HttpMethod;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 요청 종류별 제한: 초당 토큰, 버스트, 사용자당 동시 실행 수(0이면 제한 없음), 서버 전체 동시 실행 수
+public enum EndpointClass {
+    AUTH(2, 10, 0, 0),
+    UPLOAD(0.2, 3, 1, 4),
+    HEAVY(0.5, 5, 1, 4),
+    IMAGE(50, 200, 0, 0),
+    DEFAULT(20, 100, 0, 0);
+
+    final double permitsPerSecond;
+    final long burst;
+    final int perUserConcurrency;
+    final int globalConcurrency;
+
+    EndpointClass(double permitsPerSecond, long burst, int perUserConcurrency, int globalConcurrency) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.perUserConcurrency = perUserConcurrency;
+        this.globalConcurrency = globalConcurrency;
+    }
+
+    static EndpointClass of(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        boolean post = HttpMethod.POST.matches(request.getMethod());
+        boolean delete = HttpMethod.DELETE.matches(request.getMethod());
+        boolean put = HttpMethod.PUT.matches(request.getMethod());
+
+        if (uri.startsWith("/api/auth/")) {
+            return AUTH;
+        }
+        if (post && uri.equals("/api/datasets/new")) {
+            return UPLOAD;
+        }
+        // 모델 가중치 업로드 (PUT /api/models/{id}/weights)
+        if (put && uri.startsWith("/api/models/") && uri.endsWith("/weights")) {
+            return UPLOAD;
+        }
+        if (post && (uri.equals("/api/datasets/pack")
+                || uri.equals("/api/datasets/augment")
+                || uri.equals("/api/datasets/pre-annotate")
+                || uri.equals("/api/storage/scrub"))) {
+            return HEAVY;
+        }
+        // Dataset / 버전 삭제 (DELETE /api/datasets/{id}, /api/datasets/{id}/versions/{tag})
+        if (delete && uri.startsWith("/api/datasets/")) {
+            return HEAVY;
+        }
+        if (uri.equals("/api/datasets/export")) {
+            return HEAVY;
+        }
+        if (uri.startsWith("/api/datasets/assets/") && uri.endsWith("/image")) {
+            return IMAGE;
+        }
+        return DEFAULT;
+    }
+}
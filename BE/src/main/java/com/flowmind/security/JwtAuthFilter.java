@@ -16,6 +16,9 @@ import java.io.IOException;
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    // 뒤쪽 필터(RateLimitFilter)가 토큰을 다시 파싱하지 않도록 userId를 요청에 남겨둠
+    public static final String USER_ID_ATTRIBUTE = "flowmind.userId";
+
     private final JwtUtil jwtUtil;
 
     public JwtAuthFilter(JwtUtil jwtUtil) {
@@ -54,6 +57,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             );
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            request.setAttribute(USER_ID_ATTRIBUTE, userId);
 
         } catch (Exception e) {
             // 토큰이 잘못되었으면 SecurityContext 초기화
@@ -0,0 +1,68 @@
+package com.flowmind.security;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+
+// 브라우저 WebSocket 은 Authorization 헤더를 못 붙이므로 ?token= 으로 받은 JWT 를 확인
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String VERSION_ID_ATTRIBUTE = "flowmind.versionId";
+    public static final String USER_ID_ATTRIBUTE = JwtAuthFilter.USER_ID_ATTRIBUTE;
+
+    private static final Pattern VERSION_PATH = Pattern.compile("/ws/versions/(\\d+)/annotations$");
+
+    private final JwtUtil jwtUtil;
+    private final DatasetVersionRepository datasetVersionRepository;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Matcher m = VERSION_PATH.matcher(request.getURI().getPath());
+        String token = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("token");
+        if (!m.find() || token == null) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+
+        Long userId;
+        try {
+            Claims claims = jwtUtil.getClaims(token);
+            userId = claims.get("id", Long.class);
+        } catch (Exception e) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        // 공유 모델이 없으므로 데이터셋 소유자만 입장 (같은 계정의 여러 창/기기)
+        Long versionId = Long.valueOf(m.group(1));
+        if (userId == null || !datasetVersionRepository.existsOwned(versionId, userId)) {
+            response.setStatusCode(HttpStatus.FORBIDDEN);
+            return false;
+        }
+
+        attributes.put(VERSION_ID_ATTRIBUTE, versionId);
+        attributes.put(USER_ID_ATTRIBUTE, userId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.flowmind.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.flowmind.util.TokenBucket;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JwtAuthFilter 바로 뒤에서 사용자(토큰의 id, 없으면 IP)별로 요청을 제한한다.
+ * - 요청 종류별 토큰 버킷 (초과 시 429 + Retry-After)
+ * - 업로드/무거운 작업은 사용자당 + 서버 전체 동시 실행 수 제한, 자리가 날 때까지 잠깐 대기
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final EndpointClass[] CLASSES = EndpointClass.values();
+    private static final long IDLE_EVICT_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int SWEEP_EVERY = 4096;
+
+    private final boolean enabled;
+    private final long queueTimeoutMillis;
+    private final Map<String, ClientLimits> clients = new ConcurrentHashMap<>();
+    private final Semaphore[] global = new Semaphore[CLASSES.length];
+    private final AtomicLong requestCount = new AtomicLong();
+
+    public RateLimitFilter(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.queue-timeout-ms:2000}") long queueTimeoutMillis) {
+        this.enabled = enabled;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        for (EndpointClass c : CLASSES) {
+            global[c.ordinal()] = c.globalConcurrency > 0 ? new Semaphore(c.globalConcurrency, true) : null;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/") || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        EndpointClass endpoint = EndpointClass.of(request);
+        ClientLimits limits = limitsFor(clientKey(request));
+
+        long waitNanos = limits.buckets[endpoint.ordinal()].tryAcquire(1);
+        if (waitNanos > 0) {
+            reject(response, waitNanos, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        Semaphore userSlot = limits.slots[endpoint.ordinal()];
+        Semaphore globalSlot = global[endpoint.ordinal()];
+        if (userSlot == null && globalSlot == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean userAcquired = false;
+        boolean globalAcquired = false;
+        try {
+            // 같은 사용자의 동시 요청은 대기 없이 바로 거절, 서버 전체 슬롯은 잠깐 줄 서서 기다림
+            userAcquired = userSlot == null || userSlot.tryAcquire();
+            globalAcquired = userAcquired
+                    && (globalSlot == null || globalSlot.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS));
+            if (!userAcquired || !globalAcquired) {
+                reject(response, TimeUnit.SECONDS.toNanos(1), "동시에 처리할 수 있는 작업 수를 초과했습니다.");
+                return;
+            }
+            filterChain.doFilter(request, response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(response, TimeUnit.SECONDS.toNanos(1), "요청이 중단되었습니다.");
+        } finally {
+            if (globalAcquired && globalSlot != null) {
+                globalSlot.release();
+            }
+            if (userAcquired && userSlot != null) {
+                userSlot.release();
+            }
+        }
+    }
+
+    private ClientLimits limitsFor(String key) {
+        if (requestCount.incrementAndGet() % SWEEP_EVERY == 0) {
+            sweepIdle();
+        }
+        ClientLimits limits = clients.get(key);
+        if (limits == null) {
+            limits = clients.computeIfAbsent(key, k -> new ClientLimits());
+        }
+        limits.lastSeen = System.nanoTime();
+        return limits;
+    }
+
+    private void sweepIdle() {
+        long cutoff = System.nanoTime() - IDLE_EVICT_NANOS;
+        clients.values().removeIf(l -> l.lastSeen < cutoff && l.isIdle());
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Object userId = request.getAttribute(JwtAuthFilter.USER_ID_ATTRIBUTE);
+        return userId != null ? "u:" + userId : "ip:" + request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos, String message) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"message\":\"" + message + "\"}");
+    }
+
+    private static final class ClientLimits {
+        final TokenBucket[] buckets = new TokenBucket[CLASSES.length];
+        final Semaphore[] slots = new Semaphore[CLASSES.length];
+        volatile long lastSeen = System.nanoTime();
+
+        ClientLimits() {
+            for (EndpointClass c : CLASSES) {
+                buckets[c.ordinal()] = new TokenBucket(c.permitsPerSecond, c.burst);
+                slots[c.ordinal()] = c.perUserConcurrency > 0 ? new Semaphore(c.perUserConcurrency) : null;
+            }
+        }
+
+        boolean isIdle() {
+            for (EndpointClass c : CLASSES) {
+                Semaphore s = slots[c.ordinal()];
+                if (s != null && s.availablePermits() < c.perUserConcurrency) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.flowmind.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(generic cell rate algorithm) 방식 토큰 버킷.
+ * 상태가 "다음 토큰이 생기는 이론적 시각" 하나뿐이라 AtomicLong CAS 한 번으로 처리된다 (락 없음).
+ */
+public class TokenBucket {
+
+    private final long nanosPerPermit;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double permitsPerSecond, long burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("rate와 burst는 0보다 커야 합니다.");
+        }
+        this.nanosPerPermit = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = nanosPerPermit * burst;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime() - burstNanos);
+    }
+
+    // 성공하면 0, 아니면 다시 시도할 수 있을 때까지 남은 나노초 (토큰은 소모하지 않음)
+    public long tryAcquire(long permits) {
+        long increment = nanosPerPermit * permits;
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now - burstNanos) + increment;
+            long wait = next - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 토큰을 예약하고 필요한 만큼 대기 (백그라운드 작업의 I/O 예산 조절용)
+    public void acquire(long permits) throws InterruptedException {
+        long increment = nanosPerPermit * permits;
+        long wait;
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now - burstNanos) + increment;
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                wait = next - now;
+                break;
+            }
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.flowmind.domain.dataset.augment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+// 이미지 변환 뒤 박스가 같은 픽셀을 가리키는지 (흰 사각형 = 박스)
+class ImageAugmenterTest {
+
+    private static final double EPS = 1e-9;
+
+    @Test
+    void flipMirrorsBoxes() {
+        Sample s = withBox(200, 100, 60, 20, 40, 40);
+
+        Sample h = ImageAugmenter.flip(s, true);
+        assertBox(new Box(1, 0.6, 0.4, 0.2, 0.4), h.boxes().get(0));
+        assertBoxCoversWhite(h);
+
+        Sample v = ImageAugmenter.flip(s, false);
+        assertBox(new Box(1, 0.4, 0.6, 0.2, 0.4), v.boxes().get(0));
+        assertBoxCoversWhite(v);
+    }
+
+    @Test
+    void cropClipsOrDropsBoxes() {
+        Sample s = withBox(200, 100, 60, 20, 40, 40);
+        int kept = 0;
+        int dropped = 0;
+        for (int seed = 0; seed < 50; seed++) {
+            Sample out = ImageAugmenter.crop(s, 0.3, new SplittableRandom(seed));
+            if (out.boxes().isEmpty()) {
+                // 원래 넓이의 20% 미만만 남았을 때만 버림
+                assertTrue(whitePixels(out.image()) < 40 * 40 * 0.2, "seed " + seed);
+                dropped++;
+            } else {
+                assertBoxCoversWhite(out);
+                kept++;
+            }
+        }
+        assertTrue(kept > 0 && dropped > 0, "kept=" + kept + ", dropped=" + dropped);
+    }
+
+    @Test
+    void mosaicPlacesTileBoxesInQuadrants() {
+        Sample s = new Sample(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB),
+                List.of(new Box(1, 0.5, 0.5, 0.2, 0.2)));
+        Sample tile = new Sample(new BufferedImage(50, 50, BufferedImage.TYPE_INT_RGB),
+                List.of(new Box(2, 0.5, 0.5, 0.4, 0.4)));
+
+        Sample out = ImageAugmenter.mosaic(s, List.of(tile), new SplittableRandom(1));
+
+        assertEquals(200, out.image().getWidth());
+        assertEquals(100, out.image().getHeight());
+        assertEquals(4, out.boxes().size());
+        assertBox(new Box(1, 0.25, 0.25, 0.1, 0.1), out.boxes().get(0));
+        assertBox(new Box(2, 0.75, 0.25, 0.2, 0.2), out.boxes().get(1));
+        assertBox(new Box(2, 0.25, 0.75, 0.2, 0.2), out.boxes().get(2));
+        assertBox(new Box(2, 0.75, 0.75, 0.2, 0.2), out.boxes().get(3));
+    }
+
+    // 검은 바탕에 (x, y, w, h) 흰 사각형과 같은 위치의 박스 하나
+    private static Sample withBox(int width, int height, int x, int y, int w, int h) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(x, y, w, h);
+        g.dispose();
+        return new Sample(image, List.of(new Box(1,
+                (x + w / 2.0) / width, (y + h / 2.0) / height, (double) w / width, (double) h / height)));
+    }
+
+    private static void assertBox(Box expected, Box actual) {
+        assertEquals(expected.classId(), actual.classId());
+        assertEquals(expected.xCenter(), actual.xCenter(), EPS);
+        assertEquals(expected.yCenter(), actual.yCenter(), EPS);
+        assertEquals(expected.width(), actual.width(), EPS);
+        assertEquals(expected.height(), actual.height(), EPS);
+    }
+
+    // 박스를 픽셀로 바꾼 영역 == 흰 픽셀의 경계 사각형
+    private static void assertBoxCoversWhite(Sample s) {
+        BufferedImage image = s.image();
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = -1, maxY = -1;
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                if ((image.getRGB(x, y) & 0xFFFFFF) == 0xFFFFFF) {
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        Box b = s.boxes().get(0);
+        int w = image.getWidth();
+        int h = image.getHeight();
+        assertEquals(minX, (b.xCenter() - b.width() / 2) * w, 1e-6);
+        assertEquals(maxX + 1, (b.xCenter() + b.width() / 2) * w, 1e-6);
+        assertEquals(minY, (b.yCenter() - b.height() / 2) * h, 1e-6);
+        assertEquals(maxY + 1, (b.yCenter() + b.height() / 2) * h, 1e-6);
+    }
+
+    private static int whitePixels(BufferedImage image) {
+        int count = 0;
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                if ((image.getRGB(x, y) & 0xFFFFFF) == 0xFFFFFF) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
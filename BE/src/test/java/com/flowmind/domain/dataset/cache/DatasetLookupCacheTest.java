@@ -0,0 +1,109 @@
+package com.flowmind.domain.dataset.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+import com.flowmind.domain.dataset.service.LabelClassService;
+
+// 캐시가 차 있으면 SQL 이 나가지 않는지, 쓰기 후 무효화되는지 Hibernate 가 실행한 SQL 수로 확인
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.flowmind.domain.dataset.cache.DatasetLookupCacheTest$SqlCounter"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DatasetLookupCache.class, LabelClassService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatasetLookupCacheTest {
+
+    @Autowired
+    private DatasetLookupCache cache;
+
+    @Autowired
+    private LabelClassService labelClassService;
+
+    @Autowired
+    private DatasetVersionRepository datasetVersionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void warmLookupsSkipTheDatabaseAndWritesInvalidate() {
+        jdbcTemplate.update("INSERT INTO dataset (name, user_id, description) VALUES ('cats', 1, 'desc')");
+        Long datasetId = jdbcTemplate.queryForObject("SELECT MAX(dataset_id) FROM dataset", Long.class);
+        jdbcTemplate.update("INSERT INTO dataset_version (version_tag, created_at, dataset_id) VALUES ('v0', NOW(), ?)",
+                datasetId);
+        Long versionId = jdbcTemplate.queryForObject("SELECT MAX(dataset_version_id) FROM dataset_version", Long.class);
+        jdbcTemplate.update("INSERT INTO label_class (class_id, name, dataset_version_id) VALUES (1, 'cat', ?)", versionId);
+        jdbcTemplate.update("INSERT INTO asset (name, storage_uri, box_count, dataset_version_id) "
+                + "VALUES ('a.jpg', '/data/cats/v0/a.jpg', 0, ?)", versionId);
+        Long assetId = jdbcTemplate.queryForObject("SELECT MAX(asset_id) FROM asset", Long.class);
+
+        // 1. 처음엔 한 번씩 조회, 두 번째부터는 SQL 없음
+        SqlCounter.COUNT.set(0);
+        assertEquals("/data/cats/v0/a.jpg", cache.storageUri(assetId).orElseThrow());
+        VersionRef ref = cache.version(datasetId, "v0", 1L).orElseThrow();
+        assertEquals(List.of(new LabelClassRef(1L, "cat")), cache.labelClasses(versionId));
+        assertEquals(3, SqlCounter.COUNT.get());
+
+        SqlCounter.COUNT.set(0);
+        for (int i = 0; i < 10; i++) {
+            cache.storageUri(assetId);
+            cache.version(datasetId, "v0", 1L);
+            cache.labelClasses(versionId);
+        }
+        assertEquals(0, SqlCounter.COUNT.get());
+        assertEquals("cats", ref.datasetName());
+        assertEquals("desc", ref.description());
+
+        // 다른 사용자는 캐시된 값을 받지 않음
+        assertTrue(cache.version(datasetId, "v0", 2L).isEmpty());
+
+        // 2. 새 클래스가 생기면 커밋 후 목록을 다시 읽음
+        transactionTemplate.executeWithoutResult(status ->
+                labelClassService.resolveOrCreate(datasetVersionRepository.getReferenceById(versionId), "dog"));
+        assertEquals(List.of("cat", "dog"), cache.labelClasses(versionId).stream().map(LabelClassRef::name).toList());
+
+        // 3. 삭제된 버전/Asset 은 비운 뒤 다시 조회
+        jdbcTemplate.update("UPDATE dataset_version SET deleted_at = NOW() WHERE dataset_version_id = ?", versionId);
+        cache.evictVersions(List.of(versionId));
+        assertTrue(cache.version(datasetId, "v0", 1L).isEmpty());
+        jdbcTemplate.update("DELETE FROM asset WHERE asset_id = ?", assetId);
+        cache.evictAssets(List.of(assetId));
+        assertTrue(cache.storageUri(assetId).isEmpty());
+
+        CacheStats paths = cache.stats().stream().filter(s -> s.name().equals("assetPaths")).findFirst().orElseThrow();
+        assertEquals(10, paths.hits());
+        assertEquals(2, paths.misses());
+    }
+
+    public static class SqlCounter implements StatementInspector {
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public String inspect(String sql) {
+            COUNT.incrementAndGet();
+            return sql;
+        }
+    }
+}
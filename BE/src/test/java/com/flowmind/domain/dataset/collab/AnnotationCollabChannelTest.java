@@ -0,0 +1,228 @@
+package com.flowmind.domain.dataset.collab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowmind.domain.dataset.entity.Asset;
+import com.flowmind.domain.dataset.entity.Dataset;
+import com.flowmind.domain.dataset.entity.DatasetVersion;
+import com.flowmind.domain.dataset.repository.AssetRepository;
+import com.flowmind.domain.dataset.repository.DatasetRepository;
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+import com.flowmind.domain.dataset.service.AnnotationCollabService;
+import com.flowmind.security.JwtUtil;
+
+// 두 클라이언트가 같은 버전 방에서 편집: 브로드캐스트 순서, revision 충돌, 배치 flush 결과 확인
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // flush 는 테스트에서 직접 호출
+        "app.collab.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class AnnotationCollabChannelTest {
+
+    @TempDir
+    static Path datasetRoot;
+
+    @DynamicPropertySource
+    static void datasetRoot(DynamicPropertyRegistry registry) {
+        registry.add("app.dataset.root-path", () -> datasetRoot.toString());
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired private ObjectMapper mapper;
+    @Autowired private JwtUtil jwtUtil;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private DatasetRepository datasetRepository;
+    @Autowired private DatasetVersionRepository datasetVersionRepository;
+    @Autowired private AssetRepository assetRepository;
+    @Autowired private AnnotationCollabService collabService;
+
+    @Test
+    void editsAreBroadcastCheckedAndFlushedInBatches() throws Exception {
+        Dataset dataset = datasetRepository.save(Dataset.builder().name("collab").userId(7L).build());
+        DatasetVersion version = datasetVersionRepository.save(
+                DatasetVersion.builder().versionTag("v0").dataset(dataset).build());
+        Asset asset = assetRepository.save(Asset.builder().name("a.png").datasetVersion(version).build());
+        String token = jwtUtil.createToken(7L, "owner@flowmind.test");
+
+        Client a = connect(version.getDatasetVersionId(), token);
+        Client b = connect(version.getDatasetVersionId(), token);
+        a.next("hello");
+        b.next("hello");
+
+        // 새 박스: 임시 id 로 모두에게 전파, 아직 DB 에는 없음
+        a.send(Map.of("type", "upsert", "requestId", "r1", "assetId", asset.getAssetId(), "label", "cat",
+                "xCenter", 0.5, "yCenter", 0.5, "width", 0.2, "height", 0.2));
+        JsonNode created = b.next("upserted").get("box");
+        long tempId = created.get("annotationId").asLong();
+        assertTrue(tempId < 0);
+        assertEquals("r1", a.next("upserted").get("requestId").asText());
+        assertEquals(0, count());
+        // 새 라벨의 LabelClass 도 flush 때 만들어짐
+        assertEquals(0, classCount());
+
+        // 같은 박스 두 번 이동 -> flush 때 INSERT 한 번으로 합쳐짐
+        a.send(move(tempId, 1, 0.6));
+        a.next("upserted");
+        b.next("upserted");
+
+        collabService.flush();
+        long realId = a.next("idAssigned").get("annotationId").asLong();
+        assertEquals(realId, b.next("idAssigned").get("annotationId").asLong());
+        assertEquals(2L, jdbcTemplate.queryForObject(
+                "SELECT revision FROM annotation WHERE annotation_id = ?", Long.class, realId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT box_count FROM asset WHERE asset_id = ?", Integer.class, asset.getAssetId()));
+        assertEquals(1, classCount());
+
+        // 오래된 revision 으로 수정 -> 보낸 쪽에만 현재 상태와 함께 conflict
+        b.send(move(realId, 1, 0.9));
+        JsonNode conflict = b.next("conflict").get("box");
+        assertEquals(2, conflict.get("revision").asLong());
+        assertEquals(0.6, conflict.get("xCenter").asDouble(), 1e-9);
+
+        // 방 밖(다른 인스턴스)에서 먼저 바뀐 행: 방은 받아 주지만 flush 때 revision 조건에 걸려 DB 상태로 되돌림
+        jdbcTemplate.update("UPDATE annotation SET x_center = 0.3, revision = 5 WHERE annotation_id = ?", realId);
+        a.send(move(realId, 2, 0.7));
+        a.next("upserted");
+        b.next("upserted");
+        collabService.flush();
+        JsonNode reverted = b.next("conflict").get("box");
+        assertEquals(5, reverted.get("revision").asLong());
+        assertEquals(0.3, reverted.get("xCenter").asDouble(), 1e-9);
+        assertEquals(5, a.next("conflict").get("box").get("revision").asLong());
+        assertEquals(0.3, jdbcTemplate.queryForObject(
+                "SELECT x_center FROM annotation WHERE annotation_id = ?", Double.class, realId), 1e-9);
+
+        // 임시 id 로 보내도 서버가 실제 id 로 바꿔서 처리
+        a.send(Map.of("type", "delete", "requestId", "r3", "assetId", asset.getAssetId(),
+                "annotationId", tempId, "baseRevision", 5));
+        assertEquals(realId, b.next("deleted").get("box").get("annotationId").asLong());
+
+        collabService.flush();
+        assertEquals(0, count());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT box_count FROM asset WHERE asset_id = ?", Integer.class, asset.getAssetId()));
+
+        a.session.close();
+        b.session.close();
+    }
+
+    @Test
+    void writeThatKeepsFailingIsDroppedWithoutBlockingTheRoom() throws Exception {
+        Dataset dataset = datasetRepository.save(Dataset.builder().name("stuck").userId(7L).build());
+        DatasetVersion version = datasetVersionRepository.save(
+                DatasetVersion.builder().versionTag("v0").dataset(dataset).build());
+        Asset ok = assetRepository.save(Asset.builder().name("ok.png").datasetVersion(version).build());
+        Asset gone = assetRepository.save(Asset.builder().name("gone.png").datasetVersion(version).build());
+        Client a = connect(version.getDatasetVersionId(), jwtUtil.createToken(7L, "owner@flowmind.test"));
+        a.next("hello");
+
+        // 방이 받아 준 뒤 다른 곳에서 이미지가 지워짐 -> 그 박스의 INSERT 는 FK 때문에 계속 실패
+        a.send(Map.of("type", "upsert", "requestId", "g1", "assetId", gone.getAssetId(), "label", "cat",
+                "xCenter", 0.5, "yCenter", 0.5, "width", 0.2, "height", 0.2));
+        long goneTempId = a.next("upserted").get("box").get("annotationId").asLong();
+        jdbcTemplate.update("DELETE FROM asset WHERE asset_id = ?", gone.getAssetId());
+        a.send(Map.of("type", "upsert", "requestId", "o1", "assetId", ok.getAssetId(), "label", "cat",
+                "xCenter", 0.5, "yCenter", 0.5, "width", 0.2, "height", 0.2));
+        a.next("upserted");
+
+        // 기본 3회: 두 번은 배치째 다시 넣고, 세 번째에 하나씩 따로 써서 실패하는 것만 버림
+        collabService.flush();
+        collabService.flush();
+        assertEquals(0, count("SELECT COUNT(*) FROM annotation WHERE asset_id = ?", ok.getAssetId()));
+        collabService.flush();
+        a.next("idAssigned");
+        JsonNode dropped = a.next("deleted").get("box");
+        assertEquals(goneTempId, dropped.get("annotationId").asLong());
+        assertTrue(dropped.get("deleted").asBoolean());
+        assertEquals(1, count("SELECT COUNT(*) FROM annotation WHERE asset_id = ?", ok.getAssetId()));
+
+        a.session.close();
+        // 다른 테스트의 전체 개수 확인에 섞이지 않도록 정리
+        jdbcTemplate.update("DELETE FROM annotation WHERE asset_id = ?", ok.getAssetId());
+        jdbcTemplate.update("DELETE FROM asset_class_stat WHERE asset_id = ?", ok.getAssetId());
+        jdbcTemplate.update("DELETE FROM label_class WHERE dataset_version_id = ?", version.getDatasetVersionId());
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+
+    private Map<String, Object> move(long id, long baseRevision, double x) {
+        return Map.of("type", "upsert", "annotationId", id, "baseRevision", baseRevision, "label", "cat",
+                "xCenter", x, "yCenter", 0.5, "width", 0.2, "height", 0.2);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM annotation", Integer.class);
+    }
+
+    private int classCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM label_class", Integer.class);
+    }
+
+    private Client connect(Long versionId, String token) throws Exception {
+        Client client = new Client();
+        URI uri = URI.create("ws://localhost:" + port + "/ws/versions/" + versionId + "/annotations?token=" + token);
+        client.session = new StandardWebSocketClient()
+                .execute(client, new WebSocketHttpHeaders(), uri)
+                .get(5, TimeUnit.SECONDS);
+        return client;
+    }
+
+    private class Client extends TextWebSocketHandler {
+        private final BlockingQueue<JsonNode> inbox = new LinkedBlockingQueue<>();
+        private WebSocketSession session;
+
+        @Override
+        protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+            inbox.add(mapper.readTree(message.getPayload()));
+        }
+
+        void send(Map<String, Object> message) throws Exception {
+            session.sendMessage(new TextMessage(mapper.writeValueAsString(message)));
+        }
+
+        // presence 처럼 순서와 무관한 메시지는 건너뜀
+        JsonNode next(String type) throws InterruptedException {
+            while (true) {
+                JsonNode msg = inbox.poll(5, TimeUnit.SECONDS);
+                assertNotNull(msg, "메시지를 기다리다 시간 초과: " + type);
+                if (msg.get("type").asText().equals(type)) {
+                    return msg;
+                }
+                assertTrue(List.of("presence", "hello").contains(msg.get("type").asText()),
+                        "예상하지 못한 메시지: " + msg);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.flowmind.domain.dataset.diff;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// (contentHash, assetId) 순 키셋 페이지를 이어 붙여 읽는지, 시작 해시 이후부터 읽는지
+class AssetCursorTest {
+
+    private final List<AssetKey> rows = new ArrayList<>();
+    private final List<String> loads = new ArrayList<>();
+
+    AssetCursorTest() {
+        // 같은 해시가 여러 장 (페이지 경계에 걸치도록)
+        String[] hashes = {"aa", "bb", "bb", "bb", "cc", "dd", "dd"};
+        for (int i = 0; i < hashes.length; i++) {
+            rows.add(new AssetKey((long) (i + 1), hashes[i], "img" + (i + 1)));
+        }
+        rows.sort(Comparator.comparing(AssetKey::contentHash).thenComparing(AssetKey::assetId));
+    }
+
+    @Test
+    void readsAllKeysAcrossPagesInOrder() {
+        AssetCursor cursor = new AssetCursor(this::load, 2, null);
+
+        List<Long> ids = new ArrayList<>();
+        while (cursor.peek() != null) {
+            ids.add(cursor.next().assetId());
+        }
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), ids);
+        assertNull(cursor.next());
+        // 마지막 페이지가 pageSize 보다 작으면 더 읽지 않음
+        assertEquals(List.of(":0", "bb:2", "bb:4", "dd:6"), loads);
+    }
+
+    @Test
+    void startsAfterGivenHash() {
+        AssetCursor cursor = new AssetCursor(this::load, 10, "bb");
+
+        List<Long> ids = new ArrayList<>();
+        AssetKey key;
+        while ((key = cursor.next()) != null) {
+            ids.add(key.assetId());
+        }
+
+        assertEquals(List.of(5L, 6L, 7L), ids);
+    }
+
+    // AssetRepository.findKeysAfter 와 같은 조건: (hash, id) > (afterHash, afterId)
+    private List<AssetKey> load(String afterHash, long afterId, int limit) {
+        loads.add(afterHash + ":" + afterId);
+        return rows.stream()
+                .filter(k -> k.contentHash().compareTo(afterHash) > 0
+                        || (k.contentHash().equals(afterHash) && k.assetId() > afterId))
+                .limit(limit)
+                .toList();
+    }
+}
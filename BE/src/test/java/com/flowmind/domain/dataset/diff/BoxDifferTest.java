@@ -0,0 +1,70 @@
+package com.flowmind.domain.dataset.diff;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// 같은 이미지의 박스 목록 비교: 그대로 / 이동 / 라벨 변경 / 추가 / 삭제
+class BoxDifferTest {
+
+    @Test
+    void identicalBoxesProduceNoChanges() {
+        List<BoxRef> boxes = List.of(box(1, "cat", 0.3, 0.3, 0.2, 0.2), box(2, "dog", 0.7, 0.7, 0.2, 0.2));
+        assertTrue(BoxDiffer.diff(boxes, List.of(box(12, "dog", 0.7, 0.7, 0.2, 0.2), box(11, "cat", 0.3, 0.3, 0.2, 0.2))).isEmpty());
+    }
+
+    @Test
+    void classifiesMovedRelabeledAddedAndRemoved() {
+        List<BoxRef> from = List.of(
+                box(1, "cat", 0.30, 0.30, 0.20, 0.20),
+                box(2, "dog", 0.70, 0.30, 0.20, 0.20),
+                box(3, "car", 0.30, 0.70, 0.20, 0.20),
+                box(4, "bus", 0.70, 0.70, 0.10, 0.10));
+        List<BoxRef> to = List.of(
+                box(11, "cat", 0.31, 0.30, 0.20, 0.20),     // 조금 이동
+                box(12, "wolf", 0.70, 0.30, 0.20, 0.20),    // 라벨만 변경
+                box(13, "truck", 0.32, 0.70, 0.20, 0.20),   // 이동 + 라벨 변경
+                box(14, "bike", 0.10, 0.95, 0.05, 0.05));   // 새 박스 (4번은 삭제)
+
+        List<BoxChange> changes = BoxDiffer.diff(from, to);
+
+        assertEquals(5, changes.size());
+        assertTrue(changes.contains(new BoxChange(BoxChange.Type.MOVED, 1L, 11L, "cat", "cat")));
+        assertTrue(changes.contains(new BoxChange(BoxChange.Type.RELABELED, 2L, 12L, "dog", "wolf")));
+        assertTrue(changes.contains(new BoxChange(BoxChange.Type.MOVED_AND_RELABELED, 3L, 13L, "car", "truck")));
+        assertTrue(changes.contains(new BoxChange(BoxChange.Type.REMOVED, 4L, null, "bus", null)));
+        assertTrue(changes.contains(new BoxChange(BoxChange.Type.ADDED, null, 14L, null, "bike")));
+    }
+
+    @Test
+    void matchesMostOverlappingPairFirst() {
+        // 1번은 11, 12 둘 다와 겹치지만 11 과 더 많이 겹침
+        List<BoxRef> from = List.of(box(1, "cat", 0.50, 0.50, 0.20, 0.20));
+        List<BoxRef> to = List.of(box(12, "cat", 0.56, 0.50, 0.20, 0.20), box(11, "cat", 0.52, 0.50, 0.20, 0.20));
+
+        List<BoxChange> changes = BoxDiffer.diff(from, to);
+
+        assertEquals(List.of(
+                new BoxChange(BoxChange.Type.MOVED, 1L, 11L, "cat", "cat"),
+                new BoxChange(BoxChange.Type.ADDED, null, 12L, null, "cat")), changes);
+    }
+
+    @Test
+    void lowOverlapIsRemoveAndAdd() {
+        // IoU < MATCH_IOU 이면 같은 박스로 보지 않음
+        List<BoxRef> from = List.of(box(1, "cat", 0.30, 0.30, 0.20, 0.20));
+        List<BoxRef> to = List.of(box(11, "cat", 0.42, 0.30, 0.20, 0.20));
+        assertTrue(from.get(0).iou(to.get(0)) < BoxDiffer.MATCH_IOU);
+
+        assertEquals(List.of(
+                new BoxChange(BoxChange.Type.REMOVED, 1L, null, "cat", null),
+                new BoxChange(BoxChange.Type.ADDED, null, 11L, null, "cat")), BoxDiffer.diff(from, to));
+    }
+
+    private static BoxRef box(long id, String label, double x, double y, double w, double h) {
+        return new BoxRef(id, label, x, y, w, h);
+    }
+}
@@ -0,0 +1,82 @@
+package com.flowmind.domain.dataset.inference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+// scripts/make_tiny_detector.py 로 만든 모델: 중앙 32x32 박스 + 채널 평균 밝기를 클래스 점수로 출력
+class OnnxDetectorTest {
+
+    private static final Path MODEL = Path.of("src/test/resources/models/tiny-detector.onnx");
+
+    @Test
+    void detectsDominantChannelAndMapsBoxBackToOriginal() throws Exception {
+        try (OnnxDetector detector = new OnnxDetector(MODEL, 8, 1, 0.05f)) {
+            assertThat(detector.inputSize()).isEqualTo(64);
+            assertThat(detector.classNames()).containsExactly("red", "green", "blue");
+
+            List<List<Detection>> result = detector.detect(List.of(
+                    PreparedImage.letterbox(solid(Color.RED, 200, 200), 64),
+                    PreparedImage.letterbox(solid(Color.BLUE, 200, 200), 64)
+            ));
+
+            Detection red = result.get(0).get(0);
+            assertThat(detector.className(red.classIndex())).isEqualTo("red");
+            assertThat(red.score()).isGreaterThan(0.99f);
+            assertThat(red.xCenter()).isCloseTo(0.5, offset(1e-6));
+            assertThat(red.width()).isCloseTo(0.5, offset(1e-6));
+
+            assertThat(detector.className(result.get(1).get(0).classIndex())).isEqualTo("blue");
+        }
+    }
+
+    @Test
+    void microBatcherCoalescesConcurrentRequests() throws Exception {
+        try (OnnxDetector detector = new OnnxDetector(MODEL, 8, 1, 0.05f)) {
+            List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+            try (MicroBatcher<PreparedImage, List<Detection>> batcher = new MicroBatcher<>(
+                    "test-infer", 2, 8, 50, 64, batch -> {
+                        batchSizes.add(batch.size());
+                        try {
+                            return detector.detect(batch);
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    })) {
+
+                PreparedImage image = PreparedImage.letterbox(solid(Color.GREEN, 64, 48), 64);
+                List<CompletableFuture<List<Detection>>> futures = new ArrayList<>();
+                for (int i = 0; i < 32; i++) {
+                    futures.add(batcher.submit(image));
+                }
+                for (CompletableFuture<List<Detection>> f : futures) {
+                    assertThat(detector.className(f.get(10, TimeUnit.SECONDS).get(0).classIndex())).isEqualTo("green");
+                }
+            }
+
+            assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(32);
+            assertThat(batchSizes).allMatch(size -> size <= 8);
+            assertThat(batchSizes.size()).isLessThan(32);
+        }
+    }
+
+    private static BufferedImage solid(Color color, int w, int h) {
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, w, h);
+        g.dispose();
+        return image;
+    }
+}
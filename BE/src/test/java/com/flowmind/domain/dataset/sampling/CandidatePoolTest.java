@@ -0,0 +1,111 @@
+package com.flowmind.domain.dataset.sampling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// 불확실도/다양성 선택 결과와 100만 후보 랭킹 시간 (랭킹 시간은 mvn -Ploadtest test 에서만)
+class CandidatePoolTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CandidatePoolTest.class);
+
+    private static final int CLASSES = 10;
+
+    @Test
+    @Tag("loadtest")
+    void ranksOneMillionCandidatesInSeconds() {
+        int n = 1_000_000;
+        Random random = new Random(7);
+        CandidatePool.Builder builder = CandidatePool.builder();
+        byte[] embedding = new byte[PredictionVectors.EMBEDDING_DIM];
+        float[] scores = new float[CLASSES];
+        long[] labeled = new long[n / 10];
+        for (int i = 0; i < n; i++) {
+            for (int c = 0; c < CLASSES; c++) {
+                scores[c] = random.nextFloat() < 0.2f ? random.nextFloat() : 0f;
+            }
+            random.nextBytes(embedding);
+            builder.add(i + 1, encode(scores), embedding);
+            if (i % 10 == 0) {
+                labeled[i / 10] = i + 1;
+            }
+        }
+
+        long started = System.nanoTime();
+        CandidatePool pool = builder.build(labeled);
+        List<SamplePick> picks = pool.select(SamplingStrategy.ENTROPY, 100, 2000, 2048, 0.5);
+        long firstMs = (System.nanoTime() - started) / 1_000_000;
+
+        // 정렬 순서는 캐시되므로 라벨이 바뀐 뒤 다시 뽑는 건 더 빨라야 함
+        picks.forEach(p -> pool.setLabeled(p.assetId(), true));
+        started = System.nanoTime();
+        List<SamplePick> next = pool.select(SamplingStrategy.ENTROPY, 100, 2000, 2048, 0.5);
+        long nextMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("build+rank {} candidates: {} ms, re-rank after labels: {} ms", n, firstMs, nextMs);
+
+        assertEquals(100, picks.size());
+        assertEquals(n / 10 + 100, pool.labeledCount());
+        Set<Long> first = picks.stream().map(SamplePick::assetId).collect(Collectors.toSet());
+        assertTrue(next.stream().noneMatch(p -> first.contains(p.assetId())));
+        assertTrue(picks.stream().noneMatch(p -> (p.assetId() - 1) % 10 == 0), "라벨된 Asset 은 추천하지 않음");
+        assertTrue(firstMs < 10_000, "ranking took " + firstMs + " ms");
+    }
+
+    @Test
+    void prefersUncertainAndSkipsNearDuplicates() {
+        byte[] dark = filled(10);
+        byte[] bright = filled(240);
+        CandidatePool pool = CandidatePool.builder()
+                .add(1, encode(0.95f), dark)           // 확실함
+                .add(2, encode(0.6f, 0.5f), dark)      // 가장 애매함
+                .add(3, encode(0.6f, 0.49f), dark)     // 2번과 거의 같은 이미지
+                .add(4, encode(0.7f, 0.3f), bright)    // 조금 덜 애매하지만 다른 이미지
+                .add(5, encode(), bright)              // 아무것도 못 찾음
+                .build(new long[0]);
+
+        assertEquals(0f, pool.uncertainty(SamplingStrategy.ENTROPY, 4));
+        assertTrue(pool.uncertainty(SamplingStrategy.MARGIN, 1) > pool.uncertainty(SamplingStrategy.MARGIN, 0));
+
+        List<Long> byUncertainty = ids(pool.select(SamplingStrategy.MARGIN, 2, 10, 10, 0.0));
+        assertEquals(List.of(2L, 3L), byUncertainty);
+
+        List<Long> diverse = ids(pool.select(SamplingStrategy.MARGIN, 2, 10, 10, 0.5));
+        assertEquals(List.of(2L, 4L), diverse);
+
+        // 라벨이 생기면 바로 빠지고, 라벨된 이미지와 비슷한 후보는 뒤로 밀림
+        assertTrue(pool.setLabeled(2, true));
+        assertFalse(pool.setLabeled(99, true));
+        List<Long> afterLabel = ids(pool.select(SamplingStrategy.MARGIN, 1, 10, 10, 0.5));
+        assertEquals(List.of(4L), afterLabel);
+    }
+
+    private static List<Long> ids(List<SamplePick> picks) {
+        return picks.stream().map(SamplePick::assetId).toList();
+    }
+
+    private static byte[] filled(int value) {
+        byte[] embedding = new byte[PredictionVectors.EMBEDDING_DIM];
+        java.util.Arrays.fill(embedding, (byte) value);
+        return embedding;
+    }
+
+    private static byte[] encode(float... scores) {
+        ByteBuffer buffer = ByteBuffer.allocate(4 * scores.length).order(ByteOrder.LITTLE_ENDIAN);
+        for (float s : scores) {
+            buffer.putFloat(s);
+        }
+        return buffer.array();
+    }
+}
@@ -0,0 +1,173 @@
+package com.flowmind.domain.dataset.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.flowmind.domain.dataset.entity.Asset;
+import com.flowmind.domain.dataset.repository.AssetRepository;
+
+import jakarta.persistence.EntityManager;
+
+// 검색 쿼리가 인덱스를 타는지 H2 EXPLAIN 으로 확인 (인덱스나 조건 모양이 바뀌면 깨지도록)
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.flowmind.domain.dataset.search.AssetSearchQueryPlanTest$SqlCapture"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AssetSearchQueryPlanTest {
+
+    private static final int ASSETS = 3_000;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    // H2 의 ANALYZE 는 커밋을 하므로 테스트마다 롤백되지 않음 -> 한 번만 채움
+    private static long versionId;
+    private static long catId;
+
+    @BeforeEach
+    void seed() {
+        if (versionId != 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO dataset (name, user_id) VALUES ('plan', 1)");
+        long datasetId = jdbcTemplate.queryForObject("SELECT MAX(dataset_id) FROM dataset", Long.class);
+        // 다른 버전도 섞어서 dataset_version_id 조건의 선택도를 만든다
+        for (int v = 0; v < 4; v++) {
+            jdbcTemplate.update("INSERT INTO dataset_version (version_tag, created_at, dataset_id) VALUES (?, NOW(), ?)",
+                    "v" + v, datasetId);
+        }
+        long versionId = jdbcTemplate.queryForObject("SELECT MAX(dataset_version_id) FROM dataset_version", Long.class);
+        catId = 100;
+        jdbcTemplate.update("INSERT INTO label_class (class_id, name, dataset_version_id) VALUES (?, 'cat', ?)", catId, versionId);
+        jdbcTemplate.update("INSERT INTO label_class (class_id, name, dataset_version_id) VALUES (?, 'dog', ?)", catId + 1, versionId);
+
+        List<Object[]> assets = new ArrayList<>();
+        for (int i = 0; i < ASSETS; i++) {
+            long version = versionId - (i % 4);
+            assets.add(new Object[]{"img_" + i + ".jpg", version, 640 + (i % 7) * 320, 480 + (i % 5) * 240,
+                    i % 10 == 0 ? "val" : "train", i % 9});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO asset (name, dataset_version_id, width, height, split, box_count) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", assets);
+        jdbcTemplate.update("""
+                INSERT INTO asset_class_stat (asset_id, class_id, box_count)
+                SELECT asset_id, ?, box_count FROM asset WHERE dataset_version_id = ? AND box_count > 0
+                """, catId, versionId);
+        jdbcTemplate.execute("ANALYZE");
+        AssetSearchQueryPlanTest.versionId = versionId;
+    }
+
+    @Test
+    void unlabeledUsesBoxCountIndex() throws Exception {
+        String plan = explain("unlabeled");
+        assertTrue(plan.contains("IDX_ASSET_VERSION_BOXES"), plan);
+    }
+
+    @Test
+    void splitUsesSplitIndex() throws Exception {
+        String plan = explain("split:val");
+        assertTrue(plan.contains("IDX_ASSET_VERSION_SPLIT"), plan);
+    }
+
+    @Test
+    void classCountUsesSummaryTableWithoutScan() throws Exception {
+        String plan = explain("class:cat>5 -class:dog");
+        assertTrue(plan.contains("ASSET_CLASS_STAT"), plan);
+        assertFalse(plan.contains("ASSET_CLASS_STAT.tableScan"), plan);
+    }
+
+    @Test
+    void combinedFiltersNeverScanAssetTable() throws Exception {
+        for (String q : List.of("width>1920", "split:val width>1920 height>=720", "class:cat<2", "name:img_1 boxes>=3")) {
+            String plan = explain(q);
+            assertFalse(plan.contains("tableScan"), q + "\n" + plan);
+        }
+    }
+
+    @Test
+    void resultsMatchFilters() {
+        List<Asset> hits = search("class:cat>5 split:val");
+        assertFalse(hits.isEmpty());
+        for (Asset a : hits) {
+            assertTrue(a.getBoxCount() > 5);
+            assertEquals("val", a.getSplit());
+        }
+        assertEquals(0, search("class:bird").size());
+        assertEquals(search("boxes:0").size(), search("class:cat<1").size());
+    }
+
+    private List<Asset> search(String q) {
+        Map<String, Long> classIds = Map.of("cat", catId, "dog", catId + 1);
+        return assetRepository.findBy(
+                AssetSpecifications.search(versionId, 0L, AssetQueryParser.parse(q), classIds),
+                query -> query.sortBy(Sort.by("assetId")).limit(50).all());
+    }
+
+    // 실제로 Hibernate 가 만든 SQL 을 잡아서 그대로 EXPLAIN
+    private String explain(String q) throws Exception {
+        entityManager.clear();
+        SqlCapture.STATEMENTS.clear();
+        search(q);
+        String sql = SqlCapture.STATEMENTS.stream()
+                .filter(s -> s.toLowerCase().contains("from asset"))
+                .reduce((a, b) -> b)
+                .orElseThrow();
+        try (Connection con = dataSource.getConnection();
+             PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql)) {
+            int params = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= params; i++) {
+                ps.setNull(i, Types.OTHER);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.flowmind.domain.dataset.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.job.service.JobHandle;
+import com.flowmind.domain.job.service.JobService;
+import com.flowmind.domain.job.service.JobState;
+
+// 요약 컬럼 이전에 들어간 행 (box_count 0, 클래스 집계 없음, 크기 null) 을 한 번 채우는지
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AssetSummaryBackfillService.class, AssetSummaryService.class, ActiveLearningService.class,
+        VersionDiffService.class, DatasetLookupCache.class, JobService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AssetSummaryBackfillServiceTest {
+
+    @TempDir
+    static Path root;
+
+    @DynamicPropertySource
+    static void rootPath(DynamicPropertyRegistry registry) {
+        registry.add("app.dataset.root-path", () -> root.toString());
+    }
+
+    @Autowired
+    private AssetSummaryBackfillService assetSummaryBackfillService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void fillsLegacyRowsOnceThenSkipsTheVersion() throws Exception {
+        jdbcTemplate.update("INSERT INTO dataset (name, user_id) VALUES ('legacy', 1)");
+        Long datasetId = jdbcTemplate.queryForObject("SELECT MAX(dataset_id) FROM dataset", Long.class);
+        jdbcTemplate.update("INSERT INTO dataset_version (version_tag, created_at, dataset_id) VALUES ('v0', NOW(), ?)",
+                datasetId);
+        Long versionId = jdbcTemplate.queryForObject("SELECT MAX(dataset_version_id) FROM dataset_version", Long.class);
+        jdbcTemplate.update("INSERT INTO label_class (class_id, name, dataset_version_id) VALUES (7, 'cat', ?)", versionId);
+
+        Path image = root.resolve("a.png");
+        ImageIO.write(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB), "png", image.toFile());
+        jdbcTemplate.update("INSERT INTO asset (name, storage_uri, box_count, dataset_version_id) VALUES ('a.png', ?, 0, ?)",
+                image.toString(), versionId);
+        Long assetId = jdbcTemplate.queryForObject("SELECT MAX(asset_id) FROM asset", Long.class);
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO annotation (asset_id, class_id, x_center, y_center, width, height, revision) "
+                    + "VALUES (?, 7, 0.5, 0.5, 0.1, 0.1, 0)", assetId);
+        }
+
+        Optional<JobHandle> job = assetSummaryBackfillService.pending(datasetId, "v0", 1L);
+        assertTrue(job.isPresent());
+        job.get().getFuture().get(30, TimeUnit.SECONDS);
+        assertEquals(JobState.SUCCEEDED, job.get().getState(), job.get().getError());
+
+        assertEquals(2, count("SELECT box_count FROM asset WHERE asset_id = ?", assetId));
+        assertEquals(2, count("SELECT box_count FROM asset_class_stat WHERE asset_id = ? AND class_id = 7", assetId));
+        assertEquals(64, count("SELECT width FROM asset WHERE asset_id = ?", assetId));
+        assertEquals(48, count("SELECT height FROM asset WHERE asset_id = ?", assetId));
+
+        // 다 채운 버전은 다시 작업을 만들지 않음
+        assertTrue(assetSummaryBackfillService.pending(datasetId, "v0", 1L).isEmpty());
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
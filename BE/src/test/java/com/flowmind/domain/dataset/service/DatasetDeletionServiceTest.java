@@ -0,0 +1,147 @@
+package com.flowmind.domain.dataset.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.repository.DatasetRepository;
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+import com.flowmind.domain.dataset.shard.PackPaths;
+import com.flowmind.domain.job.service.JobHandle;
+import com.flowmind.domain.job.service.JobService;
+import com.flowmind.domain.job.service.JobState;
+
+// 삭제 작업 스레드가 데이터를 보도록 테스트 트랜잭션 없이 커밋된 상태로 실행
+@DataJpaTest(properties = {
+        "app.purge.batch-size=2",
+        "app.purge.file-threads=2"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DatasetDeletionService.class, DatasetLookupCache.class, ActiveLearningService.class, JobService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatasetDeletionServiceTest {
+
+    @TempDir
+    static Path root;
+
+    @DynamicPropertySource
+    static void rootPath(DynamicPropertyRegistry registry) {
+        registry.add("app.dataset.root-path", () -> root.toString());
+    }
+
+    @MockBean
+    private AnnotationCollabService annotationCollabService;
+
+    @Autowired
+    private DatasetDeletionService datasetDeletionService;
+
+    @Autowired
+    private DatasetRepository datasetRepository;
+
+    @Autowired
+    private DatasetVersionRepository datasetVersionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void tombstonesImmediatelyThenPurgesRowsAndFiles() throws Exception {
+        jdbcTemplate.update("INSERT INTO dataset (name, user_id) VALUES ('cats', 1)");
+        Long datasetId = jdbcTemplate.queryForObject("SELECT MAX(dataset_id) FROM dataset", Long.class);
+        Long v0 = version(datasetId, "v0");
+        Long v1 = version(datasetId, "v1");
+        List<Path> v0Files = List.of(asset(v0, "v0", "a.jpg"), asset(v0, "v0", "b.jpg"), asset(v0, "v0", "c.jpg"));
+        Path v1File = asset(v1, "v1", "d.jpg");
+        Path pack = Files.createDirectories(PackPaths.packDir(root.toString(), v0));
+        Files.writeString(pack.resolve("shard-00000.dat"), "pack");
+        Path staging = Files.createDirectories(PackPaths.stagingDir(root.toString(), v0));
+        Path v1Pack = Files.createDirectories(PackPaths.packDir(root.toString(), v1));
+
+        // 1. 버전 삭제: 요청 즉시 조회에서 빠지고, 작업이 끝나면 행/파일/팩이 사라짐 (다른 버전은 그대로)
+        JobHandle versionJob = datasetDeletionService.deleteVersion(datasetId, "v0", 1L);
+        assertTrue(datasetVersionRepository.findByDatasetIdAndVersionAndUser(datasetId, "v0", 1L).isEmpty());
+        await(versionJob);
+
+        DatasetDeletionService.PurgeResult result = (DatasetDeletionService.PurgeResult) versionJob.getResult();
+        assertEquals(1, result.versions());
+        assertEquals(3, result.assets());
+        assertEquals(3, result.files());
+        assertEquals(0, count("SELECT COUNT(*) FROM asset WHERE dataset_version_id = ?", v0));
+        assertEquals(0, count("SELECT COUNT(*) FROM label_class WHERE dataset_version_id = ?", v0));
+        assertEquals(0, count("SELECT COUNT(*) FROM dataset_version WHERE dataset_version_id = ?", v0));
+        assertEquals(1, count("SELECT COUNT(*) FROM annotation"));
+        v0Files.forEach(f -> assertFalse(Files.exists(f)));
+        assertFalse(Files.exists(pack));
+        assertFalse(Files.exists(staging));
+        assertTrue(Files.exists(v1Pack));
+        assertFalse(Files.exists(root.resolve("cats").resolve("v0")));
+        assertTrue(Files.exists(v1File));
+        assertTrue(datasetVersionRepository.findByDatasetIdAndVersionAndUser(datasetId, "v1", 1L).isPresent());
+
+        // 2. 버전 삭제와 데이터셋 삭제를 겹쳐 요청: 데이터셋 단위로 하나씩 돌아서 둘 다 성공
+        JobHandle v1Job = datasetDeletionService.deleteVersion(datasetId, "v1", 1L);
+        JobHandle datasetJob = datasetDeletionService.deleteDataset(datasetId, 1L);
+        assertTrue(datasetRepository.findByUserIdAndDeletedAtIsNull(1L).isEmpty());
+        await(v1Job);
+        await(datasetJob);
+
+        assertEquals(0, count("SELECT COUNT(*) FROM dataset"));
+        assertEquals(0, count("SELECT COUNT(*) FROM dataset_version"));
+        assertEquals(0, count("SELECT COUNT(*) FROM annotation"));
+        assertEquals(0, count("SELECT COUNT(*) FROM asset_class_stat"));
+        assertFalse(Files.exists(root.resolve("cats")));
+        assertFalse(Files.exists(v1Pack));
+    }
+
+    private static void await(JobHandle handle) throws Exception {
+        handle.getFuture().get(30, TimeUnit.SECONDS);
+        assertEquals(JobState.SUCCEEDED, handle.getState(), handle.getError());
+    }
+
+    private Long version(Long datasetId, String tag) {
+        jdbcTemplate.update("INSERT INTO dataset_version (version_tag, created_at, dataset_id) VALUES (?, NOW(), ?)",
+                tag, datasetId);
+        Long versionId = jdbcTemplate.queryForObject("SELECT MAX(dataset_version_id) FROM dataset_version", Long.class);
+        jdbcTemplate.update("INSERT INTO label_class (class_id, name, dataset_version_id) VALUES (?, 'cat', ?)",
+                versionId, versionId);
+        return versionId;
+    }
+
+    // 박스 1개짜리 Asset + 파일 + 검색 요약
+    private Path asset(Long versionId, String tag, String name) throws Exception {
+        Path file = Files.writeString(Files.createDirectories(root.resolve("cats").resolve(tag)).resolve(name), name);
+        jdbcTemplate.update("INSERT INTO asset (name, storage_uri, bytes, box_count, dataset_version_id) "
+                + "VALUES (?, ?, ?, 1, ?)", name, file.toString(), Files.size(file), versionId);
+        Long assetId = jdbcTemplate.queryForObject("SELECT MAX(asset_id) FROM asset", Long.class);
+        jdbcTemplate.update("INSERT INTO annotation (asset_id, class_id, x_center, y_center, width, height, revision) "
+                + "VALUES (?, ?, 0.5, 0.5, 0.1, 0.1, 0)", assetId, versionId);
+        jdbcTemplate.update("INSERT INTO asset_class_stat (asset_id, class_id, box_count) VALUES (?, ?, 1)",
+                assetId, versionId);
+        return file;
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
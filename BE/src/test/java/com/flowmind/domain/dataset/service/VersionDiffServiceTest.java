@@ -0,0 +1,98 @@
+package com.flowmind.domain.dataset.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.flowmind.domain.dataset.cache.DatasetLookupCache;
+import com.flowmind.domain.dataset.dto.VersionDiffSummary;
+import com.flowmind.domain.job.service.JobHandle;
+import com.flowmind.domain.job.service.JobService;
+import com.flowmind.domain.job.service.JobState;
+
+// 요약은 캐시에 없으면 작업으로 계산하고, 끝난 뒤에는 캐시에서 바로 나오며 박스가 바뀌면 버려지는지
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({VersionDiffService.class, DatasetLookupCache.class, JobService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VersionDiffServiceTest {
+
+    @TempDir
+    static Path root;
+
+    @DynamicPropertySource
+    static void rootPath(DynamicPropertyRegistry registry) {
+        registry.add("app.dataset.root-path", () -> root.toString());
+    }
+
+    @Autowired
+    private VersionDiffService versionDiffService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void computesSummaryAsJobThenServesItFromCache() throws Exception {
+        jdbcTemplate.update("INSERT INTO dataset (name, user_id) VALUES ('diff', 1)");
+        Long datasetId = jdbcTemplate.queryForObject("SELECT MAX(dataset_id) FROM dataset", Long.class);
+        Long v0 = version(datasetId, "v0");
+        Long v1 = version(datasetId, "v1");
+        Long kept = asset(v0, "a.png", "h1", 0.5);
+        asset(v0, "b.png", "h2", 0.5);
+        asset(v1, "a.png", "h1", 0.8);
+        asset(v1, "c.png", "h3", 0.5);
+
+        assertTrue(versionDiffService.cachedSummary(datasetId, "v0", "v1", 1L).isEmpty());
+        JobHandle job = versionDiffService.startSummary(datasetId, "v0", "v1", 1L);
+        job.getFuture().get(30, TimeUnit.SECONDS);
+        assertEquals(JobState.SUCCEEDED, job.getState(), job.getError());
+
+        VersionDiffSummary summary = (VersionDiffSummary) job.getResult();
+        assertEquals(1, summary.assetsAdded());
+        assertEquals(1, summary.assetsRemoved());
+        assertEquals(1, summary.assetsChanged());
+        assertSame(summary, versionDiffService.cachedSummary(datasetId, "v0", "v1", 1L).orElseThrow());
+
+        // 박스가 바뀐 버전이 들어간 요약은 버림 -> 다음 요청은 다시 작업
+        versionDiffService.annotationsChanged(List.of(kept));
+        assertTrue(versionDiffService.cachedSummary(datasetId, "v0", "v1", 1L).isEmpty());
+    }
+
+    private Long version(Long datasetId, String tag) {
+        jdbcTemplate.update("INSERT INTO dataset_version (version_tag, created_at, dataset_id) VALUES (?, NOW(), ?)",
+                tag, datasetId);
+        Long versionId = jdbcTemplate.queryForObject("SELECT MAX(dataset_version_id) FROM dataset_version", Long.class);
+        jdbcTemplate.update("INSERT INTO label_class (name, dataset_version_id) VALUES ('cat', ?)", versionId);
+        return versionId;
+    }
+
+    // 박스 1개짜리 Asset (해시가 같으면 같은 이미지로 비교됨)
+    private Long asset(Long versionId, String name, String hash, double xCenter) {
+        jdbcTemplate.update("INSERT INTO asset (name, content_hash, box_count, dataset_version_id) VALUES (?, ?, 1, ?)",
+                name, hash, versionId);
+        Long assetId = jdbcTemplate.queryForObject("SELECT MAX(asset_id) FROM asset", Long.class);
+        Long classId = jdbcTemplate.queryForObject(
+                "SELECT class_id FROM label_class WHERE dataset_version_id = ?", Long.class, versionId);
+        jdbcTemplate.update("INSERT INTO annotation (asset_id, class_id, x_center, y_center, width, height, revision) "
+                + "VALUES (?, ?, ?, 0.5, 0.1, 0.1, 0)", assetId, classId, xCenter);
+        return assetId;
+    }
+}
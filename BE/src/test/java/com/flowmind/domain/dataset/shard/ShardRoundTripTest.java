@@ -0,0 +1,88 @@
+package com.flowmind.domain.dataset.shard;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// 작은 샤드 한도로 써서 여러 샤드에 걸친 랜덤 액세스 / 셔플 / 크기 초과 거부 확인
+class ShardRoundTripTest {
+
+    private static final long SHARD_LIMIT = 64 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordsSurviveRoundTripAcrossShards() throws IOException {
+        Random random = new Random(5);
+        List<byte[]> images = new ArrayList<>();
+        Path pack = dir.resolve("1.pack");
+        try (ShardWriter writer = new ShardWriter(pack, SHARD_LIMIT)) {
+            for (int i = 0; i < 40; i++) {
+                byte[] image = new byte[2_000 + random.nextInt(8_000)];
+                random.nextBytes(image);
+                images.add(image);
+                Path file = Files.write(dir.resolve("img" + i + ".jpg"), image);
+                writer.append(10 + i * 2, "img" + i + ".jpg", file, i % 3 == 0 ? "" : "0 0.5 0.5 0.1 0.1\n");
+            }
+            assertTrue(writer.getShardCount() > 1, "shards: " + writer.getShardCount());
+        }
+
+        try (ShardReader reader = ShardReader.open(pack)) {
+            assertEquals(40, reader.size());
+            for (int i = 0; i < 40; i++) {
+                ShardRecord record = reader.get(i);
+                assertEquals(10 + i * 2, record.assetId());
+                assertEquals("img" + i + ".jpg", record.name());
+                assertEquals(i % 3 == 0 ? "" : "0 0.5 0.5 0.1 0.1\n", record.label());
+                byte[] bytes = new byte[record.image().remaining()];
+                record.image().get(bytes);
+                assertArrayEquals(images.get(i), bytes);
+            }
+            assertEquals("img7.jpg", reader.find(24).orElseThrow().name());
+            assertTrue(reader.find(25).isEmpty());
+
+            // 같은 seed 면 같은 순서, 모든 레코드를 한 번씩
+            List<Long> first = ids(reader.shuffled(3));
+            assertEquals(first, ids(reader.shuffled(3)));
+            assertEquals(40, new HashSet<>(first).size());
+        }
+    }
+
+    @Test
+    void rejectsRecordsLargerThanAShard() throws IOException {
+        Path big = Files.write(dir.resolve("big.jpg"), new byte[(int) SHARD_LIMIT]);
+        Path small = Files.write(dir.resolve("small.jpg"), new byte[100]);
+        Path pack = dir.resolve("2.pack");
+        try (ShardWriter writer = new ShardWriter(pack, SHARD_LIMIT)) {
+            assertThrows(ShardWriter.RecordTooLargeException.class, () -> writer.append(1, "big.jpg", big, ""));
+            writer.append(2, "small.jpg", small, "");
+        }
+        try (ShardReader reader = ShardReader.open(pack)) {
+            assertEquals(1, reader.size());
+            assertEquals(2, reader.assetIdAt(0));
+            assertTrue(Files.size(pack.resolve(ShardFormat.shardFileName(0))) <= SHARD_LIMIT);
+        }
+    }
+
+    private static List<Long> ids(Iterator<ShardRecord> it) {
+        List<Long> ids = new ArrayList<>();
+        while (it.hasNext()) {
+            ids.add(it.next().assetId());
+        }
+        return ids;
+    }
+}
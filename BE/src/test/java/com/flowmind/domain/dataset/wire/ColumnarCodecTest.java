@@ -0,0 +1,97 @@
+package com.flowmind.domain.dataset.wire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.flowmind.domain.dataset.dto.AnnotationDto;
+import com.flowmind.domain.dataset.dto.DatasetDetailResponse;
+import com.flowmind.domain.dataset.dto.ImageWithAnnotationsDto;
+
+// columnar 크기 비율과 왕복 정밀도 (시간 측정은 WireFormatBenchmarkTest)
+class ColumnarCodecTest {
+
+    private static final int IMAGES = 200;
+    private static final int BOXES_PER_IMAGE = 20;
+    private static final String[] LABELS = {"person", "car", "bicycle", "traffic light", "dog", "stop sign"};
+
+    @Test
+    void columnarIsAtLeastTenTimesSmallerThanJson() throws IOException {
+        DatasetDetailResponse response = sample(IMAGES);
+
+        byte[] json = new ObjectMapper().writeValueAsBytes(response);
+        byte[] smile = new SmileMapper().writeValueAsBytes(response);
+        byte[] cbor = new CBORMapper().writeValueAsBytes(response);
+        byte[] columnar = ColumnarCodec.encode(response);
+
+        assertTrue(columnar.length * 10L <= json.length,
+                "columnar " + columnar.length + "B vs json " + json.length + "B");
+        assertTrue(smile.length < json.length);
+        assertTrue(cbor.length < json.length);
+    }
+
+    @Test
+    void columnarRoundTripKeepsSubPixelPrecision() {
+        DatasetDetailResponse response = sample(IMAGES);
+        DatasetDetailResponse decoded = ColumnarCodec.decode(ColumnarCodec.encode(response));
+
+        assertEquals(response.id(), decoded.id());
+        assertEquals(response.name(), decoded.name());
+        assertNull(decoded.description());
+        assertEquals(response.images().size(), decoded.images().size());
+        for (int i = 0; i < response.images().size(); i++) {
+            ImageWithAnnotationsDto a = response.images().get(i);
+            ImageWithAnnotationsDto b = decoded.images().get(i);
+            assertEquals(a.id(), b.id());
+            assertEquals(a.filename(), b.filename());
+            assertEquals(a.imageUrl(), b.imageUrl());
+            assertEquals(a.annotations().size(), b.annotations().size());
+            for (int j = 0; j < a.annotations().size(); j++) {
+                AnnotationDto x = a.annotations().get(j);
+                AnnotationDto y = b.annotations().get(j);
+                assertEquals(x.id(), y.id());
+                assertEquals(x.label(), y.label());
+                assertEquals(x.revision(), y.revision());
+                // 4K 이미지 기준 0.1px 미만 오차
+                assertEquals(x.xCenter(), y.xCenter(), 1e-5);
+                assertEquals(x.yCenter(), y.yCenter(), 1e-5);
+                assertEquals(x.width(), y.width(), 1e-5);
+                assertEquals(x.height(), y.height(), 1e-5);
+                if (x.confidence() == null) {
+                    assertNull(y.confidence());
+                } else {
+                    assertEquals(x.confidence(), y.confidence(), 1e-4);
+                }
+            }
+        }
+    }
+
+    static DatasetDetailResponse sample(int imageCount) {
+        Random random = new Random(42);
+        List<ImageWithAnnotationsDto> images = new ArrayList<>(imageCount);
+        long annotationId = 1_000;
+        for (int i = 0; i < imageCount; i++) {
+            long assetId = 10_000 + i;
+            List<AnnotationDto> anns = new ArrayList<>(BOXES_PER_IMAGE);
+            for (int j = 0; j < BOXES_PER_IMAGE; j++) {
+                Double confidence = random.nextBoolean() ? null : random.nextDouble();
+                anns.add(new AnnotationDto(annotationId++, LABELS[random.nextInt(LABELS.length)],
+                        random.nextDouble(), random.nextDouble(), random.nextDouble() * 0.3, random.nextDouble() * 0.3,
+                        confidence, random.nextInt(4)));
+            }
+            images.add(new ImageWithAnnotationsDto(assetId, "frame_" + i + ".jpg",
+                    "/api/datasets/assets/" + assetId + "/image", anns));
+        }
+        return new DatasetDetailResponse(7L, "traffic", "v3", "2025-01-01T00:00", null, images);
+    }
+}
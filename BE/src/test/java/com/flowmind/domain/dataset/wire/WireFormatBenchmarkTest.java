@@ -0,0 +1,72 @@
+package com.flowmind.domain.dataset.wire;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.flowmind.domain.dataset.dto.DatasetDetailResponse;
+
+// JSON / Smile / CBOR / columnar 크기와 인코딩 시간 비교 (mvn -Ploadtest test 에서만)
+@Tag("loadtest")
+class WireFormatBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WireFormatBenchmarkTest.class);
+
+    private static final int IMAGES = 5_000;
+
+    @Test
+    void reportsSizeAndEncodeTime() throws IOException {
+        DatasetDetailResponse response = ColumnarCodecTest.sample(IMAGES);
+
+        byte[] json = new ObjectMapper().writeValueAsBytes(response);
+        byte[] smile = new SmileMapper().writeValueAsBytes(response);
+        byte[] cbor = new CBORMapper().writeValueAsBytes(response);
+        byte[] columnar = ColumnarCodec.encode(response);
+
+        report("json", json, () -> new ObjectMapper().writeValueAsBytes(response));
+        report("smile", smile, () -> new SmileMapper().writeValueAsBytes(response));
+        report("cbor", cbor, () -> new CBORMapper().writeValueAsBytes(response));
+        report("columnar", columnar, () -> ColumnarCodec.encode(response));
+
+        assertTrue(columnar.length * 10L <= json.length,
+                "columnar " + columnar.length + "B vs json " + json.length + "B");
+        assertTrue(smile.length < json.length);
+        assertTrue(cbor.length < json.length);
+    }
+
+    private interface Encoder {
+        byte[] encode() throws IOException;
+    }
+
+    private static void report(String name, byte[] bytes, Encoder encoder) throws IOException {
+        for (int i = 0; i < 3; i++) {
+            encoder.encode();
+        }
+        long start = System.nanoTime();
+        int rounds = 5;
+        for (int i = 0; i < rounds; i++) {
+            encoder.encode();
+        }
+        long avgMs = (System.nanoTime() - start) / rounds / 1_000_000;
+        log.info(String.format("[wire-bench] %-9s %,12d B  gzip %,12d B  encode %4d ms",
+                name, bytes.length, gzip(bytes), avgMs));
+    }
+
+    private static int gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        }
+        return out.size();
+    }
+}
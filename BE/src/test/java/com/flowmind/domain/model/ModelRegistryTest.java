@@ -0,0 +1,190 @@
+package com.flowmind.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowmind.domain.dataset.entity.Dataset;
+import com.flowmind.domain.dataset.entity.DatasetVersion;
+import com.flowmind.domain.dataset.repository.DatasetRepository;
+import com.flowmind.domain.dataset.repository.DatasetVersionRepository;
+import com.flowmind.domain.user.entity.User;
+import com.flowmind.domain.user.repository.UserRepository;
+import com.flowmind.security.JwtUtil;
+
+// 등록 -> 업로드 -> 파인튜닝 모델 업로드(청크 재사용) -> Range 다운로드 -> 계보/목록/평가
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ModelRegistryTest {
+
+    private static final int WEIGHTS_BYTES = 16 * 1024 * 1024;
+
+    @TempDir
+    static Path datasetRoot;
+
+    @DynamicPropertySource
+    static void datasetRoot(DynamicPropertyRegistry registry) {
+        registry.add("app.dataset.root-path", () -> datasetRoot.toString());
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired private ObjectMapper mapper;
+    @Autowired private JwtUtil jwtUtil;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private DatasetRepository datasetRepository;
+    @Autowired private DatasetVersionRepository datasetVersionRepository;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private String token;
+
+    @Test
+    void storesLineageDeduplicatesChunksAndServesRanges() throws Exception {
+        User user = userRepository.save(User.builder()
+                .email("trainer@flowmind.test").name("trainer").phone("010-0000-0000").password("x").build());
+        token = jwtUtil.createToken(user.getUserId(), user.getEmail());
+        Dataset dataset = datasetRepository.save(Dataset.builder().name("cars").userId(user.getUserId()).build());
+        datasetVersionRepository.save(DatasetVersion.builder().versionTag("v0").dataset(dataset).build());
+
+        // 처음 학습한 모델
+        long rootId = post("/api/models", Map.of("datasetId", dataset.getDatasetId(), "datasetVersion", "v0",
+                "version", "1.0", "modelType", "yolov8n", "hyperparam", Map.of("epochs", 50, "lr0", 0.01)))
+                .get("modelId").asLong();
+        byte[] base = new byte[WEIGHTS_BYTES];
+        new Random(1).nextBytes(base);
+        JsonNode first = putWeights(rootId, "best.pt", base);
+        assertTrue(first.get("chunks").asInt() > 4);
+        assertEquals(first.get("chunks").asInt(), first.get("newChunks").asInt());
+
+        // 파인튜닝: 앞쪽 헤더 길이가 바뀌고 중간 레이어 하나만 달라진 가중치
+        long childId = post("/api/models", Map.of("datasetId", dataset.getDatasetId(), "datasetVersion", "v0",
+                "parentModelId", rootId, "version", "1.1", "modelType", "yolov8n"))
+                .get("modelId").asLong();
+        byte[] tuned = new byte[WEIGHTS_BYTES + 333];
+        System.arraycopy(base, 0, tuned, 0, 100);
+        new Random(2).nextBytes(Arrays.copyOfRange(tuned, 100, 433));
+        System.arraycopy(base, 100, tuned, 433, WEIGHTS_BYTES - 100);
+        byte[] layer = new byte[64 * 1024];
+        new Random(3).nextBytes(layer);
+        System.arraycopy(layer, 0, tuned, 8 * 1024 * 1024, layer.length);
+        JsonNode second = putWeights(childId, "best.pt", tuned);
+        assertTrue(second.get("newBytes").asLong() * 3 < tuned.length,
+                "새로 쓴 양 " + second.get("newBytes").asLong() + " / " + tuned.length);
+
+        // 디스크에는 서로 다른 청크만
+        try (Stream<Path> files = Files.walk(datasetRoot.resolve(".models/chunks"))) {
+            long stored = files.filter(Files::isRegularFile).count();
+            assertEquals(first.get("newChunks").asInt() + second.get("newChunks").asInt(), stored);
+        }
+
+        // Range: 청크 경계를 넘는 구간, 끝에서 N 바이트, 범위 밖
+        HttpResponse<byte[]> part = download(childId, "bytes=1000000-3000999");
+        assertEquals(206, part.statusCode());
+        assertEquals("bytes 1000000-3000999/" + tuned.length, part.headers().firstValue("Content-Range").orElseThrow());
+        assertArrayEquals(Arrays.copyOfRange(tuned, 1_000_000, 3_001_000), part.body());
+
+        HttpResponse<byte[]> tail = download(childId, "bytes=-100");
+        assertArrayEquals(Arrays.copyOfRange(tuned, tuned.length - 100, tuned.length), tail.body());
+        assertEquals(416, download(childId, "bytes=" + tuned.length + "-").statusCode());
+
+        HttpResponse<byte[]> full = download(childId, null);
+        assertEquals(200, full.statusCode());
+        assertEquals(second.get("sha256").asText(), HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(full.body())));
+        assertEquals("\"" + second.get("sha256").asText() + "\"", full.headers().firstValue("ETag").orElseThrow());
+
+        // 계보 / 목록 / 상세
+        JsonNode lineage = get("/api/models/" + childId + "/lineage");
+        assertEquals(List.of(childId, rootId), List.of(lineage.get(0).get("modelId").asLong(),
+                lineage.get(1).get("modelId").asLong()));
+        JsonNode listed = get("/api/models?datasetId=" + dataset.getDatasetId());
+        assertEquals(2, listed.size());
+        assertEquals(tuned.length, listed.get(0).get("artifactBytes").asLong());
+        assertEquals(50, get("/api/models/" + rootId).get("hyperparam").get("epochs").asInt());
+
+        // 평가 목록은 mAP50-95 높은 순
+        put("/api/models/" + rootId + "/evaluation", Map.of("map50", 0.6, "map5095", 0.41, "f1Score", 0.7));
+        put("/api/models/" + childId + "/evaluation", Map.of("map50", 0.7, "map5095", 0.47, "f1Score", 0.74));
+        JsonNode evaluations = get("/api/models/evaluations");
+        assertEquals(childId, evaluations.get(0).get("modelId").asLong());
+        assertEquals(0.47, evaluations.get(0).get("map5095").asDouble(), 1e-6);
+
+        // 모델이 학습한 버전은 지워지지 않음
+        HttpResponse<byte[]> delete = client.send(authorized("/api/datasets/" + dataset.getDatasetId())
+                .DELETE().build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertTrue(delete.statusCode() >= 400);
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dataset WHERE deleted_at IS NOT NULL", Integer.class));
+    }
+
+    private JsonNode putWeights(long modelId, String filename, byte[] body) throws Exception {
+        HttpResponse<byte[]> response = client.send(authorized("/api/models/" + modelId + "/weights?filename=" + filename)
+                .header("Content-Type", "application/octet-stream")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(body)).build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode(), new String(response.body()));
+        return mapper.readTree(response.body());
+    }
+
+    private HttpResponse<byte[]> download(long modelId, String range) throws Exception {
+        HttpRequest.Builder builder = authorized("/api/models/" + modelId + "/weights");
+        if (range != null) {
+            builder.header("Range", range);
+        }
+        return client.send(builder.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private JsonNode get(String path) throws Exception {
+        HttpResponse<byte[]> response = client.send(authorized(path).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode(), new String(response.body()));
+        return mapper.readTree(response.body());
+    }
+
+    private JsonNode post(String path, Object body) throws Exception {
+        HttpResponse<byte[]> response = client.send(json(authorized(path), body, "POST"), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode(), new String(response.body()));
+        return mapper.readTree(response.body());
+    }
+
+    private void put(String path, Object body) throws Exception {
+        HttpResponse<byte[]> response = client.send(json(authorized(path), body, "PUT"), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(204, response.statusCode(), new String(response.body()));
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, Object body, String method) throws Exception {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body))).build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token);
+    }
+}
@@ -0,0 +1,135 @@
+package com.flowmind.domain.storage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.flowmind.domain.job.service.JobService;
+import com.flowmind.domain.dataset.shard.PackPaths;
+import com.flowmind.domain.storage.dto.ScrubFinding;
+import com.flowmind.domain.storage.dto.ScrubIssue;
+import com.flowmind.domain.storage.dto.ScrubReport;
+import com.flowmind.util.ContentHash;
+
+// 점검 스레드들이 데이터를 보도록 테스트 트랜잭션 없이 커밋된 상태로 실행
+@DataJpaTest(properties = {
+        "app.scrub.enabled=true",
+        "app.scrub.auto-repair=true",
+        "app.scrub.batch-size=2",
+        "app.scrub.orphan-grace-minutes=10"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({StorageScrubService.class, JobService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StorageScrubServiceTest {
+
+    @TempDir
+    static Path root;
+
+    @DynamicPropertySource
+    static void rootPath(DynamicPropertyRegistry registry) {
+        registry.add("app.dataset.root-path", () -> root.toString());
+    }
+
+    @Autowired
+    private StorageScrubService storageScrubService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reportsAndRepairsMismatches() throws Exception {
+        Path dir = Files.createDirectories(root.resolve("cats").resolve("v0"));
+        Path ok = write(dir.resolve("ok.jpg"), "ok");
+        Path corrupt = write(dir.resolve("corrupt.jpg"), "changed");
+        Path noHash = write(dir.resolve("nohash.jpg"), "legacy");
+        Path orphan = write(dir.resolve("orphan.jpg"), "orphan");
+        Path fresh = write(dir.resolve("fresh.jpg"), "uploading");
+        Path shard = write(Files.createDirectories(PackPaths.packDir(root.toString(), 1L)).resolve("shard-00000.dat"), "pack");
+        Path staging = write(Files.createDirectories(PackPaths.stagingDir(root.toString(), 2L)).resolve("shard-00000.dat"), "tmp");
+        for (Path p : new Path[]{ok, corrupt, noHash, orphan, shard, staging}) {
+            Files.setLastModifiedTime(p, FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+        }
+
+        jdbcTemplate.update("INSERT INTO dataset (name, user_id) VALUES ('cats', 1)");
+        jdbcTemplate.update("INSERT INTO dataset_version (version_tag, created_at, dataset_id) "
+                + "VALUES ('v0', NOW(), (SELECT MAX(dataset_id) FROM dataset))");
+        insert("ok.jpg", ok, ContentHash.of(ok), Files.size(ok));
+        insert("corrupt.jpg", corrupt, ContentHash.of(ok), Files.size(corrupt));
+        insert("nohash.jpg", noHash, null, null);
+        insert("gone.jpg", dir.resolve("gone.jpg"), ContentHash.of(ok), 2L);
+
+        // 예약 점검은 전용 스레드에서 돌고 바로 반환됨
+        storageScrubService.scheduledScrub();
+        ScrubReport report = awaitReport();
+
+        assertTrue(report.completed());
+        assertEquals(4, report.assetsChecked());
+        Map<ScrubIssue, Long> counts = report.issueCounts();
+        assertEquals(1L, counts.get(ScrubIssue.CHECKSUM_MISMATCH));
+        assertEquals(1L, counts.get(ScrubIssue.MISSING_FILE));
+        assertEquals(1L, counts.get(ScrubIssue.MISSING_CHECKSUM));
+        assertEquals(1L, counts.get(ScrubIssue.ORPHAN_FILE));
+        assertFalse(counts.containsKey(ScrubIssue.SIZE_MISMATCH));
+
+        Map<ScrubIssue, ScrubFinding> byIssue = report.findings().stream()
+                .collect(Collectors.toMap(ScrubFinding::issue, f -> f));
+        assertEquals(orphan.toString(), byIssue.get(ScrubIssue.ORPHAN_FILE).path());
+        assertTrue(byIssue.get(ScrubIssue.ORPHAN_FILE).repaired());
+        assertTrue(byIssue.get(ScrubIssue.MISSING_CHECKSUM).repaired());
+
+        // 고아 파일은 격리 폴더로 이동, 최근 파일과 팩(만드는 중인 것 포함)은 그대로
+        assertFalse(Files.exists(orphan));
+        assertTrue(Files.exists(fresh));
+        assertTrue(Files.exists(shard));
+        assertTrue(Files.exists(staging));
+        try (var files = Files.walk(root.resolve(".quarantine"))) {
+            assertTrue(files.anyMatch(p -> p.endsWith(Path.of("cats", "v0", "orphan.jpg"))));
+        }
+        String backfilled = jdbcTemplate.queryForObject(
+                "SELECT content_hash FROM asset WHERE name = 'nohash.jpg'", String.class);
+        assertNotNull(backfilled);
+        assertEquals(ContentHash.of(noHash), backfilled);
+    }
+
+    private ScrubReport awaitReport() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (storageScrubService.getLastReport().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        return storageScrubService.getLastReport().orElseThrow();
+    }
+
+    private void insert(String name, Path path, String hash, Long bytes) {
+        jdbcTemplate.update("INSERT INTO asset (name, storage_uri, content_hash, bytes, box_count, dataset_version_id) "
+                + "VALUES (?, ?, ?, ?, 0, (SELECT MAX(dataset_version_id) FROM dataset_version))",
+                name, path.toString(), hash, bytes);
+    }
+
+    private static Path write(Path path, String content) throws Exception {
+        return Files.writeString(path, content);
+    }
+}
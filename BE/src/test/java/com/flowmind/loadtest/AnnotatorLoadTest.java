@@ -0,0 +1,213 @@
+package com.flowmind.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 어노테이터 세션 재생 부하 테스트. 임베디드 H2 + 랜덤 포트로 앱 전체를 띄우고 가상 사용자들이 동시에 세션을 돈다.
+ *
+ * <pre>
+ * mvn -Ploadtest test                                 # 기본 부하 (8명 x 5세션)
+ * mvn -Ploadtest test -Dloadtest.users=32 -Dloadtest.think-ms=200
+ * </pre>
+ *
+ * 엔드포인트별 p50/p99/처리량을 target/loadtest/report.txt 에 남긴다.
+ * p99 기준값은 머신마다 다르므로 저장소에 고정값을 두지 않고, 실행 환경별로 기록해 둔 값과 비교한다.
+ * <ul>
+ *   <li>기준 파일: {loadtest.baseline-dir, 기본 .loadtest}/baseline-{loadtest.env, 기본 호스트명}-{부하 프로필}.properties</li>
+ *   <li>기준 파일이 없으면 이번 측정값을 기준으로 기록하고 통과 (-Dloadtest.record=true 면 항상 다시 기록)</li>
+ *   <li>p99 가 기준값 x (1 + loadtest.tolerance, 기본 0.5) 를 넘거나 에러가 있으면 실패</li>
+ * </ul>
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AnnotatorLoadTest {
+
+    @TempDir
+    static Path datasetRoot;
+
+    @DynamicPropertySource
+    static void datasetRoot(DynamicPropertyRegistry registry) {
+        registry.add("app.dataset.root-path", () -> datasetRoot.toString());
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    void replayAnnotatorSessions() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        LatencyRecorder recorder = new LatencyRecorder();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String baseUrl = "http://localhost:" + port;
+
+        List<AnnotatorSession> annotators = new ArrayList<>();
+        for (int i = 0; i < profile.users(); i++) {
+            annotators.add(new AnnotatorSession(client, baseUrl, recorder, mapper, profile, i));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(profile.users());
+        try {
+            // 1. 계정/시드 데이터 + 워밍업 1세션 (기록 안 함)
+            recorder.setRecording(false);
+            runAll(pool, annotators, a -> {
+                a.setUp();
+                a.run();
+            });
+
+            // 2. 측정 구간: 모든 가상 사용자가 동시에 출발
+            recorder.setRecording(true);
+            CountDownLatch start = new CountDownLatch(1);
+            long[] wall = new long[2];
+            List<Future<?>> futures = new ArrayList<>();
+            for (AnnotatorSession a : annotators) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int s = 0; s < profile.sessions(); s++) {
+                        a.run();
+                    }
+                    return null;
+                }));
+            }
+            wall[0] = System.nanoTime();
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+            wall[1] = System.nanoTime();
+
+            double seconds = (wall[1] - wall[0]) / 1e9;
+            Map<String, LatencyRecorder.Stats> stats = recorder.summarize(seconds);
+            String report = format(profile, seconds, stats);
+            System.out.println(report);
+
+            Path out = Paths.get("target", "loadtest");
+            Files.createDirectories(out);
+            Files.writeString(out.resolve("report.txt"), report);
+
+            Path baseline = baselineFile(profile);
+            if (Boolean.getBoolean("loadtest.record") || !Files.exists(baseline)) {
+                writeBaseline(baseline, stats);
+                System.out.println("[loadtest] 기준값 기록: " + baseline.toAbsolutePath());
+            }
+            assertNoRegression(baseline, stats);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private interface SessionStep {
+        void run(AnnotatorSession session) throws Exception;
+    }
+
+    private static void runAll(ExecutorService pool, List<AnnotatorSession> annotators, SessionStep step) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (AnnotatorSession a : annotators) {
+            futures.add(pool.submit(() -> {
+                step.run(a);
+                return null;
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+    }
+
+    private static String format(LoadProfile profile, double seconds, Map<String, LatencyRecorder.Stats> stats) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n[loadtest] %d users x %d sessions, think %dms, %.1fs%n",
+                profile.users(), profile.sessions(), profile.thinkMs(), seconds));
+        sb.append(String.format("%-44s %7s %6s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "p50(ms)", "p99(ms)", "max(ms)", "req/s"));
+        long total = 0;
+        for (Map.Entry<String, LatencyRecorder.Stats> e : stats.entrySet()) {
+            LatencyRecorder.Stats s = e.getValue();
+            total += s.count();
+            sb.append(String.format("%-44s %7d %6d %9.1f %9.1f %9.1f %9.1f%n",
+                    e.getKey(), s.count(), s.errors(), s.p50Ms(), s.p99Ms(), s.maxMs(), s.perSecond()));
+        }
+        sb.append(String.format("%-44s %7d %6s %9s %9s %9s %9.1f%n", "total", total, "", "", "", "", total / seconds));
+        return sb.toString();
+    }
+
+    // 환경 + 부하 프로필마다 따로 (같은 머신이라도 사용자 수가 다르면 p99 도 다름)
+    private static Path baselineFile(LoadProfile profile) throws Exception {
+        String env = System.getProperty("loadtest.env");
+        if (env == null || env.isBlank()) {
+            env = InetAddress.getLocalHost().getHostName() + "-" + Runtime.getRuntime().availableProcessors() + "cpu";
+        }
+        String name = String.format("baseline-%s-%dx%d-think%d.properties",
+                env.replaceAll("[^A-Za-z0-9._-]+", "_"), profile.users(), profile.sessions(), profile.thinkMs());
+        return Paths.get(System.getProperty("loadtest.baseline-dir", ".loadtest")).resolve(name);
+    }
+
+    private static void writeBaseline(Path file, Map<String, LatencyRecorder.Stats> stats) throws Exception {
+        Properties props = new Properties();
+        stats.forEach((endpoint, s) -> props.setProperty(key(endpoint), String.valueOf(Math.ceil(s.p99Ms()))));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            props.store(writer, "measured p99 (ms) - rerun with -Dloadtest.record=true to accept new values");
+        }
+    }
+
+    private static void assertNoRegression(Path file, Map<String, LatencyRecorder.Stats> stats) throws Exception {
+        Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            baseline.load(reader);
+        }
+        double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.5"));
+
+        List<String> failures = new ArrayList<>();
+        stats.forEach((endpoint, s) -> {
+            if (s.errors() > 0) {
+                failures.add(endpoint + ": " + s.errors() + " errors");
+            }
+            String limit = baseline.getProperty(key(endpoint));
+            if (limit != null && s.p99Ms() > Double.parseDouble(limit) * (1 + tolerance)) {
+                failures.add(String.format("%s: p99 %.1fms > baseline %sms (+%.0f%%)",
+                        endpoint, s.p99Ms(), limit, tolerance * 100));
+            }
+        });
+        assertTrue(failures.isEmpty(), "load test regression against " + file + ":\n" + String.join("\n", failures));
+    }
+
+    // "GET /api/datasets/all" -> "GET.api.datasets.all.p99-ms"
+    private static String key(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", ".").replaceAll("^\\.|\\.$", "") + ".p99-ms";
+    }
+}
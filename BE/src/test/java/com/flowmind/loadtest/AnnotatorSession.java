@@ -0,0 +1,196 @@
+package com.flowmind.loadtest;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import javax.imageio.ImageIO;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 가상 어노테이터 한 명. 실제 프론트 흐름을 그대로 따라간다:
+ * 로그인 -> 데이터셋 목록 -> 상세 -> 이미지 여러 장 -> 박스 저장 -> 새 데이터셋 업로드
+ */
+class AnnotatorSession {
+
+    private static final String[] LABELS = {"person", "car", "bicycle", "dog", "cat"};
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper mapper;
+    private final LoadProfile profile;
+    private final SplittableRandom random;
+    private final String email;
+    private final String password = "loadtest1234";
+    private final List<byte[]> images = new ArrayList<>();
+
+    private String token;
+    private int uploads;
+
+    AnnotatorSession(HttpClient client, String baseUrl, LatencyRecorder recorder, ObjectMapper mapper,
+                     LoadProfile profile, int index) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.mapper = mapper;
+        this.profile = profile;
+        this.random = new SplittableRandom(profile.seed() + index);
+        this.email = "annotator" + index + "-" + UUID.randomUUID().toString().substring(0, 8) + "@loadtest.dev";
+        for (int i = 0; i < profile.uploadImages(); i++) {
+            images.add(jpeg(random));
+        }
+    }
+
+    // 계정 생성 + 첫 데이터셋 업로드 (측정 안 함)
+    void setUp() throws Exception {
+        Map<String, String> signup = Map.of(
+                "email", email,
+                "name", "annotator",
+                "phone", "010" + String.format("%08d", random.nextInt(100_000_000)),
+                "password", password,
+                "passwordCheck", password);
+        expectOk(send("signup", json(HttpRequest.newBuilder(uri("/api/auth/signup")), signup).build()));
+        login();
+        List<byte[]> seed = new ArrayList<>();
+        for (int i = 0; i < profile.seedImages(); i++) {
+            seed.add(images.get(i % images.size()));
+        }
+        expectOk(send("seed", upload(seed)));
+    }
+
+    void run() throws Exception {
+        login();
+
+        HttpResponse<byte[]> all = send("GET /api/datasets/all", authorized("/api/datasets/all").GET().build());
+        JsonNode datasets = mapper.readTree(expectOk(all).body());
+        // 가장 많은 이미지가 있는 데이터셋(첫 시드)을 연다
+        JsonNode dataset = datasets.get(0);
+        long datasetId = dataset.get("id").asLong();
+
+        HttpResponse<byte[]> detail = send("GET /api/datasets/detail",
+                authorized("/api/datasets/detail?datasetId=" + datasetId + "&version=v0").GET().build());
+        JsonNode imageNodes = mapper.readTree(expectOk(detail).body()).get("images");
+
+        for (int i = 0; i < profile.imagesPerSession() && !imageNodes.isEmpty(); i++) {
+            JsonNode image = imageNodes.get(random.nextInt(imageNodes.size()));
+            send("GET /api/datasets/assets/{id}/image", authorized(image.get("imageUrl").asText()).GET().build());
+            think();
+        }
+
+        for (int i = 0; i < profile.savesPerSession() && !imageNodes.isEmpty(); i++) {
+            long assetId = imageNodes.get(random.nextInt(imageNodes.size())).get("id").asLong();
+            List<Map<String, Object>> boxes = new ArrayList<>();
+            for (int b = 0, n = 1 + random.nextInt(8); b < n; b++) {
+                boxes.add(Map.of(
+                        "label", LABELS[random.nextInt(LABELS.length)],
+                        "xCenter", 0.1 + random.nextDouble() * 0.8,
+                        "yCenter", 0.1 + random.nextDouble() * 0.8,
+                        "width", 0.05 + random.nextDouble() * 0.2,
+                        "height", 0.05 + random.nextDouble() * 0.2));
+            }
+            send("PUT /api/datasets/assets/{id}/annotations",
+                    json(authorized("/api/datasets/assets/" + assetId + "/annotations"), Map.of("annotations", boxes), "PUT").build());
+            think();
+        }
+
+        send("POST /api/datasets/new", upload(images));
+    }
+
+    private void login() throws Exception {
+        HttpResponse<byte[]> response = send("POST /api/auth/login",
+                json(HttpRequest.newBuilder(uri("/api/auth/login")), Map.of("email", email, "password", password)).build());
+        token = mapper.readTree(expectOk(response).body()).get("token").asText();
+    }
+
+    private HttpRequest upload(List<byte[]> files) {
+        String boundary = "----flowmind" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        String name = email.substring(0, email.indexOf('@')) + "-" + (uploads++);
+        writePart(body, boundary, "Content-Disposition: form-data; name=\"name\"\r\n\r\n" + name + "\r\n");
+        for (int i = 0; i < files.size(); i++) {
+            writePart(body, boundary, "Content-Disposition: form-data; name=\"images\"; filename=\"img_" + i + ".jpg\"\r\n"
+                    + "Content-Type: image/jpeg\r\n\r\n");
+            body.writeBytes(files.get(i));
+            body.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+        body.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return authorized("/api/datasets/new")
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String boundary, String header) {
+        body.writeBytes(("--" + boundary + "\r\n" + header).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        recorder.record(endpoint, System.nanoTime() - start, response.statusCode() / 100 == 2);
+        return response;
+    }
+
+    private static HttpResponse<byte[]> expectOk(HttpResponse<byte[]> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(response.request().uri() + " -> " + response.statusCode() + " "
+                    + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder builder, Object body) throws IOException {
+        return json(builder, body, "POST");
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder builder, Object body, String method) throws IOException {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private void think() throws InterruptedException {
+        if (profile.thinkMs() > 0) {
+            Thread.sleep(random.nextLong(profile.thinkMs() + 1));
+        }
+    }
+
+    private static byte[] jpeg(SplittableRandom random) {
+        BufferedImage image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        for (int i = 0; i < 12; i++) {
+            g.setColor(new Color(random.nextInt(0xFFFFFF)));
+            g.fillRect(random.nextInt(600), random.nextInt(440), 20 + random.nextInt(200), 20 + random.nextInt(200));
+        }
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "jpeg", out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+}
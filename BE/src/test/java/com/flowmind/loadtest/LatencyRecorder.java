@@ -0,0 +1,78 @@
+package com.flowmind.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 응답 시간 기록 (나노초 샘플을 그대로 모아서 끝에 정렬)
+class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+    private volatile boolean recording = true;
+
+    void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    void record(String endpoint, long nanos, boolean ok) {
+        if (!recording) {
+            return;
+        }
+        Samples s = samples.computeIfAbsent(endpoint, k -> new Samples());
+        s.add(nanos);
+        if (!ok) {
+            s.errors.increment();
+        }
+    }
+
+    Map<String, Stats> summarize(double wallSeconds) {
+        Map<String, Stats> result = new TreeMap<>();
+        samples.forEach((endpoint, s) -> result.put(endpoint, s.stats(wallSeconds)));
+        return result;
+    }
+
+    record Stats(int count, long errors, double p50Ms, double p99Ms, double maxMs, double perSecond) {}
+
+    private static final class Samples {
+        private final List<long[]> chunks = new ArrayList<>();
+        private long[] current = new long[1024];
+        private int size;
+        final LongAdder errors = new LongAdder();
+
+        synchronized void add(long nanos) {
+            if (size == current.length) {
+                chunks.add(current);
+                current = new long[current.length];
+                size = 0;
+            }
+            current[size++] = nanos;
+        }
+
+        synchronized Stats stats(double wallSeconds) {
+            int total = chunks.size() * current.length + size;
+            long[] all = new long[total];
+            int pos = 0;
+            for (long[] chunk : chunks) {
+                System.arraycopy(chunk, 0, all, pos, chunk.length);
+                pos += chunk.length;
+            }
+            System.arraycopy(current, 0, all, pos, size);
+            Arrays.sort(all);
+            return new Stats(total, errors.sum(), percentile(all, 0.50), percentile(all, 0.99),
+                    total == 0 ? 0 : all[total - 1] / 1e6, wallSeconds == 0 ? 0 : total / wallSeconds);
+        }
+
+        // nearest-rank
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
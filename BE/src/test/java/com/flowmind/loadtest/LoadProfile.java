@@ -0,0 +1,25 @@
+package com.flowmind.loadtest;
+
+// 시스템 프로퍼티로 조절: mvn -Ploadtest test -Dloadtest.users=32
+record LoadProfile(
+        int users,             // 동시 가상 사용자
+        int sessions,          // 사용자당 측정 세션 수 (워밍업 1회 별도)
+        int imagesPerSession,
+        int savesPerSession,
+        int seedImages,        // 사용자별 첫 데이터셋 크기
+        int uploadImages,      // 세션 끝에 올리는 데이터셋 크기
+        long thinkMs,          // 요청 사이 대기 (0 이면 최대 부하)
+        long seed
+) {
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("loadtest.users", 8),
+                Integer.getInteger("loadtest.sessions", 5),
+                Integer.getInteger("loadtest.images", 36),
+                Integer.getInteger("loadtest.saves", 6),
+                Integer.getInteger("loadtest.seed-images", 40),
+                Integer.getInteger("loadtest.upload-images", 4),
+                Long.getLong("loadtest.think-ms", 0L),
+                Long.getLong("loadtest.seed", 42L));
+    }
+}
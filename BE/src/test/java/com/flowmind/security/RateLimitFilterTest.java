@@ -0,0 +1,94 @@
+package com.flowmind.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// 요청 분류와 토큰 버킷 / 동시 실행 제한 초과 시 429 + Retry-After
+class RateLimitFilterTest {
+
+    @Test
+    void classifiesEndpoints() {
+        assertEquals(EndpointClass.AUTH, classify("POST", "/api/auth/login"));
+        assertEquals(EndpointClass.UPLOAD, classify("POST", "/api/datasets/new"));
+        assertEquals(EndpointClass.UPLOAD, classify("PUT", "/api/models/7/weights"));
+        assertEquals(EndpointClass.DEFAULT, classify("GET", "/api/models/7/weights"));
+        assertEquals(EndpointClass.HEAVY, classify("POST", "/api/datasets/pack"));
+        assertEquals(EndpointClass.HEAVY, classify("POST", "/api/datasets/augment"));
+        assertEquals(EndpointClass.HEAVY, classify("POST", "/api/datasets/pre-annotate"));
+        assertEquals(EndpointClass.HEAVY, classify("POST", "/api/storage/scrub"));
+        assertEquals(EndpointClass.HEAVY, classify("GET", "/api/datasets/export"));
+        assertEquals(EndpointClass.HEAVY, classify("DELETE", "/api/datasets/3"));
+        assertEquals(EndpointClass.HEAVY, classify("DELETE", "/api/datasets/3/versions/v1"));
+        assertEquals(EndpointClass.IMAGE, classify("GET", "/api/datasets/assets/12/image"));
+        assertEquals(EndpointClass.DEFAULT, classify("GET", "/api/datasets/3"));
+    }
+
+    @Test
+    void rejectsWithRetryAfterWhenBucketIsEmpty() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(true, 0);
+        for (int i = 0; i < EndpointClass.AUTH.burst; i++) {
+            assertEquals(200, call(filter, request("POST", "/api/auth/login", "10.0.0.1")).getStatus());
+        }
+
+        MockHttpServletResponse rejected = call(filter, request("POST", "/api/auth/login", "10.0.0.1"));
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+        assertTrue(Integer.parseInt(rejected.getHeader("Retry-After")) >= 1);
+
+        // 다른 클라이언트와 다른 종류의 요청은 영향 없음
+        assertEquals(200, call(filter, request("POST", "/api/auth/login", "10.0.0.2")).getStatus());
+        assertEquals(200, call(filter, request("GET", "/api/datasets", "10.0.0.1")).getStatus());
+    }
+
+    @Test
+    void rejectsSecondConcurrentHeavyRequestOfSameUser() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(true, 0);
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+        // 첫 요청이 처리되는 도중에 같은 사용자가 두 번째 요청을 보냄
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(user(request("DELETE", "/api/datasets/2", "10.0.0.1"), 5L), first,
+                (req, res) -> {
+                    try {
+                        nested.set(call(filter, user(request("DELETE", "/api/datasets/1", "10.0.0.1"), 5L)));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, nested.get().getStatus());
+        assertEquals("1", nested.get().getHeader("Retry-After"));
+        // 끝난 뒤에는 자리가 반납됨
+        assertEquals(200, call(filter, user(request("DELETE", "/api/datasets/1", "10.0.0.1"), 5L)).getStatus());
+    }
+
+    private static EndpointClass classify(String method, String uri) {
+        return EndpointClass.of(new MockHttpServletRequest(method, uri));
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private static MockHttpServletRequest user(MockHttpServletRequest request, Long userId) {
+        request.setAttribute(JwtAuthFilter.USER_ID_ATTRIBUTE, userId);
+        return request;
+    }
+
+    private static MockHttpServletResponse call(RateLimitFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}